@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.equinox.internal.p2.metadata.IRequiredCapability;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+
+/**
+ * An immutable index of the provided capabilities of a set of units, keyed by namespace and name
+ * with providers sorted by capability version. It allows to find the units satisfying a requirement
+ * without checking every unit, and can be shared between threads.
+ */
+public final class CapabilityIndex {
+
+	private static final Comparator<Provider> BY_VERSION = Comparator.comparing(Provider::version);
+
+	private final Collection<IInstallableUnit> units;
+	private final Map<String, Map<String, List<Provider>>> providers = new HashMap<>();
+
+	private CapabilityIndex(Collection<IInstallableUnit> units) {
+		this.units = units;
+		for (IInstallableUnit unit : units) {
+			for (IProvidedCapability capability : unit.getProvidedCapabilities()) {
+				providers.computeIfAbsent(capability.getNamespace(), ns -> new HashMap<>())
+						.computeIfAbsent(capability.getName(), name -> new ArrayList<>())
+						.add(new Provider(capability.getVersion(), unit));
+			}
+		}
+		for (Map<String, List<Provider>> byName : providers.values()) {
+			for (List<Provider> list : byName.values()) {
+				list.sort(BY_VERSION);
+			}
+		}
+	}
+
+	/**
+	 * Creates an index of all units of the given queryable
+	 */
+	public static CapabilityIndex of(IQueryable<IInstallableUnit> availableIUs) {
+		return of(availableIUs.query(QueryUtil.ALL_UNITS, new NullProgressMonitor()).toSet());
+	}
+
+	/**
+	 * Creates an index of the given units
+	 */
+	public static CapabilityIndex of(Collection<IInstallableUnit> units) {
+		return new CapabilityIndex(List.copyOf(units));
+	}
+
+	/**
+	 * Finds all units that satisfy the given requirement, as with
+	 * {@link IInstallableUnit#satisfies(IRequirement)} no cardinality or filters are taken into
+	 * account.
+	 *
+	 * @param requirement the requirement to match
+	 * @return the (possibly empty) collection of units satisfying the requirement
+	 */
+	public Collection<IInstallableUnit> getSatisfyingUnits(IRequirement requirement) {
+		Set<IInstallableUnit> result = new LinkedHashSet<>();
+		if (requirement instanceof IRequiredCapability capability) {
+			List<Provider> list = providers.getOrDefault(capability.getNamespace(), Map.of())
+					.getOrDefault(capability.getName(), List.of());
+			VersionRange range = capability.getRange();
+			Version maximum = range.getMaximum();
+			for (Provider provider : list) {
+				if (provider.version().compareTo(maximum) > 0) {
+					// sorted by version, so nothing else can match
+					break;
+				}
+				if (provider.unit().satisfies(requirement)) {
+					result.add(provider.unit());
+				}
+			}
+		} else {
+			// arbitrary match expression, we can't use the index here
+			for (IInstallableUnit unit : units) {
+				if (unit.satisfies(requirement)) {
+					result.add(unit);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static record Provider(Version version, IInstallableUnit unit) {
+
+	}
+
+}
@@ -107,6 +107,8 @@ public class InstallableUnitGenerator {
 
 	private Map<Artifact, ArtifactUnits> artifactUnitMap = new ConcurrentHashMap<>();
 
+	private final ProjectUnitsCache projectUnitsCache = new ProjectUnitsCache();
+
 	/**
 	 * Computes the {@link IInstallableUnit}s for a collection of projects.
 	 * 
@@ -193,11 +195,7 @@ public class InstallableUnitGenerator {
 				}
 			}
 			String packaging = project.getPackaging();
-			String version = project.getVersion();
-			String artifactId = project.getArtifactId();
-			List<IPublisherAction> actions = getPublisherActions(packaging, basedir, projectArtifact, version,
-					artifactId);
-			Collection<IInstallableUnit> publishedUnits = publisher.publishMetadata(actions);
+			Collection<IInstallableUnit> publishedUnits = publishProjectMetadata(project, session, projectArtifact);
 			for (InstallableUnitProvider unitProvider : getProvider(project, session)) {
 				log.debug("Asking " + unitProvider + " for additional units for " + project);
 				Collection<IInstallableUnit> installableUnits = unitProvider.getInstallableUnits(project, session);
@@ -223,6 +221,37 @@ public class InstallableUnitGenerator {
 		}
 	}
 
+	private Collection<IInstallableUnit> publishProjectMetadata(MavenProject project, MavenSession session,
+			File projectArtifact) throws CoreException {
+		String cacheKey = null;
+		if (projectUnitsCache.isEnabled(session)) {
+			try {
+				cacheKey = projectUnitsCache.computeKey(project, projectArtifact);
+				if (cacheKey != null) {
+					Collection<IInstallableUnit> cachedUnits = projectUnitsCache
+							.load(ProjectUnitsCache.getCacheFolder(session), cacheKey);
+					if (cachedUnits != null) {
+						log.debug("Using persisted units for " + project);
+						return cachedUnits;
+					}
+				}
+			} catch (IOException e) {
+				log.debug("Cannot use persisted units for " + project + ": " + e);
+			}
+		}
+		List<IPublisherAction> actions = getPublisherActions(project.getPackaging(), project.getBasedir(),
+				projectArtifact, project.getVersion(), project.getArtifactId());
+		Collection<IInstallableUnit> publishedUnits = publisher.publishMetadata(actions);
+		if (cacheKey != null) {
+			try {
+				projectUnitsCache.store(ProjectUnitsCache.getCacheFolder(session), cacheKey, publishedUnits);
+			} catch (IOException e) {
+				log.debug("Cannot persist units for " + project + ": " + e);
+			}
+		}
+		return publishedUnits;
+	}
+
 	private static File getProjectArtifact(MavenProject project) {
 		Artifact artifact = project.getArtifact();
 		if (artifact != null) {
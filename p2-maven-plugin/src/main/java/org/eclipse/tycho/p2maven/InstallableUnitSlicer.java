@@ -95,6 +95,26 @@ public class InstallableUnitSlicer {
 	public Map<IRequirement, Collection<IInstallableUnit>> computeDirectDependencies(
 			Collection<IInstallableUnit> rootIus,
 			IQueryable<IInstallableUnit> avaiableIUs) throws CoreException {
+		return computeDirectDependencies(rootIus, CapabilityIndex.of(avaiableIUs));
+	}
+
+	/**
+	 * Computes a "slice" that is the <b>direct</b> dependencies of the given
+	 * {@link IInstallableUnit}s like
+	 * {@link #computeDirectDependencies(Collection, IQueryable)} but using an
+	 * index of the available units, this should be used if the same set of
+	 * available units is used for many computations.
+	 * 
+	 * @param rootIus         the root {@link IInstallableUnit}s to take into
+	 *                        account
+	 * @param capabilityIndex the index of all units that could be used for
+	 *                        fulfilling a requirement
+	 * @return the result of the slicing, be aware that no maximum/minimum
+	 *         constraints or filters are applied as part of this computation
+	 * @throws CoreException if there is any error
+	 */
+	public Map<IRequirement, Collection<IInstallableUnit>> computeDirectDependencies(
+			Collection<IInstallableUnit> rootIus, CapabilityIndex capabilityIndex) throws CoreException {
 		List<IRequirement> collect = rootIus.stream().flatMap(iu -> iu.getRequirements().stream())
 				.filter(req -> {
 					for (IInstallableUnit unit : rootIus) {
@@ -106,11 +126,10 @@ public class InstallableUnitSlicer {
 					return true;
 				}).toList();
 		Map<IRequirement, Collection<IInstallableUnit>> result = new LinkedHashMap<>(collect.size());
-		for (IInstallableUnit iu : avaiableIUs.query(QueryUtil.ALL_UNITS, new NullProgressMonitor()).toSet()) {
-			for (IRequirement requirement : collect) {
-				if (iu.satisfies(requirement)) {
-					result.computeIfAbsent(requirement, nil -> new ArrayList<>()).add(iu);
-				}
+		for (IRequirement requirement : collect) {
+			Collection<IInstallableUnit> satisfyingUnits = capabilityIndex.getSatisfyingUnits(requirement);
+			if (!satisfyingUnits.isEmpty()) {
+				result.computeIfAbsent(requirement, nil -> new ArrayList<>()).addAll(satisfyingUnits);
 			}
 		}
 		return result;
@@ -182,6 +182,24 @@ public class MavenProjectDependencyProcessor {
 			}).toList();
 		}
 
+		/**
+		 * Given a maven project returns all other maven projects that (directly)
+		 * depend on it, dependencies are taken into account without any filtering
+		 * so the result contains all projects that might require the given one.
+		 * 
+		 * @param mavenProject the maven project for which all direct dependants
+		 *                     should be collected
+		 * @return the collection of projects that depend on this maven project in
+		 *         this closure
+		 */
+		default Collection<MavenProject> getDependantProjects(MavenProject mavenProject) {
+			return dependencies(always -> List.of())
+					.filter(entry -> entry.getValue().stream()
+							.flatMap(dependency -> getProject(dependency).stream())
+							.anyMatch(project -> project == mavenProject))
+					.map(Entry::getKey).distinct().toList();
+		}
+
 		/**
 		 * Check if the given unit is a fragment
 		 * 
@@ -18,6 +18,7 @@ import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -37,8 +38,6 @@ import org.eclipse.equinox.internal.p2.metadata.InstallableUnit;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IProvidedCapability;
 import org.eclipse.equinox.p2.metadata.IRequirement;
-import org.eclipse.equinox.p2.query.CollectionResult;
-import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor.ProjectDependencies;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor.ProjectDependencyClosure;
 import org.eclipse.tycho.p2maven.io.MetadataIO;
@@ -59,40 +58,51 @@ class ProjectDependencyClosureGraph implements ProjectDependencyClosure {
 
 	private Map<MavenProject, Collection<IInstallableUnit>> projectIUMap;
 
+	private final Map<MavenProject, Set<MavenProject>> dependantsMap = new HashMap<>();
+
 	ProjectDependencyClosureGraph(Map<MavenProject, Collection<IInstallableUnit>> projectIUMap,
 			InstallableUnitSlicer slicer) throws CoreException {
 		this.projectIUMap = projectIUMap;
 		this.slicer = slicer;
 		Collection<IInstallableUnit> availableIUs = projectIUMap.values().stream().flatMap(Collection::stream)
 				.collect(Collectors.toSet());
-		projectDependenciesMap = computeProjectDependencies(
-				projectIUMap.keySet(), new CollectionResult<>(availableIUs), projectIUMap);
+		projectDependenciesMap = computeProjectDependencies(projectIUMap.keySet(), CapabilityIndex.of(availableIUs),
+				projectIUMap);
 		for (var entry : projectIUMap.entrySet()) {
 			MavenProject mavenProject = entry.getKey();
 			for (IInstallableUnit iu : entry.getValue()) {
 				iuProjectMap.put(iu, mavenProject);
 			}
 		}
+		for (var entry : projectDependenciesMap.entrySet()) {
+			MavenProject dependant = entry.getKey();
+			for (IInstallableUnit dependency : entry.getValue().getDependencies(List.of())) {
+				MavenProject project = iuProjectMap.get(dependency);
+				if (project != null && project != dependant) {
+					dependantsMap.computeIfAbsent(project, nil -> new LinkedHashSet<>()).add(dependant);
+				}
+			}
+		}
 	}
 
 	/**
 	 * Given a set of projects, compute the mapping of a project to its dependencies
 	 * 
-	 * @param projects    the projects to investigate
-	 * @param avaiableIUs all available units that should be used to fulfill project
-	 *                    requirements
+	 * @param projects        the projects to investigate
+	 * @param capabilityIndex index of all available units that should be used to
+	 *                        fulfill project requirements
 	 * @return a Map from the passed projects to their dependencies
 	 * @throws CoreException if computation failed
 	 */
 	private Map<MavenProject, ProjectDependencies> computeProjectDependencies(Collection<MavenProject> projects,
-			IQueryable<IInstallableUnit> avaiableIUs, Map<MavenProject, Collection<IInstallableUnit>> projectIUMap)
+			CapabilityIndex capabilityIndex, Map<MavenProject, Collection<IInstallableUnit>> projectIUMap)
 			throws CoreException {
 		List<CoreException> errors = new CopyOnWriteArrayList<>();
 		Map<MavenProject, ProjectDependencies> result = new ConcurrentHashMap<>();
 		projects.parallelStream().unordered().takeWhile(nil -> errors.isEmpty()).forEach(project -> {
 			try {
 				ProjectDependencies projectDependencies = computeProjectDependencies(
-						Set.copyOf(projectIUMap.get(project)), avaiableIUs);
+						Set.copyOf(projectIUMap.get(project)), capabilityIndex);
 				result.put(project, projectDependencies);
 				if (DUMP_DATA) {
 					File file = new File(project.getBasedir(), "project-dependencies.xml");
@@ -123,19 +133,19 @@ class ProjectDependencyClosureGraph implements ProjectDependencyClosure {
 	 * Given a {@link MavenProject} and a collection of {@link IInstallableUnit},
 	 * compute the collection of dependencies that fulfill the projects requirements
 	 * 
-	 * @param project     the project to query for requirements
-	 * @param avaiableIUs all available units that should be used to fulfill project
-	 *                    requirements
+	 * @param project         the project to query for requirements
+	 * @param capabilityIndex index of all available units that should be used to
+	 *                        fulfill project requirements
 	 * @return the collection of dependent {@link InstallableUnit}s
 	 * @throws CoreException if computation failed
 	 */
 	private ProjectDependencies computeProjectDependencies(Set<IInstallableUnit> projectUnits,
-			IQueryable<IInstallableUnit> avaiableIUs) throws CoreException {
+			CapabilityIndex capabilityIndex) throws CoreException {
 		if (projectUnits.isEmpty()) {
 			return EMPTY_DEPENDENCIES;
 		}
 		Map<IRequirement, Collection<IInstallableUnit>> dependencies = slicer.computeDirectDependencies(projectUnits,
-				avaiableIUs);
+				capabilityIndex);
 		return new ProjectDependencies(dependencies, projectUnits);
 	}
 
@@ -156,6 +166,15 @@ class ProjectDependencyClosureGraph implements ProjectDependencyClosure {
 				pd.getValue().getDependencies(contextIuSupplier.apply(pd.getKey()))));
 	}
 
+	@Override
+	public Collection<MavenProject> getDependantProjects(MavenProject mavenProject) {
+		Set<MavenProject> dependants = dependantsMap.get(mavenProject);
+		if (dependants != null) {
+			return Collections.unmodifiableSet(dependants);
+		}
+		return Collections.emptyList();
+	}
+
 	@Override
 	public boolean isFragment(MavenProject mavenProject) {
 
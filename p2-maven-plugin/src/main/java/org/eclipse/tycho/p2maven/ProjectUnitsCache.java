@@ -0,0 +1,349 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Manifest;
+
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.tycho.PackagingType;
+import org.eclipse.tycho.p2maven.io.MetadataIO;
+import org.osgi.framework.Constants;
+
+/**
+ * Persistent cache for the units published for a reactor project, stored in the local repository
+ * so it can be used by later Maven invocations.
+ * <p>
+ * Entries are addressed by a digest of everything the publisher actions read for the project:
+ * the packaging and coordinates of the project and the content of the manifest,
+ * <code>build.properties</code>, <code>feature.xml</code>, <code>p2.inf</code>, localization
+ * (including a custom <code>Bundle-Localization</code>), category and product files and their
+ * advice. If the project artifact was already packed, its size and last modified time are used
+ * instead. Units contributed by {@link org.eclipse.tycho.resolver.InstallableUnitProvider}s are
+ * never cached. The key also contains the version of Tycho, for a snapshot or a build from the IDE
+ * the size and last modified time of the plugin jar are used instead, if there is no such jar
+ * nothing is cached.
+ * </p>
+ * <p>
+ * As every change of a project results in a new entry, entries that were not used for
+ * {@value #MAX_AGE_DAYS} days are deleted.
+ * </p>
+ */
+class ProjectUnitsCache {
+
+	static final String ENABLED_PROPERTY = "tycho.p2.units.cache";
+
+	private static final String CACHE_FOLDER = ".cache/tycho/project-units";
+	private static final int FORMAT_VERSION = 2;
+	static final int MAX_AGE_DAYS = 30;
+
+	/**
+	 * The cache folders already pruned in this JVM
+	 */
+	private static final Set<File> PRUNED_FOLDERS = ConcurrentHashMap.newKeySet();
+
+	private static final List<String> BUNDLE_FILES = List.of("build.properties", "plugin.xml", "fragment.xml",
+			"plugin.properties", "fragment.properties");
+	private static final List<String> BUNDLE_FOLDERS = List.of("META-INF", "OSGI-INF/l10n");
+	private static final List<String> FEATURE_FILES = List.of("feature.xml", "p2.inf", "build.properties");
+	private static final String DEFAULT_BUNDLE_LOCALIZATION = "OSGI-INF/l10n/bundle";
+	private static final String FEATURE_LOCALIZATION = "feature";
+	private static final String PRODUCT_SUFFIX = ".product";
+
+	private final MetadataIO metadataIO = new MetadataIO();
+
+	private final String generatorVersion;
+
+	ProjectUnitsCache() {
+		this(getGeneratorVersion());
+	}
+
+	/**
+	 * @param generatorVersion
+	 *            identifies the code that generates the units, or <code>null</code> if it is
+	 *            unknown and nothing should be cached
+	 */
+	ProjectUnitsCache(String generatorVersion) {
+		this.generatorVersion = generatorVersion;
+	}
+
+	boolean isEnabled(MavenSession session) {
+		String value = session.getUserProperties().getProperty(ENABLED_PROPERTY,
+				session.getSystemProperties().getProperty(ENABLED_PROPERTY));
+		return Boolean.parseBoolean(value);
+	}
+
+	/**
+	 * Computes the cache key for the given project
+	 *
+	 * @return the key or <code>null</code> if the units of the project can't be cached
+	 */
+	String computeKey(MavenProject project, File projectArtifact) throws IOException {
+		if (generatorVersion == null) {
+			return null;
+		}
+		String packaging = project.getPackaging();
+		File basedir = project.getBasedir();
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+		update(digest, String.valueOf(FORMAT_VERSION));
+		update(digest, generatorVersion);
+		update(digest, packaging);
+		update(digest, project.getGroupId());
+		update(digest, project.getArtifactId());
+		update(digest, project.getVersion());
+		switch (packaging) {
+		case PackagingType.TYPE_ECLIPSE_TEST_PLUGIN:
+		case PackagingType.TYPE_ECLIPSE_PLUGIN: {
+			if (projectArtifact != null) {
+				updateStamp(digest, projectArtifact);
+			} else {
+				for (String name : BUNDLE_FILES) {
+					updateContent(digest, basedir, name);
+				}
+				for (String folder : BUNDLE_FOLDERS) {
+					updateFolder(digest, basedir, folder);
+				}
+				updateLocalization(digest, basedir, getBundleLocalization(basedir));
+			}
+			break;
+		}
+		case PackagingType.TYPE_ECLIPSE_FEATURE: {
+			if (projectArtifact != null) {
+				updateStamp(digest, projectArtifact);
+			} else {
+				for (String name : FEATURE_FILES) {
+					updateContent(digest, basedir, name);
+				}
+				updateLocalization(digest, basedir, FEATURE_LOCALIZATION);
+			}
+			break;
+		}
+		case PackagingType.TYPE_ECLIPSE_REPOSITORY: {
+			updateContent(digest, basedir, "category.xml");
+			updateContent(digest, basedir, "p2.inf");
+			File[] products = basedir.listFiles(
+					f -> f.isFile() && f.getName().endsWith(PRODUCT_SUFFIX) && !f.getName().startsWith(".polyglot"));
+			if (products != null) {
+				Arrays.sort(products);
+				for (File product : products) {
+					String name = product.getName();
+					updateContent(digest, basedir, name);
+					// advice file next to the product, see PublishProductToolImpl
+					updateContent(digest, basedir,
+							name.substring(0, name.length() - PRODUCT_SUFFIX.length()) + ".p2.inf");
+				}
+			}
+			break;
+		}
+		case PackagingType.TYPE_P2_IU: {
+			updateContent(digest, basedir, "p2iu.xml");
+			break;
+		}
+		default:
+			// no units are published for other packaging types
+			return null;
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Loads the units stored for the given key
+	 *
+	 * @param cacheFolder
+	 *            the folder of the cache as returned by {@link #getCacheFolder(MavenSession)}
+	 * @return the units or <code>null</code> if nothing is stored for this key
+	 */
+	Collection<IInstallableUnit> load(File cacheFolder, String key) throws IOException {
+		File file = getCacheFile(cacheFolder, key);
+		Collection<IInstallableUnit> units;
+		try {
+			units = new HashSet<>(metadataIO.readXML(file));
+		} catch (FileNotFoundException e) {
+			return null;
+		}
+		// mark the entry as used, at most once a day to avoid writes on every build
+		long now = System.currentTimeMillis();
+		if (now - file.lastModified() > TimeUnit.DAYS.toMillis(1)) {
+			file.setLastModified(now);
+		}
+		return units;
+	}
+
+	/**
+	 * Stores the units for the given key and deletes all entries of the cache that were not used
+	 * for {@value #MAX_AGE_DAYS} days, the latter at most once per JVM
+	 *
+	 * @param cacheFolder
+	 *            the folder of the cache as returned by {@link #getCacheFolder(MavenSession)}
+	 */
+	void store(File cacheFolder, String key, Collection<IInstallableUnit> units) throws IOException {
+		File file = getCacheFile(cacheFolder, key);
+		cacheFolder.mkdirs();
+		File tempFile = File.createTempFile(key, ".tmp", cacheFolder);
+		try {
+			metadataIO.writeXML(units, tempFile);
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile.toPath());
+		}
+		if (PRUNED_FOLDERS.add(cacheFolder.getAbsoluteFile())) {
+			prune(cacheFolder, System.currentTimeMillis() - TimeUnit.DAYS.toMillis(MAX_AGE_DAYS));
+		}
+	}
+
+	/**
+	 * Deletes all entries of the given cache folder last used before the given time
+	 */
+	static void prune(File cacheFolder, long minLastModified) throws IOException {
+		File[] entries = cacheFolder.listFiles(f -> f.isFile() && f.getName().endsWith(".xml"));
+		if (entries == null) {
+			return;
+		}
+		for (File entry : entries) {
+			if (entry.lastModified() < minLastModified) {
+				Files.deleteIfExists(entry.toPath());
+			}
+		}
+	}
+
+	static File getCacheFolder(MavenSession session) {
+		File localRepository = new File(session.getLocalRepository().getBasedir());
+		return new File(localRepository, CACHE_FOLDER);
+	}
+
+	private static File getCacheFile(File cacheFolder, String key) {
+		return new File(cacheFolder, key + ".xml");
+	}
+
+	/**
+	 * @return the base name of the localization files of the bundle in the given folder as given
+	 *         by the <code>Bundle-Localization</code> header of its manifest
+	 */
+	private static String getBundleLocalization(File basedir) throws IOException {
+		File manifestFile = new File(basedir, "META-INF/MANIFEST.MF");
+		if (!manifestFile.isFile()) {
+			return DEFAULT_BUNDLE_LOCALIZATION;
+		}
+		try (InputStream stream = Files.newInputStream(manifestFile.toPath())) {
+			String localization = new Manifest(stream).getMainAttributes().getValue(Constants.BUNDLE_LOCALIZATION);
+			return localization == null || localization.isBlank() ? DEFAULT_BUNDLE_LOCALIZATION
+					: localization.trim();
+		}
+	}
+
+	/**
+	 * Adds the content of all property files (default and translations) with the given base name
+	 */
+	private static void updateLocalization(MessageDigest digest, File basedir, String baseName)
+			throws IOException {
+		int slash = baseName.lastIndexOf('/');
+		String folder = slash < 0 ? "" : baseName.substring(0, slash + 1);
+		String prefix = baseName.substring(slash + 1);
+		File[] files = new File(basedir, folder).listFiles(f -> f.isFile() && f.getName().endsWith(".properties")
+				&& (f.getName().equals(prefix + ".properties") || f.getName().startsWith(prefix + "_")));
+		update(digest, baseName);
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			updateContent(digest, basedir, folder + file.getName());
+		}
+	}
+
+	private static void updateFolder(MessageDigest digest, File basedir, String folder) throws IOException {
+		File[] files = new File(basedir, folder).listFiles(File::isFile);
+		if (files == null) {
+			return;
+		}
+		Arrays.sort(files);
+		for (File file : files) {
+			updateContent(digest, basedir, folder + "/" + file.getName());
+		}
+	}
+
+	private static void updateContent(MessageDigest digest, File basedir, String name) throws IOException {
+		File file = new File(basedir, name);
+		update(digest, name);
+		if (file.isFile()) {
+			byte[] content = Files.readAllBytes(file.toPath());
+			update(digest, String.valueOf(content.length));
+			digest.update(content);
+		} else {
+			update(digest, "-");
+		}
+	}
+
+	/**
+	 * @return the version of the code that generates the units, or <code>null</code> if it can't be
+	 *         determined reliably
+	 */
+	static String getGeneratorVersion() {
+		String version = ProjectUnitsCache.class.getPackage().getImplementationVersion();
+		if (version != null && !version.endsWith("-SNAPSHOT")) {
+			return version;
+		}
+		// the version of a snapshot does not change with each build, use the jar instead
+		try {
+			CodeSource codeSource = ProjectUnitsCache.class.getProtectionDomain().getCodeSource();
+			if (codeSource != null && codeSource.getLocation() != null) {
+				File jar = new File(codeSource.getLocation().toURI());
+				if (jar.isFile()) {
+					return version + "/" + jar.length() + "/" + jar.lastModified();
+				}
+			}
+		} catch (URISyntaxException | IllegalArgumentException | SecurityException e) {
+			// then we don't know
+		}
+		return null;
+	}
+
+	private static void updateStamp(MessageDigest digest, File file) {
+		update(digest, file.getAbsolutePath());
+		update(digest, String.valueOf(file.length()));
+		update(digest, String.valueOf(file.lastModified()));
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		digest.update(Objects.toString(value).getBytes(StandardCharsets.UTF_8));
+		digest.update((byte) 0);
+	}
+
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven.transport;
+
+/**
+ * Counters collected by a {@link HttpCache}
+ *
+ * @param hits
+ *            number of requests served from the cache without contacting the server
+ * @param misses
+ *            number of requests where the file was (re)downloaded
+ * @param revalidations
+ *            number of conditional requests send to the server for a cached file
+ * @param notModified
+ *            number of revalidations where the server reported the file as not modified
+ */
+public record CacheStatistics(long hits, long misses, long revalidations, long notModified) {
+
+	public long total() {
+		return hits + misses + notModified;
+	}
+
+	@Override
+	public String toString() {
+		return hits + " cache hits, " + misses + " downloads, " + revalidations + " revalidations (" + notModified
+				+ " not modified)";
+	}
+}
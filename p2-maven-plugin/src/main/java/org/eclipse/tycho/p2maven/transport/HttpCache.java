@@ -13,6 +13,7 @@
 package org.eclipse.tycho.p2maven.transport;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.net.URI;
 
 import org.codehaus.plexus.logging.Logger;
@@ -29,4 +30,17 @@ public interface HttpCache {
 	 */
 	CacheEntry getCacheEntry(URI uri, Logger logger) throws FileNotFoundException;
 
+	/**
+	 * @return the statistics of this cache for the current build
+	 */
+	CacheStatistics getStatistics();
+
+	/**
+	 * Persists any state of the cache that should survive the current build
+	 * 
+	 * @throws IOException
+	 *             if writing the state failed
+	 */
+	void flush() throws IOException;
+
 }
\ No newline at end of file
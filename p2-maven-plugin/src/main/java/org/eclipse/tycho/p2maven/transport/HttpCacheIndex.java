@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven.transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single file index of all cached header files of the {@link SharedHttpCacheStorage}. The
+ * per-entry <code>.headers</code> files remain the source of truth (they are shared with other
+ * processes using the same cache), the index only stores a copy of their content together with
+ * the modification stamp of the header file so that a cache line can be initialized without
+ * opening and parsing the header file as long as it was not changed in the meantime.
+ */
+final class HttpCacheIndex {
+
+	private static final String INDEX_FILE = ".cache-index";
+	private static final int FORMAT_VERSION = 1;
+
+	private final Path indexFile;
+	private final Map<String, IndexEntry> entries = new ConcurrentHashMap<>();
+	private volatile boolean loaded;
+	private volatile boolean dirty;
+
+	HttpCacheIndex(File cacheLocation) {
+		this.indexFile = cacheLocation.toPath().resolve(INDEX_FILE);
+	}
+
+	/**
+	 * Returns the indexed header for the given header file if the index is still up-to-date with
+	 * the file on disk.
+	 *
+	 * @param key
+	 *            the key of the cache line
+	 * @param headerFile
+	 *            the header file the entry was created from
+	 * @return a copy of the indexed header or <code>null</code> if the entry is unknown or stale
+	 */
+	Properties getHeader(String key, File headerFile) {
+		ensureLoaded();
+		IndexEntry entry = entries.get(key);
+		if (entry != null) {
+			long stamp = headerFile.lastModified();
+			if (entry.stamp() == stamp) {
+				Properties properties = new Properties();
+				properties.putAll(entry.header());
+				return properties;
+			}
+			if (stamp == 0) {
+				// the cache line was deleted
+				entries.remove(key);
+				dirty = true;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Records the current header of a cache line, must be called after the header file was
+	 * written.
+	 */
+	void update(String key, File headerFile, Properties header) {
+		ensureLoaded();
+		long stamp = headerFile.lastModified();
+		if (stamp == 0) {
+			entries.remove(key);
+		} else {
+			Properties copy = new Properties();
+			copy.putAll(header);
+			entries.put(key, new IndexEntry(stamp, copy));
+		}
+		dirty = true;
+	}
+
+	/**
+	 * @return the header file of the cache line for the given file
+	 */
+	static File getHeaderFile(File file) {
+		return new File(file.getParent(), file.getName() + ".headers");
+	}
+
+	/**
+	 * Writes the index to disk if it was modified since it was loaded, entries whose header file
+	 * does not exist anymore are removed
+	 */
+	synchronized void save() throws IOException {
+		if (!dirty) {
+			return;
+		}
+		entries.keySet().removeIf(key -> !getHeaderFile(new File(key)).isFile());
+		Files.createDirectories(indexFile.getParent());
+		Path tempFile = Files.createTempFile(indexFile.getParent(), INDEX_FILE, ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				Map<String, IndexEntry> snapshot = Map.copyOf(entries);
+				out.writeInt(snapshot.size());
+				for (var entry : snapshot.entrySet()) {
+					out.writeUTF(entry.getKey());
+					IndexEntry indexEntry = entry.getValue();
+					out.writeLong(indexEntry.stamp());
+					Properties header = indexEntry.header();
+					out.writeInt(header.size());
+					for (String name : header.stringPropertyNames()) {
+						out.writeUTF(name);
+						out.writeUTF(header.getProperty(name));
+					}
+				}
+			}
+			Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			dirty = false;
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private void ensureLoaded() {
+		if (loaded) {
+			return;
+		}
+		synchronized (this) {
+			if (loaded) {
+				return;
+			}
+			if (Files.isRegularFile(indexFile)) {
+				try (DataInputStream in = new DataInputStream(
+						new BufferedInputStream(Files.newInputStream(indexFile)))) {
+					if (in.readInt() == FORMAT_VERSION) {
+						int size = in.readInt();
+						for (int i = 0; i < size; i++) {
+							String key = in.readUTF();
+							long stamp = in.readLong();
+							int headers = in.readInt();
+							Properties header = new Properties();
+							for (int j = 0; j < headers; j++) {
+								header.setProperty(in.readUTF(), in.readUTF());
+							}
+							entries.put(key, new IndexEntry(stamp, header));
+						}
+					}
+				} catch (IOException e) {
+					// a corrupted index simply means we need to read the header files again...
+					entries.clear();
+				}
+			}
+			loaded = true;
+		}
+	}
+
+	private static record IndexEntry(long stamp, Properties header) {
+
+	}
+}
@@ -25,13 +25,15 @@ import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,21 +64,14 @@ public class SharedHttpCacheStorage implements HttpCache {
 	@Inject
 	TransportCacheConfig cacheConfig;
 
-	private final Map<File, CacheLine> entryCache;
+	private final Map<File, CacheLine> entryCache = new ConcurrentHashMap<>(MAX_CACHE_LINES);
 
-	public SharedHttpCacheStorage() {
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder revalidations = new LongAdder();
+	private final LongAdder notModified = new LongAdder();
 
-		entryCache = new LinkedHashMap<>(MAX_CACHE_LINES, 0.75f, true) {
-
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			protected boolean removeEldestEntry(final Map.Entry<File, CacheLine> eldest) {
-				return (size() > MAX_IN_MEMORY);
-			}
-
-		};
-	}
+	private volatile HttpCacheIndex cacheIndex;
 
 	/**
 	 * Fetches the cache entry for this URI
@@ -147,7 +142,33 @@ public class SharedHttpCacheStorage implements HttpCache {
 		};
 	}
 
-	private synchronized CacheLine getCacheLine(URI uri) {
+	@Override
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(hits.sum(), misses.sum(), revalidations.sum(), notModified.sum());
+	}
+
+	@Override
+	public void flush() throws IOException {
+		HttpCacheIndex index = cacheIndex;
+		if (index != null) {
+			index.save();
+		}
+	}
+
+	private HttpCacheIndex getCacheIndex() {
+		HttpCacheIndex index = cacheIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = cacheIndex;
+				if (index == null) {
+					cacheIndex = index = new HttpCacheIndex(cacheConfig.getCacheLocation());
+				}
+			}
+		}
+		return index;
+	}
+
+	private CacheLine getCacheLine(URI uri) {
 		String cleanPath = uri.normalize().toASCIIString().replace(':', '/').replace('?', '/').replace('&', '/')
 				.replace('*', '/').replaceAll("/+", "/");
 		if (cleanPath.endsWith("/")) {
@@ -162,8 +183,24 @@ public class SharedHttpCacheStorage implements HttpCache {
 		} catch (IOException e) {
 			location = file.getAbsoluteFile();
 		}
-		return entryCache.computeIfAbsent(location, CacheLine::new);
+		return getCacheLine(location);
+	}
 
+	private CacheLine getCacheLine(File location) {
+		CacheLine cacheLine = entryCache.get(location);
+		if (cacheLine != null) {
+			return cacheLine;
+		}
+		if (entryCache.size() >= MAX_IN_MEMORY) {
+			// cache lines are cheap to recreate from the index, so simply drop some
+			// arbitrary unused entry instead of maintaining an access order under a global lock
+			for (CacheLine line : entryCache.values()) {
+				if (line.tryEvict()) {
+					break;
+				}
+			}
+		}
+		return entryCache.computeIfAbsent(location, CacheLine::new);
 	}
 
 	private final class CacheLine {
@@ -173,132 +210,206 @@ public class SharedHttpCacheStorage implements HttpCache {
 		private static final String STATUS_LINE = "HTTP_STATUS_LINE";
 		private final File file;
 		private final File headerFile;
+		private final String indexKey;
 		private Properties header;
 		private final DateFormat httpDateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+		/**
+		 * Guards this cache line, a lock is used instead of synchronized methods so that virtual
+		 * threads waiting for the network do not pin their carrier thread
+		 */
+		private final ReentrantLock lock = new ReentrantLock();
+		/**
+		 * Set (while holding the lock) once this line was removed from the cache, from then on
+		 * the line that is currently cached for the file has to be used so there is never more
+		 * than one lock for the same file
+		 */
+		private boolean evicted;
 
 		public CacheLine(File file) {
 			this.file = file;
-			this.headerFile = new File(file.getParent(), file.getName() + ".headers");
+			this.headerFile = HttpCacheIndex.getHeaderFile(file);
+			this.indexKey = file.getPath();
 			httpDateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
 		}
 
-		public synchronized long fetchLastModified(URI uri, HttpTransportFactory transportFactory, Logger logger)
-				throws IOException {
-			// TODO its very likely that the file is downloaded here if it has changed... so
-			// probably just download it right now?
-			HttpTransport transport = transportFactory.createTransport(uri);
-
-			try (Headers response = transport.head()) {
-				int code = response.statusCode();
-				if (isAuthFailure(code)) {
-					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
-				}
-				if (isNotFound(code)) {
-					updateHeader(response, code);
-					throw new FileNotFoundException(uri.toString());
-				}
-				if (isRedirected(code)) {
-					updateHeader(response, code);
-					return SharedHttpCacheStorage.this.getCacheEntry(uri, logger).getLastModified(transportFactory);
+		/**
+		 * Removes this line from the cache unless it is currently in use
+		 *
+		 * @return <code>true</code> if the line was removed
+		 */
+		boolean tryEvict() {
+			// the current thread might use it as well, e.g. while following a redirect
+			if (lock.isLocked() || !lock.tryLock()) {
+				return false;
+			}
+			try {
+				if (entryCache.remove(file, this)) {
+					evicted = true;
+					return true;
 				}
-				return response.getLastModified();
+				return false;
+			} finally {
+				lock.unlock();
 			}
 		}
 
-		public synchronized long getLastModified(URI uri, HttpTransportFactory transportFactory,
-				Function<URI, IOException> notAviableExceptionSupplier, Logger logger) throws IOException {
-			int code = getResponseCode();
-			if (code > 0) {
-				if (isAuthFailure(code)) {
-					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
-				}
-				if (isNotFound(code)) {
-					throw new FileNotFoundException(uri.toString());
-				}
-				if (isRedirected(code)) {
-					return SharedHttpCacheStorage.this.getCacheEntry(uri, logger).getLastModified(transportFactory);
-				}
-				Properties offlineHeader = getHeader();
-				Date lastModified = pareHttpDate(offlineHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
-				if (lastModified != null) {
-					return lastModified.getTime();
-				}
-				return -1;
-			} else {
-				throw notAviableExceptionSupplier.apply(uri);
+		/**
+		 * Acquires the lock of this line
+		 *
+		 * @return <code>false</code> if the line was evicted in the meantime and the lock was not
+		 *         acquired, the current line for the file has to be used then
+		 */
+		private boolean lockCurrent() {
+			lock.lock();
+			if (evicted) {
+				lock.unlock();
+				return false;
 			}
+			return true;
 		}
 
-		public synchronized FileState fetchFile(URI uri, HttpTransportFactory transportFactory, Logger logger)
+		public long fetchLastModified(URI uri, HttpTransportFactory transportFactory, Logger logger)
 				throws IOException {
-			boolean exists = file.isFile();
-			if (exists && !mustValidate()) {
-				return new FileState(file.toPath(), DownloadState.FROM_CACHE);
-			}
-			HttpTransport transport = transportFactory.createTransport(uri);
-			Properties lastHeader = getHeader();
-			if (exists) {
-				if (lastHeader.containsKey(Headers.ETAG_HEADER.toLowerCase())) {
-					transport.setHeader("If-None-Match", lastHeader.getProperty(Headers.ETAG_HEADER.toLowerCase()));
-				}
-				if (lastHeader.contains(Headers.LAST_MODIFIED_HEADER.toLowerCase())) {
-					transport.setHeader("If-Modified-Since",
-							lastHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
-				}
+			if (!lockCurrent()) {
+				return getCacheLine(file).fetchLastModified(uri, transportFactory, logger);
 			}
-			transport.setHeader(Headers.HEADER_ACCEPT_ENCODING, Headers.ENCODING_GZIP);
-			return transport.get(response -> {
-				File tempFile;
-				int code = response.statusCode();
-				if (exists && code == HttpURLConnection.HTTP_NOT_MODIFIED) {
-					updateHeader(response, getResponseCode());
-					return new FileState(file.toPath(), DownloadState.NOT_MODIFIED);
-				}
-				if (isAuthFailure(code)) {
-					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
+			try {
+				// TODO its very likely that the file is downloaded here if it has changed... so
+				// probably just download it right now?
+				HttpTransport transport = transportFactory.createTransport(uri);
+
+				try (Headers response = transport.head()) {
+					int code = response.statusCode();
+					if (isAuthFailure(code)) {
+						throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
+					}
+					if (isNotFound(code)) {
+						updateHeader(response, code);
+						throw new FileNotFoundException(uri.toString());
+					}
+					if (isRedirected(code)) {
+						updateHeader(response, code);
+						return SharedHttpCacheStorage.this.getCacheEntry(uri, logger).getLastModified(transportFactory);
+					}
+					return response.getLastModified();
 				}
-				updateHeader(response, code);
-				if (isRedirected(code)) {
-					URI redirect = getRedirect(uri, logger);
-					if (cacheConfig.isDebug()) {
-						logger.info("Redirect (code = " + code + ") from " + uri + " to " + redirect);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public long getLastModified(URI uri, HttpTransportFactory transportFactory,
+				Function<URI, IOException> notAviableExceptionSupplier, Logger logger) throws IOException {
+			if (!lockCurrent()) {
+				return getCacheLine(file).getLastModified(uri, transportFactory, notAviableExceptionSupplier, logger);
+			}
+			try {
+				int code = getResponseCode();
+				if (code > 0) {
+					if (isAuthFailure(code)) {
+						throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
+					}
+					if (isNotFound(code)) {
+						throw new FileNotFoundException(uri.toString());
 					}
-					if (code == HttpURLConnection.HTTP_MOVED_TEMP) {
-						// https://github.com/eclipse-tycho/tycho/issues/4459
-						// Don't save temporary redirects since they might change later, rendering the
-						// cache entry useless. Save them in the original request URI instead.
-						transferTemporaryRedirect(transportFactory, uri, redirect, logger);
-						return new FileState(file.toPath(), DownloadState.DOWNLOADED);
-					} else {
-						FileState cached = SharedHttpCacheStorage.this.getCacheEntry(redirect, logger)
-								.getCacheFile(transportFactory);
-						// https://github.com/eclipse-tycho/tycho/issues/2938
-						// Redirect may change extension. P2's SimpleMetadataRepositoryFactory relies on
-						// accurate file extension to be cached.
-						// Copying file to accommodate original request and its file extension.
-						// Once https://github.com/eclipse-equinox/p2/issues/355 is fixed, cachedFile
-						// may be returned directly without copying.
-						response.close(); // early close before doing unrelated file I/O
-						FileUtils.copyFile(cached.file().toFile(), file);
-						return new FileState(file.toPath(), cached.state());
+					if (isRedirected(code)) {
+						return SharedHttpCacheStorage.this.getCacheEntry(uri, logger).getLastModified(transportFactory);
 					}
+					Properties offlineHeader = getHeader();
+					Date lastModified = pareHttpDate(
+							offlineHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
+					if (lastModified != null) {
+						return lastModified.getTime();
+					}
+					return -1;
+				} else {
+					throw notAviableExceptionSupplier.apply(uri);
 				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		public FileState fetchFile(URI uri, HttpTransportFactory transportFactory, Logger logger)
+				throws IOException {
+			if (!lockCurrent()) {
+				return getCacheLine(file).fetchFile(uri, transportFactory, logger);
+			}
+			try {
+				boolean exists = file.isFile();
+				if (exists && !mustValidate()) {
+					hits.increment();
+					return new FileState(file.toPath(), DownloadState.FROM_CACHE);
+				}
+				HttpTransport transport = transportFactory.createTransport(uri);
+				Properties lastHeader = getHeader();
 				if (exists) {
-					FileUtils.forceDelete(file);
-				}
-				response.checkResponseCode();
-				tempFile = File.createTempFile("download", ".tmp", file.getParentFile());
-				try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
-					response.transferTo(os);
-				} catch (IOException e) {
-					tempFile.delete();
-					throw e;
+					revalidations.increment();
+					if (lastHeader.containsKey(Headers.ETAG_HEADER.toLowerCase())) {
+						transport.setHeader("If-None-Match", lastHeader.getProperty(Headers.ETAG_HEADER.toLowerCase()));
+					}
+					if (lastHeader.contains(Headers.LAST_MODIFIED_HEADER.toLowerCase())) {
+						transport.setHeader("If-Modified-Since",
+								lastHeader.getProperty(Headers.LAST_MODIFIED_HEADER.toLowerCase()));
+					}
 				}
-				response.close(); // early close before doing file I/O
-				FileUtils.moveFile(tempFile, file);
-				return new FileState(file.toPath(), DownloadState.DOWNLOADED);
-			});
-
+				transport.setHeader(Headers.HEADER_ACCEPT_ENCODING, Headers.ENCODING_GZIP);
+				return transport.get(response -> {
+					File tempFile;
+					int code = response.statusCode();
+					if (exists && code == HttpURLConnection.HTTP_NOT_MODIFIED) {
+						notModified.increment();
+						updateHeader(response, getResponseCode());
+						return new FileState(file.toPath(), DownloadState.NOT_MODIFIED);
+					}
+					if (isAuthFailure(code)) {
+						throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
+					}
+					updateHeader(response, code);
+					if (isRedirected(code)) {
+						URI redirect = getRedirect(uri, logger);
+						if (cacheConfig.isDebug()) {
+							logger.info("Redirect (code = " + code + ") from " + uri + " to " + redirect);
+						}
+						if (code == HttpURLConnection.HTTP_MOVED_TEMP) {
+							// https://github.com/eclipse-tycho/tycho/issues/4459
+							// Don't save temporary redirects since they might change later, rendering the
+							// cache entry useless. Save them in the original request URI instead.
+							transferTemporaryRedirect(transportFactory, uri, redirect, logger);
+							return new FileState(file.toPath(), DownloadState.DOWNLOADED);
+						} else {
+							FileState cached = SharedHttpCacheStorage.this.getCacheEntry(redirect, logger)
+									.getCacheFile(transportFactory);
+							// https://github.com/eclipse-tycho/tycho/issues/2938
+							// Redirect may change extension. P2's SimpleMetadataRepositoryFactory relies on
+							// accurate file extension to be cached.
+							// Copying file to accommodate original request and its file extension.
+							// Once https://github.com/eclipse-equinox/p2/issues/355 is fixed, cachedFile
+							// may be returned directly without copying.
+							response.close(); // early close before doing unrelated file I/O
+							FileUtils.copyFile(cached.file().toFile(), file);
+							return new FileState(file.toPath(), cached.state());
+						}
+					}
+					if (exists) {
+						FileUtils.forceDelete(file);
+					}
+					response.checkResponseCode();
+					tempFile = File.createTempFile("download", ".tmp", file.getParentFile());
+					try (OutputStream os = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+						response.transferTo(os);
+					} catch (IOException e) {
+						tempFile.delete();
+						throw e;
+					}
+					response.close(); // early close before doing file I/O
+					FileUtils.moveFile(tempFile, file);
+					misses.increment();
+					return new FileState(file.toPath(), DownloadState.DOWNLOADED);
+				});
+			} finally {
+				lock.unlock();
+			}
 		}
 
 		private void transferTemporaryRedirect(HttpTransportFactory transportFactory, URI uri, URI redirect,
@@ -325,25 +436,33 @@ public class SharedHttpCacheStorage implements HttpCache {
 			}
 		}
 
-		public synchronized File getFile(URI uri, HttpTransportFactory transportFactory,
+		public File getFile(URI uri, HttpTransportFactory transportFactory,
 				Function<URI, IOException> notAviableExceptionSupplier, Logger logger) throws IOException {
-			int code = getResponseCode();
-			if (code > 0) {
-				if (isAuthFailure(code)) {
-					throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
-				}
-				if (isNotFound(code)) {
-					throw new FileNotFoundException(uri.toString());
-				}
-				if (isRedirected(code)) {
-					return SharedHttpCacheStorage.this.getCacheEntry(getRedirect(uri, logger), logger)
-							.getCacheFile(transportFactory).file().toFile();
-				}
-				if (file.isFile()) {
-					return file;
+			if (!lockCurrent()) {
+				return getCacheLine(file).getFile(uri, transportFactory, notAviableExceptionSupplier, logger);
+			}
+			try {
+				int code = getResponseCode();
+				if (code > 0) {
+					if (isAuthFailure(code)) {
+						throw new AuthenticationFailedException(); // FIXME why is there no constructor to give a cause?
+					}
+					if (isNotFound(code)) {
+						throw new FileNotFoundException(uri.toString());
+					}
+					if (isRedirected(code)) {
+						return SharedHttpCacheStorage.this.getCacheEntry(getRedirect(uri, logger), logger)
+								.getCacheFile(transportFactory).file().toFile();
+					}
+					if (file.isFile()) {
+						hits.increment();
+						return file;
+					}
 				}
+				throw notAviableExceptionSupplier.apply(uri);
+			} finally {
+				lock.unlock();
 			}
-			throw notAviableExceptionSupplier.apply(uri);
 		}
 
 		private boolean mustValidate() {
@@ -438,17 +557,23 @@ public class SharedHttpCacheStorage implements HttpCache {
 			// we store the header here, this might be a 404 response or (permanent)
 			// redirect we probably need to work with later on
 			ReproducibleUtils.storeProperties(header, headerFile.toPath());
+			getCacheIndex().update(indexKey, headerFile, header);
 		}
 
-		private synchronized Date pareHttpDate(String input) {
-			if (input != null) {
-				try {
-					return httpDateFormat.parse(input);
-				} catch (ParseException e) {
-					// can't use it then..
+		private Date pareHttpDate(String input) {
+			lock.lock();
+			try {
+				if (input != null) {
+					try {
+						return httpDateFormat.parse(input);
+					} catch (ParseException e) {
+						// can't use it then..
+					}
 				}
+				return null;
+			} finally {
+				lock.unlock();
 			}
-			return null;
 		}
 
 		public int getResponseCode() {
@@ -473,17 +598,29 @@ public class SharedHttpCacheStorage implements HttpCache {
 		}
 
 		public Properties getHeader() {
-			if (header == null) {
-				header = new Properties();
-				if (headerFile.isFile()) {
-					try {
-						header.load(new FileInputStream(headerFile));
-					} catch (IOException e) {
-						// can't use the headers then...
+			if (!lockCurrent()) {
+				return getCacheLine(file).getHeader();
+			}
+			try {
+				if (header == null) {
+					HttpCacheIndex index = getCacheIndex();
+					header = index.getHeader(indexKey, headerFile);
+					if (header == null) {
+						header = new Properties();
+						if (headerFile.isFile()) {
+							try (FileInputStream stream = new FileInputStream(headerFile)) {
+								header.load(stream);
+								index.update(indexKey, headerFile, header);
+							} catch (IOException e) {
+								// can't use the headers then...
+							}
+						}
 					}
 				}
+				return header;
+			} finally {
+				lock.unlock();
 			}
-			return header;
 		}
 	}
 
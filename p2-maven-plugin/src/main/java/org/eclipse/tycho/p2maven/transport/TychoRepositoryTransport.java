@@ -17,6 +17,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URLConnection;
@@ -28,11 +29,14 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.apache.commons.io.FileUtils;
 import org.codehaus.plexus.component.annotations.Component;
@@ -60,19 +64,14 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 
 	private static final int MAX_DOWNLOAD_THREADS = Integer.getInteger("tycho.p2.transport.max-download-threads", 4);
 
-	private static final Executor DOWNLOAD_EXECUTOR = Executors.newFixedThreadPool(MAX_DOWNLOAD_THREADS,
-			new ThreadFactory() {
+	/**
+	 * Downloads are mostly waiting for the network, so each one gets its own virtual thread, the
+	 * actual concurrency is limited per host by {@link #HOST_PERMITS}
+	 */
+	private static final Executor DOWNLOAD_EXECUTOR = Executors
+			.newThreadPerTaskExecutor(Thread.ofVirtual().name("Tycho-Download-Thread-", 0).factory());
 
-				private AtomicInteger cnt = new AtomicInteger();
-
-				@Override
-				public Thread newThread(Runnable r) {
-					Thread thread = new Thread(r);
-					thread.setName("Tycho-Download-Thread-" + cnt.getAndIncrement());
-					thread.setDaemon(true);
-					return thread;
-				}
-			});
+	private static final Map<String, Semaphore> HOST_PERMITS = new ConcurrentHashMap<>();
 
 	private NumberFormat numberFormat = NumberFormat.getNumberInstance();
 
@@ -85,6 +84,9 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 	@Requirement(role = TransportProtocolHandler.class)
 	Map<String, TransportProtocolHandler> transportProtocolHandlers;
 
+	@Requirement
+	HttpCache httpCache;
+
 	@Requirement // TODO @Inject results in a list with multiple items of the same provider!
 	List<ArtifactDownloadProvider> artifactDownloadProvider;
 
@@ -113,6 +115,15 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 		if (cacheConfig.isInteractive()) {
 			logger.info("Downloading from " + id + ": " + source);
 		}
+		Semaphore permits = getHostPermits(source);
+		if (permits != null) {
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return reportStatus(Status.CANCEL_STATUS, target);
+			}
+		}
 		try (StreamState streamState = createStream(source, monitor)) {
 			DownloadStatusOutputStream statusOutputStream = new DownloadStatusOutputStream(target,
 					"Download of " + source);
@@ -142,6 +153,10 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 			return reportStatus(Status.error("download from " + source + " failed", e), target);
 		} catch (CoreException e) {
 			return reportStatus(e.getStatus(), target);
+		} finally {
+			if (permits != null) {
+				permits.release();
+			}
 		}
 	}
 
@@ -251,8 +266,72 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 		return this;
 	}
 
-	public static Executor getDownloadExecutor() {
-		return DOWNLOAD_EXECUTOR;
+	/**
+	 * Asynchronous variant of {@link #downloadToFile(URI)} that respects the per host limit of
+	 * concurrent downloads. Cancelling the returned future skips the download if it has not
+	 * started yet.
+	 * 
+	 * @return a future completed with the downloaded file
+	 */
+	public CompletableFuture<File> downloadToFileAsync(URI uri) {
+		CompletableFuture<File> download = new CompletableFuture<>();
+		DOWNLOAD_EXECUTOR.execute(() -> {
+			try {
+				download.complete(withHostPermit(uri, () -> {
+					if (download.isCancelled()) {
+						// the caller is no longer interested in the file, e.g. because another
+						// download has failed
+						return null;
+					}
+					try {
+						return downloadToFile(uri);
+					} catch (IOException e) {
+						throw new CompletionException(e);
+					}
+				}));
+			} catch (CompletionException e) {
+				download.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+			} catch (RuntimeException e) {
+				download.completeExceptionally(e);
+			}
+		});
+		return download;
+	}
+
+	private <T> T withHostPermit(URI uri, Supplier<T> action) {
+		Semaphore permits = getHostPermits(uri);
+		if (permits == null) {
+			return action.get();
+		}
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(new InterruptedIOException("download of " + uri + " was interrupted"));
+		}
+		try {
+			return action.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * @return the permits for downloads from the host of the given URI, at most
+	 *         <code>tycho.p2.transport.max-download-threads</code> downloads are performed
+	 *         concurrently for the same host, no matter if they are started asynchronously or by
+	 *         several threads (e.g. when mirroring artifacts in parallel), or <code>null</code> if
+	 *         the URI is not a remote http(s) location or Maven is offline and so no connection to
+	 *         a server is made
+	 */
+	private Semaphore getHostPermits(URI uri) {
+		String scheme = uri.getScheme();
+		String host = uri.getHost();
+		if (host == null || cacheConfig.isOffline()
+				|| !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+			return null;
+		}
+		return HOST_PERMITS.computeIfAbsent(host.toLowerCase(), nil -> new Semaphore(MAX_DOWNLOAD_THREADS));
 	}
 
 	public File downloadToFile(URI uri) throws IOException {
@@ -273,6 +352,27 @@ public class TychoRepositoryTransport extends org.eclipse.equinox.internal.p2.re
 		}
 	}
 
+	/**
+	 * Reports the statistics of the http cache and persists its index, should be called once the
+	 * build has ended.
+	 */
+	public void sessionEnded() {
+		CacheStatistics statistics = httpCache.getStatistics();
+		if (statistics.total() > 0) {
+			String message = "Transport cache: " + statistics + ", " + requests.longValue() + " requests in total";
+			if (cacheConfig.isDebug()) {
+				logger.info(message);
+			} else {
+				logger.debug(message);
+			}
+		}
+		try {
+			httpCache.flush();
+		} catch (IOException e) {
+			logger.warn("Can't write transport cache index: " + e);
+		}
+	}
+
 	TransportCacheConfig getCacheConfig() {
 		return cacheConfig;
 	}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.expression.ExpressionUtil;
+import org.eclipse.equinox.p2.metadata.expression.IMatchExpression;
+import org.junit.jupiter.api.Test;
+
+public class CapabilityIndexTest {
+
+	private static final String PACKAGE = "java.package";
+	private static final String BUNDLE = "osgi.bundle";
+	private static final String IU = IInstallableUnit.NAMESPACE_IU_ID;
+
+	private final List<IInstallableUnit> units = List.of( //
+			unit("bundle.a", "1.0.0", capability(PACKAGE, "org.example", "1.0.0"),
+					capability(BUNDLE, "bundle.a", "1.0.0")),
+			unit("bundle.a", "2.0.0", capability(PACKAGE, "org.example", "2.0.0"),
+					capability(PACKAGE, "org.example.internal", "2.0.0"), capability(BUNDLE, "bundle.a", "2.0.0")),
+			unit("bundle.b", "1.5.0.qualifier", capability(PACKAGE, "org.example", "1.5.0"),
+					capability(BUNDLE, "bundle.b", "1.5.0.qualifier")),
+			unit("bundle.c", "3.0.0", capability(PACKAGE, "org.example", Version.emptyVersion.toString()),
+					capability(PACKAGE, "org.other", "0.0.1")),
+			unit("raw.unit", "raw:1.2.3", capability(PACKAGE, "org.example", "raw:1.2.3"),
+					capability("org.example.ns", "generic", "1.0.0")),
+			unit("feature.group", "1.0.0"));
+
+	@Test
+	public void testSameResultAsSatisfies() {
+		List<IRequirement> requirements = new ArrayList<>();
+		List<VersionRange> ranges = List.of(VersionRange.emptyRange, //
+				new VersionRange("1.0.0"), //
+				new VersionRange("[1.0.0,2.0.0)"), //
+				new VersionRange("[1.0.0,2.0.0]"), //
+				new VersionRange("(1.0.0,2.0.0]"), //
+				new VersionRange("[1.5.0,1.5.0]"), //
+				new VersionRange("[2.0.0,3.0.0)"), //
+				new VersionRange("[0.0.0,0.0.0]"), //
+				new VersionRange("raw:[1.0.0,2.0.0]"), //
+				new VersionRange("[5.0.0,6.0.0)"));
+		for (String namespace : List.of(PACKAGE, BUNDLE, IU, "org.example.ns", "unknown.ns")) {
+			for (String name : List.of("org.example", "org.example.internal", "org.other", "bundle.a", "bundle.b",
+					"raw.unit", "feature.group", "generic", "unknown")) {
+				for (VersionRange range : ranges) {
+					// optional, greedy and filtered requirements must give the same result as
+					// the matching does not depend on them
+					requirements.add(MetadataFactory.createRequirement(namespace, name, range, null, false, false,
+							true));
+					requirements.add(MetadataFactory.createRequirement(namespace, name, range, null, true, false,
+							false));
+					requirements.add(MetadataFactory.createRequirement(namespace, name, range,
+							"(osgi.os=linux)", true, true, true));
+				}
+			}
+		}
+		// match expressions that are not a plain capability requirement
+		IMatchExpression<IInstallableUnit> expression = ExpressionUtil.getFactory().matchExpression(
+				ExpressionUtil.parse("providedCapabilities.exists(x | x.namespace == $0 && x.version >= $1)"),
+				PACKAGE, Version.create("1.5.0"));
+		requirements.add(MetadataFactory.createRequirement(expression, null, 0, 1, true));
+		requirements.add(MetadataFactory.createRequirement(expression, null, 1, 1, false));
+
+		CapabilityIndex index = CapabilityIndex.of(units);
+		int matched = 0;
+		for (IRequirement requirement : requirements) {
+			Set<IInstallableUnit> expected = units.stream().filter(unit -> unit.satisfies(requirement))
+					.collect(Collectors.toSet());
+			assertEquals(expected, Set.copyOf(index.getSatisfyingUnits(requirement)), requirement.toString());
+			if (!expected.isEmpty()) {
+				matched++;
+			}
+		}
+		assertFalse(matched == 0);
+	}
+
+	@Test
+	public void testSingleMatchForFullRange() {
+		IRequirement requirement = MetadataFactory.createRequirement(PACKAGE, "org.other", VersionRange.emptyRange,
+				null, false, false);
+		assertEquals(Set.of(units.get(3)), Set.copyOf(CapabilityIndex.of(units).getSatisfyingUnits(requirement)));
+	}
+
+	private static IInstallableUnit unit(String id, String version, IProvidedCapability... capabilities) {
+		InstallableUnitDescription description = new InstallableUnitDescription();
+		description.setId(id);
+		description.setVersion(Version.create(version));
+		List<IProvidedCapability> provided = new ArrayList<>(List.of(capabilities));
+		provided.add(MetadataFactory.createProvidedCapability(IU, id, Version.create(version)));
+		description.addProvidedCapabilities(provided);
+		return MetadataFactory.createInstallableUnit(description);
+	}
+
+	private static IProvidedCapability capability(String namespace, String name, String version) {
+		return MetadataFactory.createProvidedCapability(namespace, Map.of(namespace, name,
+				IProvidedCapability.PROPERTY_VERSION, Version.create(version)));
+	}
+
+}
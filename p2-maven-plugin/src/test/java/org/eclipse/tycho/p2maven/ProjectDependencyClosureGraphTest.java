@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.junit.jupiter.api.Test;
+
+public class ProjectDependencyClosureGraphTest {
+
+	@Test
+	public void testDependantsOfDiamond() throws Exception {
+		// d -> b -> a and d -> c -> a, d also requires a directly and itself
+		MavenProject a = project("a");
+		MavenProject b = project("b");
+		MavenProject c = project("c");
+		MavenProject d = project("d");
+		MavenProject unrelated = project("unrelated");
+		Map<MavenProject, Collection<IInstallableUnit>> projectIUMap = new LinkedHashMap<>();
+		projectIUMap.put(a, List.of(unit("a")));
+		projectIUMap.put(b, List.of(unit("b", "a")));
+		projectIUMap.put(c, List.of(unit("c", "a")));
+		projectIUMap.put(d, List.of(unit("d", "b", "c", "a", "d")));
+		projectIUMap.put(unrelated, List.of(unit("unrelated", "missing")));
+
+		ProjectDependencyClosureGraph graph = new ProjectDependencyClosureGraph(projectIUMap,
+				new InstallableUnitSlicer());
+
+		assertEquals(Set.of(b, c, d), Set.copyOf(graph.getDependantProjects(a)));
+		assertEquals(Set.of(d), Set.copyOf(graph.getDependantProjects(b)));
+		assertEquals(Set.of(d), Set.copyOf(graph.getDependantProjects(c)));
+		assertEquals(Set.of(), Set.copyOf(graph.getDependantProjects(d)));
+		assertEquals(Set.of(), Set.copyOf(graph.getDependantProjects(unrelated)));
+		assertEquals(Set.of(), Set.copyOf(graph.getDependantProjects(project("outside"))));
+	}
+
+	private static MavenProject project(String artifactId) {
+		MavenProject project = new MavenProject();
+		project.setGroupId("test");
+		project.setArtifactId(artifactId);
+		project.setVersion("1.0.0");
+		return project;
+	}
+
+	private static IInstallableUnit unit(String id, String... requires) {
+		InstallableUnitDescription description = new InstallableUnitDescription();
+		description.setId(id);
+		description.setVersion(Version.create("1.0.0"));
+		description.addProvidedCapabilities(List.of(MetadataFactory
+				.createProvidedCapability(IInstallableUnit.NAMESPACE_IU_ID, id, Version.create("1.0.0"))));
+		for (String required : requires) {
+			IRequirement requirement = MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, required,
+					VersionRange.emptyRange, null, false, false);
+			description.addRequirements(List.of(requirement));
+		}
+		return MetadataFactory.createInstallableUnit(description);
+	}
+
+}
@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.project.MavenProject;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.tycho.PackagingType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ProjectUnitsCacheTest {
+
+	@TempDir
+	Path tempDir;
+
+	private final ProjectUnitsCache subject = new ProjectUnitsCache("1.0.0");
+
+	@Test
+	public void testKeyIgnoresUnrelatedFiles() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_PLUGIN);
+		write(project, "META-INF/MANIFEST.MF", manifest(null));
+		write(project, "src/test/Foo.java", "class Foo {}");
+		String key = subject.computeKey(project, null);
+		assertNotNull(key);
+
+		write(project, "src/test/Foo.java", "class Foo { int x; }");
+
+		assertEquals(key, subject.computeKey(project, null));
+	}
+
+	@Test
+	public void testKeyDependsOnDefaultBundleLocalization() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_PLUGIN);
+		write(project, "META-INF/MANIFEST.MF", manifest(null));
+		write(project, "OSGI-INF/l10n/bundle_de.properties", "name=Name");
+		String key = subject.computeKey(project, null);
+
+		write(project, "OSGI-INF/l10n/bundle_de.properties", "name=Anderer Name");
+
+		assertNotEquals(key, subject.computeKey(project, null));
+	}
+
+	@Test
+	public void testKeyDependsOnCustomBundleLocalization() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_PLUGIN);
+		write(project, "META-INF/MANIFEST.MF", manifest("l10n/messages"));
+		write(project, "l10n/messages.properties", "name=Name");
+		write(project, "l10n/messages_de.properties", "name=Name");
+		String key = subject.computeKey(project, null);
+
+		write(project, "l10n/messages_de.properties", "name=Anderer Name");
+		String changedTranslationKey = subject.computeKey(project, null);
+		assertNotEquals(key, changedTranslationKey);
+
+		write(project, "l10n/messages_fr.properties", "name=Nom");
+		assertNotEquals(changedTranslationKey, subject.computeKey(project, null));
+	}
+
+	@Test
+	public void testKeyDependsOnFeatureLocalization() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_FEATURE);
+		write(project, "feature.xml", "<feature id=\"test.feature\" version=\"1.0.0\"/>");
+		write(project, "feature_de.properties", "description=Beschreibung");
+		String key = subject.computeKey(project, null);
+
+		write(project, "feature_de.properties", "description=Andere Beschreibung");
+
+		assertNotEquals(key, subject.computeKey(project, null));
+	}
+
+	@Test
+	public void testKeyDependsOnProductAdvice() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_REPOSITORY);
+		write(project, "test.product", "<product uid=\"test.product\" version=\"1.0.0\"/>");
+		String key = subject.computeKey(project, null);
+
+		write(project, "test.p2.inf", "properties.0.name=test\nproperties.0.value=true");
+		String productAdviceKey = subject.computeKey(project, null);
+		assertNotEquals(key, productAdviceKey);
+
+		write(project, "p2.inf", "properties.0.name=test\nproperties.0.value=true");
+		assertNotEquals(productAdviceKey, subject.computeKey(project, null));
+	}
+
+	@Test
+	public void testKeyDependsOnGeneratorVersion() throws IOException {
+		MavenProject project = createProject(PackagingType.TYPE_ECLIPSE_PLUGIN);
+		write(project, "META-INF/MANIFEST.MF", manifest(null));
+
+		assertNotEquals(subject.computeKey(project, null),
+				new ProjectUnitsCache("2.0.0").computeKey(project, null));
+		// nothing is cached if the generator is unknown, e.g. when running from the IDE
+		assertNull(new ProjectUnitsCache(null).computeKey(project, null));
+	}
+
+	@Test
+	public void testStoredUnitsAreLoaded() throws IOException {
+		File cacheFolder = tempDir.resolve("cache").toFile();
+
+		subject.store(cacheFolder, "key", List.of(createUnit("test.unit")));
+
+		Collection<IInstallableUnit> units = subject.load(cacheFolder, "key");
+		assertNotNull(units);
+		assertEquals(1, units.size());
+		assertEquals("test.unit", units.iterator().next().getId());
+		assertNull(subject.load(cacheFolder, "other"));
+	}
+
+	@Test
+	public void testUnusedEntriesArePruned() throws IOException {
+		File cacheFolder = tempDir.resolve("cache").toFile();
+		subject.store(cacheFolder, "used", List.of(createUnit("used.unit")));
+		subject.store(cacheFolder, "unused", List.of(createUnit("unused.unit")));
+		long old = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(ProjectUnitsCache.MAX_AGE_DAYS + 1);
+		File used = new File(cacheFolder, "used.xml");
+		File unused = new File(cacheFolder, "unused.xml");
+		assertTrue(used.setLastModified(old));
+		assertTrue(unused.setLastModified(old));
+
+		// loading marks the entry as used
+		assertNotNull(subject.load(cacheFolder, "used"));
+		ProjectUnitsCache.prune(cacheFolder,
+				System.currentTimeMillis() - TimeUnit.DAYS.toMillis(ProjectUnitsCache.MAX_AGE_DAYS));
+
+		assertTrue(used.isFile());
+		assertFalse(unused.exists());
+	}
+
+	private MavenProject createProject(String packaging) throws IOException {
+		MavenProject project = new MavenProject();
+		project.setGroupId("test");
+		project.setArtifactId("test.project");
+		project.setVersion("1.0.0");
+		project.setPackaging(packaging);
+		project.setFile(Files.createDirectories(tempDir.resolve("project")).resolve("pom.xml").toFile());
+		return project;
+	}
+
+	private static void write(MavenProject project, String path, String content) throws IOException {
+		Path file = project.getBasedir().toPath().resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+
+	private static String manifest(String localization) {
+		String manifest = """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-SymbolicName: test.project
+				Bundle-Version: 1.0.0
+				""";
+		if (localization != null) {
+			manifest += "Bundle-Localization: " + localization + "\n";
+		}
+		return manifest;
+	}
+
+	private static IInstallableUnit createUnit(String id) {
+		InstallableUnitDescription description = new InstallableUnitDescription();
+		description.setId(id);
+		description.setVersion(Version.parseVersion("1.0.0"));
+		return MetadataFactory.createInstallableUnit(description);
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2maven.transport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class HttpCacheIndexTest {
+
+	@TempDir
+	File cacheLocation;
+
+	@Test
+	public void testIndexedHeader() throws IOException {
+		File file = new File(cacheLocation, "https/example.com/content.jar");
+		Properties header = writeHeader(file, "etag", "1");
+		HttpCacheIndex index = new HttpCacheIndex(cacheLocation);
+		index.update(file.getPath(), HttpCacheIndex.getHeaderFile(file), header);
+		index.save();
+
+		Properties indexed = new HttpCacheIndex(cacheLocation).getHeader(file.getPath(),
+				HttpCacheIndex.getHeaderFile(file));
+		assertEquals(header, indexed);
+	}
+
+	@Test
+	public void testModifiedHeaderFileIsNotUsed() throws IOException {
+		File file = new File(cacheLocation, "https/example.com/content.jar");
+		File headerFile = HttpCacheIndex.getHeaderFile(file);
+		Properties header = writeHeader(file, "etag", "1");
+		HttpCacheIndex index = new HttpCacheIndex(cacheLocation);
+		index.update(file.getPath(), headerFile, header);
+		index.save();
+
+		assertTrue(headerFile.setLastModified(headerFile.lastModified() + 10_000));
+
+		assertNull(new HttpCacheIndex(cacheLocation).getHeader(file.getPath(), headerFile));
+	}
+
+	@Test
+	public void testEntriesOfDeletedCacheLinesArePruned() throws IOException {
+		File kept = new File(cacheLocation, "https/example.com/kept.jar");
+		File deleted = new File(cacheLocation, "https/example.com/deleted.jar");
+		Properties keptHeader = writeHeader(kept, "etag", "1");
+		Properties deletedHeader = writeHeader(deleted, "etag", "2");
+		HttpCacheIndex index = new HttpCacheIndex(cacheLocation);
+		index.update(kept.getPath(), HttpCacheIndex.getHeaderFile(kept), keptHeader);
+		index.update(deleted.getPath(), HttpCacheIndex.getHeaderFile(deleted), deletedHeader);
+		index.save();
+		File indexFile = new File(cacheLocation, ".cache-index");
+		long initialSize = indexFile.length();
+
+		Files.delete(HttpCacheIndex.getHeaderFile(deleted).toPath());
+		index = new HttpCacheIndex(cacheLocation);
+		index.update(kept.getPath(), HttpCacheIndex.getHeaderFile(kept), keptHeader);
+		index.save();
+
+		assertTrue(indexFile.length() < initialSize);
+		assertEquals(keptHeader,
+				new HttpCacheIndex(cacheLocation).getHeader(kept.getPath(), HttpCacheIndex.getHeaderFile(kept)));
+	}
+
+	private static Properties writeHeader(File file, String key, String value) throws IOException {
+		Properties header = new Properties();
+		header.setProperty(key, value);
+		File headerFile = HttpCacheIndex.getHeaderFile(file);
+		Files.createDirectories(headerFile.getParentFile().toPath());
+		Files.writeString(headerFile.toPath(), key + "=" + value);
+		return header;
+	}
+
+}
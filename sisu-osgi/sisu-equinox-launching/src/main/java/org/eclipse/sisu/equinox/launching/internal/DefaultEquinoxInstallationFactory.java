@@ -15,9 +15,18 @@ package org.eclipse.sisu.equinox.launching.internal;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +34,7 @@ import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
@@ -56,6 +66,8 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
 
     private final Map<String, Manifest> manifestCache = new HashMap<>();
 
+    private final Map<String, String> digestCache = new ConcurrentHashMap<>();
+
     @Inject
     private Logger log;
 
@@ -69,6 +81,12 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
 
     @Override
     public EquinoxInstallation createInstallation(EquinoxInstallationDescription description, File location) {
+        return createInstallation(description, location, null);
+    }
+
+    @Override
+    public EquinoxInstallation createInstallation(EquinoxInstallationDescription description, File location,
+            File sharedBundlesLocation) {
         Set<String> bundlesToExplode = description.getBundlesToExplode();
         Collection<File> frameworkExtensions = description.getFrameworkExtensions();
         Map<String, BundleStartLevel> startLevel = description.getBundleStartLevel();
@@ -84,6 +102,10 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
             for (BundleReference artifact : description.getBundles()) {
                 File file = artifact.getLocation();
                 if (needsUnpack(artifact, bundlesToExplode)) {
+                    if (sharedBundlesLocation != null) {
+                        effective.put(artifact, unpackShared(artifact, sharedBundlesLocation));
+                        continue;
+                    }
                     String filename = artifact.getId() + "_" + artifact.getVersion();
                     File unpacked = new File(location, "plugins/" + filename);
 
@@ -229,6 +251,57 @@ public class DefaultEquinoxInstallationFactory implements EquinoxInstallationFac
         }
     }
 
+    /**
+     * Unpacks the bundle into a folder of the shared location that is named after the content of
+     * the bundle, unless that folder already exists. The bundle is unpacked into a temporary folder
+     * first and then moved into place, so concurrent builds never see a partially unpacked bundle.
+     */
+    private File unpackShared(BundleReference artifact, File sharedBundlesLocation) throws IOException {
+        File file = artifact.getLocation();
+        File unpacked = new File(sharedBundlesLocation,
+                artifact.getId() + "_" + artifact.getVersion() + "_" + getDigest(file));
+        if (unpacked.isDirectory()) {
+            return unpacked;
+        }
+        sharedBundlesLocation.mkdirs();
+        Path tmp = Files.createTempDirectory(sharedBundlesLocation.toPath(), unpacked.getName());
+        try {
+            unpack(file, tmp.toFile());
+            Files.move(tmp, unpacked.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            if (!unpacked.isDirectory()) {
+                throw e;
+            }
+            // unpacked concurrently by another build
+        } finally {
+            if (Files.exists(tmp)) {
+                FileUtils.deleteDirectory(tmp.toFile());
+            }
+        }
+        return unpacked;
+    }
+
+    private String getDigest(File file) throws IOException {
+        String key = file.getAbsolutePath() + "@" + file.length() + "@" + file.lastModified();
+        String digest = digestCache.get(key);
+        if (digest != null) {
+            return digest;
+        }
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        try (InputStream stream = new DigestInputStream(Files.newInputStream(file.toPath()), messageDigest)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+        // the first 64 bits are plenty to tell different versions of the same bundle apart
+        digest = HexFormat.of().formatHex(messageDigest.digest(), 0, 8);
+        digestCache.put(key, digest);
+        return digest;
+    }
+
     private List<String> unpackFrameworkExtensions(File location, Collection<File> frameworkExtensions)
             throws IOException {
         List<String> bundleNames = new ArrayList<>();
@@ -12,16 +12,26 @@
  ******************************************************************************/
 package org.eclipse.sisu.equinox.launching.internal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import org.codehaus.plexus.logging.Logger;
 import org.eclipse.sisu.equinox.launching.BundleReference;
@@ -29,6 +39,7 @@ import org.eclipse.sisu.equinox.launching.BundleStartLevel;
 import org.eclipse.sisu.equinox.launching.DefaultEquinoxInstallationDescription;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class DefaultEquinoxInstallationFactoryTest {
 
@@ -124,6 +135,59 @@ public class DefaultEquinoxInstallationFactoryTest {
         assertTrue(config.contains("reference:file:absolute/path/to/bundle1@start")); // implicitly use default start level
     }
 
+    @Test
+    public void testSharedBundlesAreUnpackedOnce(@TempDir File tempDir) throws IOException {
+        File shared = new File(tempDir, "shared");
+        File bundle = createJar(new File(tempDir, "bundle1.jar"), "content");
+        instDesc.addBundle("org.example.bundle1", "1.0", bundle);
+        instDesc.addBundlesToExplode(List.of("org.example.bundle1"));
+        subject = new DefaultEquinoxInstallationFactory(mock(Logger.class)) {
+            @Override
+            protected void unpack(File source, File destination) {
+                unzip(source, destination);
+            }
+        };
+
+        subject.createInstallation(instDesc, new File(tempDir, "work1"), shared);
+        subject.createInstallation(instDesc, new File(tempDir, "work2"), shared);
+
+        File[] unpacked = shared.listFiles();
+        assertEquals(1, unpacked.length);
+        assertTrue(unpacked[0].getName().startsWith("org.example.bundle1_1.0_"));
+        assertTrue(new File(unpacked[0], "file.txt").isFile());
+        assertFalse(new File(tempDir, "work1/plugins").exists());
+
+        // a bundle with different content must not reuse the unpacked folder
+        createJar(bundle, "changed content");
+        subject.createInstallation(instDesc, new File(tempDir, "work3"), shared);
+        File[] all = shared.listFiles();
+        assertEquals(2, all.length);
+        assertNotEquals(all[0].getName(), all[1].getName());
+    }
+
+    private static File createJar(File file, String content) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("file.txt"));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return file;
+    }
+
+    private static void unzip(File source, File destination) {
+        try (ZipFile zip = new ZipFile(source)) {
+            for (ZipEntry entry : zip.stream().toList()) {
+                File file = new File(destination, entry.getName());
+                file.getParentFile().mkdirs();
+                try (InputStream stream = zip.getInputStream(entry)) {
+                    Files.copy(stream, file.toPath());
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static File mockFile(String absolutePath) {
         File file = mock(File.class);
         when(file.getAbsolutePath()).thenReturn(absolutePath);
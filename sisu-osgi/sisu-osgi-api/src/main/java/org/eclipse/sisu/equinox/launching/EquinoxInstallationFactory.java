@@ -16,4 +16,24 @@ import java.io.File;
 
 public interface EquinoxInstallationFactory {
     public EquinoxInstallation createInstallation(EquinoxInstallationDescription description, File location);
+
+    /**
+     * Creates an installation like {@link #createInstallation(EquinoxInstallationDescription, File)}
+     * but unpacks bundles that need to be exploded into the given shared location instead of the
+     * installation location. The unpacked bundles are keyed by their content, so they can be
+     * reused by all installations using the same shared location.
+     *
+     * @param description
+     *            the description of the installation
+     * @param location
+     *            the location of the installation
+     * @param sharedBundlesLocation
+     *            the location to unpack bundles to, or <code>null</code> to unpack them into the
+     *            installation location
+     * @return the installation
+     */
+    public default EquinoxInstallation createInstallation(EquinoxInstallationDescription description, File location,
+            File sharedBundlesLocation) {
+        return createInstallation(description, location);
+    }
 }
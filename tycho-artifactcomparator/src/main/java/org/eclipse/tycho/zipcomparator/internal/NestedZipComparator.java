@@ -13,6 +13,7 @@
 package org.eclipse.tycho.zipcomparator.internal;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -38,6 +39,14 @@ public class NestedZipComparator implements ContentsComparator {
     @Override
     public ArtifactDelta getDelta(ComparatorInputStream baseline, ComparatorInputStream reactor, ComparisonData data)
             throws IOException {
+        return getDelta((InputStream) baseline, (InputStream) reactor, data);
+    }
+
+    /**
+     * Computes the delta of the given (nested) archive streams, the streams are copied to temporary
+     * files without buffering them in memory.
+     */
+    ArtifactDelta getDelta(InputStream baseline, InputStream reactor, ComparisonData data) throws IOException {
         Path baselineZip = Files.createTempFile("baseline", ".zip");
         Path reactorZip = Files.createTempFile("reactor", ".zip");
         try {
@@ -16,6 +16,7 @@ package org.eclipse.tycho.zipcomparator.internal;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
@@ -37,6 +39,7 @@ import javax.inject.Singleton;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOUtils;
 import org.codehaus.plexus.logging.Logger;
 import org.codehaus.plexus.util.MatchPatterns;
 import org.eclipse.tycho.artifactcomparator.ArtifactComparator;
@@ -72,13 +75,27 @@ public class ZipComparatorImpl implements ArtifactComparator {
             names.addAll(baselineEntries.keySet());
             names.addAll(reachtorEntries.keySet());
 
+            // entries are independent of each other, the amount of memory used is bounded as only entries
+            // below the threshold are ever read into memory
+            Map<String, ArtifactDelta> deltas = new ConcurrentHashMap<>();
+            names.parallelStream().forEach(name -> {
+                try {
+                    ArtifactDelta delta = getDelta(name, baselineEntries, reachtorEntries, baselineJar, reactorJar,
+                            data);
+                    if (delta != null) {
+                        deltas.put(name, delta);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
             for (String name : names) {
-                ArtifactDelta delta = getDelta(name, baselineEntries, reachtorEntries, baselineJar, reactorJar, data);
+                ArtifactDelta delta = deltas.get(name);
                 if (delta != null) {
                     result.put(name, delta);
                 }
             }
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             log.debug("Comparing baseline=" + baseline + " with reactor=" + reactor + " failed: " + e
                     + " using direct byte compare!", e);
             //this can happen if we compare files that seem zip files but are actually not, for example an embedded jar can be an (empty) dummy file... in this case we should fall back to dumb byte compare (better than fail...)
@@ -128,6 +145,36 @@ public class ZipComparatorImpl implements ArtifactComparator {
             return ArtifactDelta.BASELINE_ONLY;
         }
 
+        long baselineSize = baselineEntry.getSize();
+        long reactorSize = reactorEntry.getSize();
+        boolean checksumsKnown = baselineSize >= 0 && reactorSize >= 0 && baselineEntry.getCrc() >= 0
+                && reactorEntry.getCrc() >= 0;
+        if (checksumsKnown && baselineSize == reactorSize && baselineEntry.getCrc() == reactorEntry.getCrc()) {
+            // same size and checksum in the central directory, no need to read the content
+            return ArtifactDelta.NO_DIFFERENCE;
+        }
+        if (baselineSize >= ContentsComparator.THRESHOLD || reactorSize >= ContentsComparator.THRESHOLD) {
+            // too large for a semantic compare, just compare the bytes (if not already known to be different)
+            if (checksumsKnown) {
+                return ArtifactDelta.DEFAULT;
+            }
+            try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
+                    InputStream reactor = reactorJar.getInputStream(reactorEntry);) {
+                return IOUtils.contentEquals(baseline, reactor) ? ArtifactDelta.NO_DIFFERENCE : ArtifactDelta.DEFAULT;
+            }
+        }
+        if (checksumsKnown && getContentsComparator(name) instanceof NestedZipComparator nestedComparator) {
+            // nested archives are compared without reading them into memory first
+            try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
+                    InputStream reactor = reactorJar.getInputStream(reactorEntry);) {
+                return nestedComparator.getDelta(baseline, reactor, data);
+            } catch (IOException e) {
+                log.debug("comparing entry " + name + " (baseline = " + baselineJar.getName() + ", reactor="
+                        + reactorJar.getName() + ") using " + nestedComparator.getClass().getName() + " failed with: "
+                        + e + ", using direct byte compare", e);
+                return ArtifactDelta.DEFAULT;
+            }
+        }
         try (InputStream baseline = baselineJar.getInputStream(baselineEntry);
                 InputStream reactor = reactorJar.getInputStream(reactorEntry);) {
             byte[] baselineBytes = baseline.readAllBytes();
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.jarcomparator.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.inject.Inject;
+
+import org.codehaus.plexus.PlexusContainer;
+import org.codehaus.plexus.testing.PlexusTest;
+import org.eclipse.tycho.artifactcomparator.ArtifactComparator;
+import org.eclipse.tycho.artifactcomparator.ArtifactComparator.ComparisonData;
+import org.eclipse.tycho.artifactcomparator.ArtifactDelta;
+import org.eclipse.tycho.zipcomparator.internal.CompoundArtifactDelta;
+import org.eclipse.tycho.zipcomparator.internal.ZipComparatorImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@PlexusTest
+public class ZipComparatorTest {
+
+    private static final ComparisonData DATA = new ComparisonData(List.of(), false);
+
+    @Inject
+    private PlexusContainer container;
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testEqualEntries() throws Exception {
+        Map<String, byte[]> entries = entries(100);
+        assertNull(getDelta(zip("baseline.jar", entries), zip("reactor.jar", entries)));
+    }
+
+    @Test
+    public void testChangedAndMissingEntries() throws Exception {
+        Map<String, byte[]> baseline = entries(100);
+        Map<String, byte[]> reactor = entries(100);
+        reactor.put("file42.txt", bytes("changed"));
+        reactor.remove("file7.txt");
+        reactor.put("new.txt", bytes("new"));
+
+        ArtifactDelta delta = getDelta(zip("baseline.jar", baseline), zip("reactor.jar", reactor));
+
+        assertNotNull(delta);
+        Map<String, ArtifactDelta> members = ((CompoundArtifactDelta) delta).getMembers();
+        assertEquals(List.of("file42.txt", "file7.txt", "new.txt"), List.copyOf(members.keySet()));
+        assertEquals(ArtifactDelta.BASELINE_ONLY, members.get("file7.txt"));
+        assertEquals(ArtifactDelta.MISSING_FROM_BASELINE, members.get("new.txt"));
+    }
+
+    @Test
+    public void testNestedJar() throws Exception {
+        Map<String, byte[]> baseline = entries(10);
+        baseline.put("lib/nested.jar", nestedJar("a=1\nb=2\n"));
+        Map<String, byte[]> reactor = entries(10);
+        // semantically the same properties
+        reactor.put("lib/nested.jar", nestedJar("b=2\na=1\n"));
+        assertNull(getDelta(zip("baseline.jar", baseline), zip("reactor.jar", reactor)));
+
+        reactor.put("lib/nested.jar", nestedJar("a=1\nb=3\n"));
+        ArtifactDelta delta = getDelta(zip("baseline.jar", baseline), zip("reactor.jar", reactor));
+        assertNotNull(delta);
+        assertEquals(List.of("lib/nested.jar"), List.copyOf(((CompoundArtifactDelta) delta).getMembers().keySet()));
+    }
+
+    private ArtifactDelta getDelta(File baseline, File reactor) throws Exception {
+        ArtifactComparator comparator = container.lookup(ArtifactComparator.class, ZipComparatorImpl.TYPE);
+        return comparator.getDelta(baseline, reactor, DATA);
+    }
+
+    private static Map<String, byte[]> entries(int count) {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            entries.put("file" + i + ".txt", bytes("content of file " + i));
+        }
+        return entries;
+    }
+
+    private static byte[] nestedJar(String properties) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(Map.of("some.properties", bytes(properties)), out);
+        return out.toByteArray();
+    }
+
+    private File zip(String name, Map<String, byte[]> entries) throws IOException {
+        File file = new File(tempDir, name);
+        try (OutputStream out = new FileOutputStream(file)) {
+            write(entries, out);
+        }
+        return file;
+    }
+
+    private static void write(Map<String, byte[]> entries, OutputStream out) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -50,6 +50,7 @@ import org.eclipse.tycho.baseline.analyze.ImportPackageChecker;
 import org.eclipse.tycho.baseline.analyze.JrtClasses;
 import org.eclipse.tycho.baseline.analyze.MethodSignature;
 import org.eclipse.tycho.baseline.analyze.RequireBundleChecker;
+import org.eclipse.tycho.baseline.analyze.SignatureStore;
 import org.eclipse.tycho.core.MarkdownBuilder;
 import org.eclipse.tycho.core.TychoProjectManager;
 import org.eclipse.tycho.core.maven.OSGiJavaToolchain;
@@ -79,6 +80,8 @@ import org.osgi.resource.Namespace;
 @Mojo(defaultPhase = LifecyclePhase.VERIFY, name = "check-dependencies", threadSafe = true, requiresProject = true)
 public class DependencyCheckMojo extends AbstractMojo {
 
+	private static final String CACHE_FOLDER = ".cache/tycho/api-signatures";
+
 	@Inject
 	private MavenProject project;
 
@@ -106,6 +109,15 @@ public class DependencyCheckMojo extends AbstractMojo {
 	@Parameter(property = "tycho.dependency.check.verbose", defaultValue = "false")
 	private boolean verbose;
 
+	/**
+	 * If <code>true</code> the analyzed classes of all inspected jars and of the
+	 * java runtime are kept in the local repository, keyed by the content of the
+	 * jar or the release of the java runtime, and reused by other modules and
+	 * later builds instead of analyzing them again.
+	 */
+	@Parameter(property = "tycho.dependency.check.cache", defaultValue = "true")
+	private boolean useCache;
+
 	@Component
 	private TychoProjectManager projectManager;
 
@@ -132,7 +144,10 @@ public class DependencyCheckMojo extends AbstractMojo {
 		if (file == null || !file.isFile()) {
 			throw new MojoFailureException("Project artifact is not a valid file");
 		}
-		JrtClasses jrtClassResolver = getJRTClassResolver();
+		SignatureStore signatureStore = useCache
+				? new SignatureStore(new File(session.getLocalRepository().getBasedir(), CACHE_FOLDER))
+				: null;
+		JrtClasses jrtClassResolver = getJRTClassResolver(signatureStore);
 		List<ClassUsage> usages;
 		try {
 			usages = DependencyAnalyzer.analyzeUsage(file, jrtClassResolver);
@@ -146,7 +161,8 @@ public class DependencyCheckMojo extends AbstractMojo {
 		ModuleRevisionBuilder builder = readOSGiInfo(file);
 		List<GenericInfo> requirements = builder.getRequirements();
 		Log log = getLog();
-		DependencyAnalyzer dependencyAnalyzer = new DependencyAnalyzer(jrtClassResolver, (m, e) -> getLog().error(m, e));
+		DependencyAnalyzer dependencyAnalyzer = new DependencyAnalyzer(jrtClassResolver, signatureStore,
+				(m, e) -> getLog().error(m, e));
 		// Create the shared check context
 		CheckContext context = new CheckContext(dependencyAnalyzer,artifacts,versionProvider, project, log, verbose);
 
@@ -255,16 +271,16 @@ public class DependencyCheckMojo extends AbstractMojo {
 		return builder;
 	}
 
-	private JrtClasses getJRTClassResolver() {
+	private JrtClasses getJRTClassResolver(SignatureStore signatureStore) {
 		String profileName = projectManager.getExecutionEnvironments(project, session).findFirst()
 				.map(ee -> ee.getProfileName()).orElse(null);
 		if (profileName != null) {
 			OSGiJavaToolchain osgiToolchain = toolchainProvider.getToolchain(profileName).orElse(null);
 			if (osgiToolchain != null) {
-				return new JrtClasses(osgiToolchain.getJavaHome());
+				return new JrtClasses(osgiToolchain.getJavaHome(), signatureStore, (m, e) -> getLog().error(m, e));
 			}
 		}
 		// use running jvm
-		return new JrtClasses(null);
+		return new JrtClasses(null, signatureStore, (m, e) -> getLog().error(m, e));
 	}
 }
@@ -12,6 +12,9 @@
  *******************************************************************************/
 package org.eclipse.tycho.baseline.analyze;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -66,6 +69,91 @@ public class ClassMethods {
 		}, ClassReader.SKIP_FRAMES);
 	}
 
+	private ClassMethods(List<ClassDef> classDefs, List<ClassMethodSignature> signatures,
+			Function<String, Optional<ClassMethods>> supplier) {
+		this.classDefs = classDefs;
+		this.signatures = signatures;
+		this.supplier = supplier;
+	}
+
+	/**
+	 * Reads a ClassMethods previously written with {@link #write(DataOutput)}.
+	 *
+	 * @param in       the input to read from
+	 * @param supplier resolver for looking up referenced classes
+	 * @return the ClassMethods
+	 * @throws IOException if reading failed
+	 */
+	static ClassMethods read(DataInput in, Function<String, Optional<ClassMethods>> supplier) throws IOException {
+		int defCount = in.readInt();
+		List<ClassDef> classDefs = new ArrayList<>(defCount);
+		for (int i = 0; i < defCount; i++) {
+			int access = in.readInt();
+			String name = in.readUTF();
+			String signature = readNullable(in);
+			String superName = readNullable(in);
+			int interfaceCount = in.readInt();
+			String[] interfaces = null;
+			if (interfaceCount >= 0) {
+				interfaces = new String[interfaceCount];
+				for (int j = 0; j < interfaceCount; j++) {
+					interfaces[j] = in.readUTF();
+				}
+			}
+			classDefs.add(new ClassDef(access, name, signature, superName, interfaces));
+		}
+		int signatureCount = in.readInt();
+		List<ClassMethodSignature> signatures = new ArrayList<>(signatureCount);
+		for (int i = 0; i < signatureCount; i++) {
+			int def = in.readInt();
+			signatures.add(new ClassMethodSignature(def < 0 ? null : classDefs.get(def), in.readInt(), in.readUTF(),
+					in.readUTF(), readNullable(in)));
+		}
+		return new ClassMethods(classDefs, signatures, supplier);
+	}
+
+	/**
+	 * Writes the analyzed class, but not the resolver, to the given output.
+	 *
+	 * @param out the output to write to
+	 * @throws IOException if writing failed
+	 */
+	void write(DataOutput out) throws IOException {
+		out.writeInt(classDefs.size());
+		for (ClassDef def : classDefs) {
+			out.writeInt(def.access());
+			out.writeUTF(def.name());
+			writeNullable(out, def.signature());
+			writeNullable(out, def.superName());
+			String[] interfaces = def.interfaces();
+			out.writeInt(interfaces == null ? -1 : interfaces.length);
+			if (interfaces != null) {
+				for (String name : interfaces) {
+					out.writeUTF(name);
+				}
+			}
+		}
+		out.writeInt(signatures.size());
+		for (ClassMethodSignature signature : signatures) {
+			out.writeInt(classDefs.indexOf(signature.clazz()));
+			out.writeInt(signature.access());
+			out.writeUTF(signature.name());
+			out.writeUTF(signature.descriptor());
+			writeNullable(out, signature.signature());
+		}
+	}
+
+	private static String readNullable(DataInput in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeNullable(DataOutput out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
 	Stream<ClassDef> definitions() {
 		return classDefs.stream();
 	}
@@ -40,6 +40,7 @@ public class DependencyAnalyzer {
 	static final int ASM_API = Opcodes.ASM9;
 	private BiConsumer<String, Throwable> errorConsumer;
 	private JrtClasses jrtClassResolver;
+	private SignatureStore signatureStore;
 
 	/**
 	 * Creates a new dependency analyzer.
@@ -49,7 +50,22 @@ public class DependencyAnalyzer {
 	 *                      exceptions
 	 */
 	public DependencyAnalyzer(JrtClasses jrtClassResolver, BiConsumer<String, Throwable> errorConsumer) {
+		this(jrtClassResolver, null, errorConsumer);
+	}
+
+	/**
+	 * Creates a new dependency analyzer that reuses the classes of already
+	 * analyzed jars from the given store.
+	 *
+	 * @param jrtClassResolver the java runtime class resolver
+	 * @param signatureStore   the store for analyzed jars, may be {@code null}
+	 * @param errorConsumer    consumer for error messages and their associated
+	 *                         exceptions
+	 */
+	public DependencyAnalyzer(JrtClasses jrtClassResolver, SignatureStore signatureStore,
+			BiConsumer<String, Throwable> errorConsumer) {
 		this.jrtClassResolver = jrtClassResolver;
+		this.signatureStore = signatureStore;
 		this.errorConsumer = errorConsumer;
 	}
 
@@ -138,6 +154,30 @@ public class DependencyAnalyzer {
 			Consumer<ClassMethods> consumer) throws IOException {
 		ClassCollection local = new ClassCollection();
 		Function<String, Optional<ClassMethods>> resolver = local.chain(classResolver);
+		String key = signatureStore == null ? null : SignatureStore.getKey(file.toPath());
+		List<ClassMethods> classes = key == null ? null : signatureStore.get(key, resolver);
+		if (classes == null) {
+			classes = readClasses(file, resolver);
+			if (key != null) {
+				try {
+					signatureStore.put(key, classes);
+				} catch (IOException e) {
+					errorConsumer.accept("Can't store the analyzed classes of " + file, e);
+				}
+			}
+		}
+		for (ClassMethods methods : classes) {
+			if (consumer != null) {
+				consumer.accept(methods);
+			}
+			local.accept(methods);
+		}
+		return local;
+	}
+
+	private List<ClassMethods> readClasses(File file, Function<String, Optional<ClassMethods>> resolver)
+			throws IOException {
+		List<ClassMethods> classes = new ArrayList<>();
 		try (JarFile jar = new JarFile(file)) {
 			Enumeration<JarEntry> entries = jar.entries();
 			while (entries.hasMoreElements()) {
@@ -154,14 +194,11 @@ public class DependencyAnalyzer {
 						errorConsumer.accept("Can't analyze class '" + name + "' because of error while parsing", e);
 						continue;
 					}
-					if (consumer != null) {
-						consumer.accept(methods);
-					}
-					local.accept(methods);
+					classes.add(methods);
 				}
 			}
 		}
-		return local;
+		return classes;
 	}
 
 
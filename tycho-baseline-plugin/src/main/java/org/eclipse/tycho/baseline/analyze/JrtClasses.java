@@ -18,10 +18,15 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -33,6 +38,12 @@ public class JrtClasses implements Function<String, Optional<ClassMethods>> {
 
 	private Path rootPath;
 	private Map<String, Optional<ClassMethods>> cache = new ConcurrentHashMap<>();
+	private Map<String, Map<String, ClassMethods>> packages = new ConcurrentHashMap<>();
+	private SignatureStore signatureStore;
+	private String storeKey;
+	private BiConsumer<String, Throwable> errorConsumer;
+	private final AtomicBoolean storeFailed = new AtomicBoolean();
+	private final AtomicBoolean readFailed = new AtomicBoolean();
 
 	/**
 	 * Creates a new JRT class resolver for the given Java home.
@@ -41,6 +52,33 @@ public class JrtClasses implements Function<String, Optional<ClassMethods>> {
 	 *                 JVM
 	 */
 	public JrtClasses(String javaHome) {
+		this(javaHome, null, null);
+	}
+
+	/**
+	 * Creates a new JRT class resolver for the given Java home that reads the
+	 * classes of a package at once and keeps them in the given store, keyed by the
+	 * <code>release</code> file of the Java home.
+	 *
+	 * @param javaHome       the Java home directory, or {@code null} to use the
+	 *                       current JVM
+	 * @param signatureStore the store for analyzed classes, may be {@code null}
+	 * @param errorConsumer  consumer for error messages and their associated
+	 *                       exceptions, may be {@code null} if no store is given
+	 */
+	public JrtClasses(String javaHome, SignatureStore signatureStore, BiConsumer<String, Throwable> errorConsumer) {
+		this.errorConsumer = errorConsumer;
+		if (signatureStore != null) {
+			Path release = Path.of(javaHome != null ? javaHome : System.getProperty("java.home"), "release");
+			try {
+				if (Files.isRegularFile(release)) {
+					storeKey = "jrt/" + SignatureStore.digest(release);
+					this.signatureStore = signatureStore;
+				}
+			} catch (IOException e) {
+				// then we can't use the store
+			}
+		}
 		try {
 			Map<String, String> map;
 			if (javaHome != null) {
@@ -60,9 +98,63 @@ public class JrtClasses implements Function<String, Optional<ClassMethods>> {
 		if (rootPath == null) {
 			return Optional.empty();
 		}
+		if (storeKey != null) {
+			return cache.computeIfAbsent(className.replace('.', '/'), path -> Optional
+					.ofNullable(packages.computeIfAbsent(DependencyAnalyzer.getPackageName(path), this::loadPackage)
+							.get(path)));
+		}
 		return cache.computeIfAbsent(className.replace('.', '/'), path -> lookupJreClass(className));
 	}
 
+	private Map<String, ClassMethods> loadPackage(String packageName) {
+		Path modulesPath = rootPath.resolve(packageName);
+		if (!Files.isDirectory(modulesPath)) {
+			return Map.of();
+		}
+		String key = storeKey + "/" + packageName;
+		List<ClassMethods> classes = signatureStore.get(key, this);
+		if (classes == null) {
+			classes = new ArrayList<>();
+			try (Stream<Path> modules = Files.list(modulesPath)) {
+				for (Iterator<Path> iterator = modules.iterator(); iterator.hasNext();) {
+					Path packagePath = iterator.next().resolve(packageName.replace('.', '/'));
+					if (!Files.isDirectory(packagePath)) {
+						continue;
+					}
+					try (Stream<Path> files = Files.list(packagePath)) {
+						for (Path classFile : files.filter(Files::isRegularFile)
+								.filter(file -> file.toString().endsWith(DependencyAnalyzer.CLASS_SUFFIX)).toList()) {
+							classes.add(new ClassMethods(Files.readAllBytes(classFile), JrtClasses.this));
+						}
+					}
+				}
+			} catch (IOException e) {
+				if (readFailed.compareAndSet(false, true) && errorConsumer != null) {
+					errorConsumer.accept("Can't read the classes of the java runtime", e);
+				}
+				// don't store an incomplete package
+				return toMap(classes);
+			}
+			try {
+				signatureStore.put(key, classes);
+			} catch (IOException e) {
+				// the same problem is likely to happen for all other packages, so only report it once
+				if (storeFailed.compareAndSet(false, true) && errorConsumer != null) {
+					errorConsumer.accept("Can't store the analyzed classes of the java runtime", e);
+				}
+			}
+		}
+		return toMap(classes);
+	}
+
+	private static Map<String, ClassMethods> toMap(List<ClassMethods> classes) {
+		Map<String, ClassMethods> map = new HashMap<>();
+		for (ClassMethods methods : classes) {
+			methods.definitions().forEach(def -> map.put(def.name(), methods));
+		}
+		return map;
+	}
+
 	private Optional<ClassMethods> lookupJreClass(String classPath) {
 //	Paths in the "jrt:/" NIO filesystem are of this form:
 //
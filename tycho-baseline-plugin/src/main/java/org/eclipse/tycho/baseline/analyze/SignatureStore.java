@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.baseline.analyze;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Persistent store of analyzed classes, shared by all modules and builds using
+ * the same location (usually inside the local repository). Entries are keyed by
+ * the digest of the content they were computed from, so they never need to be
+ * invalidated. Only the classes as read from the class files are stored, the
+ * inherited methods are still resolved against the current class resolver.
+ */
+public class SignatureStore {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final Path location;
+
+	/**
+	 * Creates a new store at the given location.
+	 *
+	 * @param location the folder where the signatures are stored
+	 */
+	public SignatureStore(File location) {
+		this.location = location.toPath();
+	}
+
+	/**
+	 * Reads the classes stored for the given key.
+	 *
+	 * @param key      the key, see {@link #getKey(Path)}
+	 * @param resolver resolver for looking up referenced classes
+	 * @return the stored classes, or {@code null} if nothing is stored for the key
+	 */
+	List<ClassMethods> get(String key, Function<String, Optional<ClassMethods>> resolver) {
+		Path file = location.resolve(key + ".sig");
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new InflaterInputStream(Files.newInputStream(file))))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			int count = in.readInt();
+			List<ClassMethods> classes = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				classes.add(ClassMethods.read(in, resolver));
+			}
+			return classes;
+		} catch (IOException e) {
+			// unreadable entries are simply computed again
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given classes under the given key.
+	 *
+	 * @param key     the key, see {@link #getKey(Path)}
+	 * @param classes the classes to store
+	 * @throws IOException if writing failed
+	 */
+	void put(String key, Collection<ClassMethods> classes) throws IOException {
+		Path file = location.resolve(key + ".sig");
+		Files.createDirectories(file.getParent());
+		Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new DeflaterOutputStream(Files.newOutputStream(tmp))))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(classes.size());
+				for (ClassMethods methods : classes) {
+					methods.write(out);
+				}
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * @param jar the jar file
+	 * @return the key for the classes of the given jar file
+	 * @throws IOException if reading the jar failed
+	 */
+	static String getKey(Path jar) throws IOException {
+		String digest = digest(jar);
+		return "jar/" + digest.substring(0, 2) + "/" + digest.substring(2);
+	}
+
+	static String digest(Path file) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+		try (InputStream stream = new DigestInputStream(Files.newInputStream(file), digest)) {
+			stream.transferTo(OutputStream.nullOutputStream());
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+}
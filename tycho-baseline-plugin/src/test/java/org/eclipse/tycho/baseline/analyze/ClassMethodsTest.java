@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.baseline.analyze;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+public class ClassMethodsTest {
+
+	private static final Function<String, Optional<ClassMethods>> NO_REFERENCES = name -> Optional.empty();
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		ClassMethods methods = new ClassMethods(createClass(Opcodes.ACC_PUBLIC, "test/Foo", "<T:Ljava/lang/Object;>",
+				"test/Base", new String[] { "test/I1", "test/I2" }), NO_REFERENCES);
+		byte[] written = write(methods);
+
+		ClassMethods read = read(written);
+
+		assertArrayEquals(written, write(read));
+		assertEquals(List.of("test/Foo"), read.definitions().map(ClassDef::name).toList());
+		ClassDef def = read.definitions().findFirst().orElseThrow();
+		assertEquals("<T:Ljava/lang/Object;>", def.signature());
+		assertEquals("test/Base", def.superName());
+		assertEquals(List.of("test/I1", "test/I2"), List.of(def.interfaces()));
+		assertEquals(getIds(methods), getIds(read));
+		assertEquals(Set.of("test/Foo#<init>()V", "test/Foo#get()Ljava/lang/Object;"), getIds(read));
+	}
+
+	@Test
+	public void testRoundTripWithoutSignatureAndInterfaces() throws IOException {
+		ClassMethods methods = new ClassMethods(createClass(Opcodes.ACC_PUBLIC | Opcodes.ACC_INTERFACE
+				| Opcodes.ACC_ABSTRACT, "test/Root", null, "java/lang/Object", null), NO_REFERENCES);
+		byte[] written = write(methods);
+
+		ClassMethods read = read(written);
+
+		assertArrayEquals(written, write(read));
+		ClassDef def = read.definitions().findFirst().orElseThrow();
+		assertNull(def.signature());
+		assertEquals(0, def.interfaces().length);
+	}
+
+	@Test
+	public void testRoundTripOfPrivateClass() throws IOException {
+		// the methods of a private class have no class definition, written as index -1
+		ClassMethods methods = new ClassMethods(
+				createClass(Opcodes.ACC_PRIVATE, "test/Hidden", null, "java/lang/Object", null), NO_REFERENCES);
+		byte[] written = write(methods);
+
+		ClassMethods read = read(written);
+
+		assertArrayEquals(written, write(read));
+		assertEquals(List.of(), read.definitions().toList());
+	}
+
+	private static Set<String> getIds(ClassMethods methods) {
+		return methods.provides().map(MethodSignature::id).collect(Collectors.toSet());
+	}
+
+	private static byte[] write(ClassMethods methods) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			methods.write(out);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static ClassMethods read(byte[] bytes) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+			return ClassMethods.read(in, NO_REFERENCES);
+		}
+	}
+
+	private static byte[] createClass(int access, String name, String signature, String superName,
+			String[] interfaces) {
+		ClassWriter writer = new ClassWriter(0);
+		writer.visit(Opcodes.V17, access, name, signature, superName, interfaces);
+		writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null).visitEnd();
+		writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, "get", "()Ljava/lang/Object;", "()TT;", null)
+				.visitEnd();
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+}
@@ -19,7 +19,6 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
@@ -28,8 +27,6 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -155,112 +152,96 @@ public class TychoGraphBuilder implements GraphBuilder {
 		List<MavenProject> projects = graph.getAllProjects();
 		Map<String, MavenProject> projectIdMap = projects.stream()
 				.collect(Collectors.toMap(p -> getProjectKey(p), Function.identity()));
-		int degreeOfConcurrency = request.getDegreeOfConcurrency();
-		Optional<ExecutorService> executor;
-		if (degreeOfConcurrency > 1) {
-			executor = Optional.of(new ForkJoinPool(degreeOfConcurrency));
-		} else {
-			executor = Optional.empty();
-		}
 		Set<MavenProject> selectedProjects = ConcurrentHashMap.newKeySet();
+		ProjectDependencyClosure dependencyClosure;
 		try {
-			ProjectDependencyClosure dependencyClosure;
-			try {
-				dependencyClosure = dependencyProcessor.computeProjectDependencyClosure(projects, session);
-			} catch (CoreException e) {
-				log.error("Cannot resolve projects", e);
-				return Result.error(graph, toProblems(e.getStatus(), new ArrayList<>()));
-			}
+			dependencyClosure = dependencyProcessor.computeProjectDependencyClosure(projects, session);
+		} catch (CoreException e) {
+			log.error("Cannot resolve projects", e);
+			return Result.error(graph, toProblems(e.getStatus(), new ArrayList<>()));
+		}
 
-			if (DEBUG) {
-				for (MavenProject project : projects) {
-					ProjectDependencies depends = dependencyClosure.getProjectDependecies(project);
-					// we fetch all dependencies here without filtering, because the goal is to find
-					// as many projects that are maybe required
-					Collection<IInstallableUnit> dependencies = depends.getDependencies(List.of());
-					if (dependencies.isEmpty()) {
-						continue;
-					}
-					log.info("[[ project " + project.getName() + " depends on: ]]");
-					for (IInstallableUnit dependency : dependencies) {
-						Optional<MavenProject> mavenProject = dependencyClosure.getProject(dependency);
-						if (mavenProject.isEmpty()) {
-							log.info(" IU: " + dependency);
-						} else {
-							log.info(" IU: " + dependency + " [of project " + mavenProject.get().getName() + "]");
-						}
+		if (DEBUG) {
+			for (MavenProject project : projects) {
+				ProjectDependencies depends = dependencyClosure.getProjectDependecies(project);
+				// we fetch all dependencies here without filtering, because the goal is to find
+				// as many projects that are maybe required
+				Collection<IInstallableUnit> dependencies = depends.getDependencies(List.of());
+				if (dependencies.isEmpty()) {
+					continue;
+				}
+				log.info("[[ project " + project.getName() + " depends on: ]]");
+				for (IInstallableUnit dependency : dependencies) {
+					Optional<MavenProject> mavenProject = dependencyClosure.getProject(dependency);
+					if (mavenProject.isEmpty()) {
+						log.info(" IU: " + dependency);
+					} else {
+						log.info(" IU: " + dependency + " [of project " + mavenProject.get().getName() + "]");
 					}
 				}
 			}
-			Queue<ProjectRequest> queue = new ConcurrentLinkedQueue<>(graph.getSortedProjects().stream()
-					.map(p -> new ProjectRequest(p, makeDownstream, makeUpstream, null)).toList());
-			if (DEBUG) {
-				log.info("Computing additional " + makeBehavior
-					+ " dependencies based on initial project set of " + queue.stream().map(r -> r.mavenProject)
-							.map(MavenProject::getName).collect(Collectors.joining(", ")));
-			}
-			while (!queue.isEmpty()) {
-				ProjectRequest projectRequest = queue.poll();
-				if (selectedProjects.add(projectRequest.mavenProject)) {
-					if (projectRequest.addDependencies) {
-						// we fetch all dependencies here without filtering for the context, because the
-						// goal is to find as many projects that are might be required
-						dependencyClosure.getDependencyProjects(projectRequest.mavenProject, List.of())
-								.forEach(project -> {
+		}
+		Queue<ProjectRequest> queue = new ConcurrentLinkedQueue<>(graph.getSortedProjects().stream()
+				.map(p -> new ProjectRequest(p, makeDownstream, makeUpstream, null)).toList());
+		if (DEBUG) {
+			log.info("Computing additional " + makeBehavior
+				+ " dependencies based on initial project set of " + queue.stream().map(r -> r.mavenProject)
+						.map(MavenProject::getName).collect(Collectors.joining(", ")));
+		}
+		while (!queue.isEmpty()) {
+			ProjectRequest projectRequest = queue.poll();
+			if (selectedProjects.add(projectRequest.mavenProject)) {
+				if (projectRequest.addDependencies) {
+					// we fetch all dependencies here without filtering for the context, because the
+					// goal is to find as many projects that are might be required
+					dependencyClosure.getDependencyProjects(projectRequest.mavenProject, List.of())
+							.forEach(project -> {
+						if (DEBUG) {
+							log.info(" + add dependency project '" + project.getId() + "' of project '"
+								+ projectRequest.mavenProject.getId() + "'");
+						}
+						// we also need to add the dependencies of the dependency project
+						queue.add(new ProjectRequest(project, false, true, projectRequest));
+					});
+					// special case: a (transitive) Tycho project might have declared a dependency
+					// to another project in the reactor but this can not be discovered by maven
+					// before we add it here...
+					List<Dependency> dependencies = projectRequest.mavenProject.getDependencies();
+					for (Dependency dependency : dependencies) {
+						MavenProject reactorMavenProjectDependency = projectIdMap.get(getProjectKey(dependency));
+						if (reactorMavenProjectDependency != null) {
 							if (DEBUG) {
-								log.info(" + add dependency project '" + project.getId() + "' of project '"
-									+ projectRequest.mavenProject.getId() + "'");
-							}
-							// we also need to add the dependencies of the dependency project
-							queue.add(new ProjectRequest(project, false, true, projectRequest));
-						});
-						// special case: a (transitive) Tycho project might have declared a dependency
-						// to another project in the reactor but this can not be discovered by maven
-						// before we add it here...
-						List<Dependency> dependencies = projectRequest.mavenProject.getDependencies();
-						for (Dependency dependency : dependencies) {
-							MavenProject reactorMavenProjectDependency = projectIdMap.get(getProjectKey(dependency));
-							if (reactorMavenProjectDependency != null) {
-								if (DEBUG) {
-									log.info(" + add (maven) dependency project '"
-											+ reactorMavenProjectDependency.getId() + "' of project '"
-											+ projectRequest.mavenProject.getId() + "'");
-								}
-								queue.add(
-										new ProjectRequest(reactorMavenProjectDependency, false, true, projectRequest));
+								log.info(" + add (maven) dependency project '"
+										+ reactorMavenProjectDependency.getId() + "' of project '"
+										+ projectRequest.mavenProject.getId() + "'");
 							}
+							queue.add(
+									new ProjectRequest(reactorMavenProjectDependency, false, true, projectRequest));
 						}
 					}
-					if (projectRequest.addRequires) {
-						dependencyClosure.dependencies(always -> List.of())//
-								.filter(entry -> entry.getValue().stream()//
-										.flatMap(dependency -> dependencyClosure.getProject(dependency).stream())//
-										.anyMatch(projectRequest::matches))//
-								.map(Entry::getKey)//
-								.distinct()//
-								.peek(project -> {
-									if (DEBUG) {
-										log.info(" + add project '" + project.getId() + "' that depends on '"
-												+ projectRequest.mavenProject.getId() + "'...");
-									}
-								})//
-								// request dependencies of dependants, otherwise, -amd would not be able to
-								// produce a satisfiable build graph
-								.forEach(project -> queue.add(new ProjectRequest(project, true, true, projectRequest)));
+				}
+				if (projectRequest.addRequires) {
+					for (MavenProject project : dependencyClosure
+							.getDependantProjects(projectRequest.mavenProject)) {
+						if (DEBUG) {
+							log.info(" + add project '" + project.getId() + "' that depends on '"
+									+ projectRequest.mavenProject.getId() + "'...");
+						}
+						// request dependencies of dependants, otherwise, -amd would not be able to
+						// produce a satisfiable build graph
+						queue.add(new ProjectRequest(project, true, true, projectRequest));
 					}
 				}
 			}
-			// add target projects always, they don't really add to the build times but are
-			// needed if referenced inside projects we might be more selective and choose
-			// target projects depending on project configuration
-			for (MavenProject mavenProject : projects) {
-				if (PackagingType.TYPE_ECLIPSE_TARGET_DEFINITION.equals(mavenProject.getPackaging())) {
-					selectedProjects.add(mavenProject);
-				}
-
+		}
+		// add target projects always, they don't really add to the build times but are
+		// needed if referenced inside projects we might be more selective and choose
+		// target projects depending on project configuration
+		for (MavenProject mavenProject : projects) {
+			if (PackagingType.TYPE_ECLIPSE_TARGET_DEFINITION.equals(mavenProject.getPackaging())) {
+				selectedProjects.add(mavenProject);
 			}
-		} finally {
-			executor.ifPresent(ExecutorService::shutdownNow);
+
 		}
 
 		try {
@@ -336,10 +317,6 @@ public class TychoGraphBuilder implements GraphBuilder {
 			this.mavenProject = mavenProject;
 		}
 
-		boolean matches(MavenProject mavenproject) {
-			return this.mavenProject == mavenproject;
-		}
-
 		@Override
 		public String toString() {
 			return "ProjectRequest [mavenProject=" + mavenProject + ", parent=" + parent + ", addRequires="
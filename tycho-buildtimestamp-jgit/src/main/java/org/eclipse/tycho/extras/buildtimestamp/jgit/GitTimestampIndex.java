@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.extras.buildtimestamp.jgit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import org.eclipse.jgit.lib.IndexDiff;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.submodule.SubmoduleWalk.IgnoreSubmoduleMode;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+
+/**
+ * Index of the most recent commit times of a set of module paths of one git
+ * repository at a given HEAD. The history is walked only once for all modules
+ * together, following the same history simplification as a {@link RevWalk}
+ * with a path filter would do for each module on its own, and the working tree
+ * status is computed only once for the whole repository.
+ */
+final class GitTimestampIndex {
+
+	private static final Comparator<Pending> NEWEST_FIRST = Comparator.comparingInt(Pending::commitTime).reversed()
+			.thenComparingLong(Pending::sequence);
+
+	private final List<String> paths;
+	private final List<PathFilter> filters;
+	private final Map<String, Integer> commitTimes = new HashMap<>();
+	private IndexDiff workingTreeDiff;
+
+	/**
+	 * Creates the index and walks the history for all given module paths
+	 *
+	 * @param repository   the repository to use
+	 * @param headId       the commit to start from
+	 * @param paths        the module paths relative to the work tree (unix-style),
+	 *                     an empty path denotes the whole repository
+	 * @param ignoreFilter gitignore style patterns of files to ignore, might be
+	 *                     <code>null</code>
+	 * @throws IOException if reading the repository failed
+	 */
+	GitTimestampIndex(Repository repository, ObjectId headId, Collection<String> paths, String ignoreFilter)
+			throws IOException {
+		this.paths = new ArrayList<>(new LinkedHashSet<>(paths));
+		this.filters = new ArrayList<>(this.paths.size());
+		for (String path : this.paths) {
+			filters.add(path.isEmpty() ? null : new PathFilter(path, ignoreFilter));
+		}
+		computeCommitTimes(repository, headId);
+	}
+
+	/**
+	 * @param path the module path
+	 * @return <code>true</code> if the given module path is part of this index
+	 */
+	boolean contains(String path) {
+		return paths.contains(path);
+	}
+
+	/**
+	 * @param path the module path
+	 * @return the commit time (in seconds) of the most recent commit touching the
+	 *         module or <code>null</code> if there is no such commit
+	 */
+	Integer getCommitTime(String path) {
+		return commitTimes.get(path);
+	}
+
+	/**
+	 * Checks if the given file belongs to the given module, respecting the ignore
+	 * filter of this index
+	 *
+	 * @param modulePath the module path
+	 * @param filePath   the path of the file relative to the work tree
+	 * @return <code>true</code> if the file is part of the module
+	 */
+	boolean isModuleFile(String modulePath, String filePath) {
+		PathFilter filter = filters.get(paths.indexOf(modulePath));
+		return filter == null || filter.include(filePath);
+	}
+
+	/**
+	 * @param repository the repository to use
+	 * @param headId     the commit to compare the working tree with
+	 * @return the (lazily computed) difference of the working tree to HEAD for the
+	 *         whole repository, ignoring all submodules
+	 * @throws IOException if reading the repository failed
+	 */
+	synchronized IndexDiff getWorkingTreeDiff(Repository repository, ObjectId headId) throws IOException {
+		if (workingTreeDiff == null) {
+			IndexDiff diff = new IndexDiff(repository, headId, new FileTreeIterator(repository));
+			diff.setIgnoreSubmoduleMode(IgnoreSubmoduleMode.ALL);
+			diff.diff();
+			workingTreeDiff = diff;
+		}
+		return workingTreeDiff;
+	}
+
+	private void computeCommitTimes(Repository repository, ObjectId headId) throws IOException {
+		BitSet unresolved = new BitSet(paths.size());
+		unresolved.set(0, paths.size());
+		try (RevWalk walk = new RevWalk(repository); TreeWalk treeWalk = new TreeWalk(repository)) {
+			treeWalk.setRecursive(true);
+			RevCommit head = walk.parseCommit(headId);
+			for (int i = 0; i < paths.size(); i++) {
+				if (filters.get(i) == null) {
+					// the whole repository, this is always the HEAD commit
+					commitTimes.put(paths.get(i), head.getCommitTime());
+					unresolved.clear(i);
+				}
+			}
+			Map<RevCommit, BitSet> pending = new HashMap<>();
+			Map<RevCommit, BitSet> seen = new HashMap<>();
+			PriorityQueue<Pending> queue = new PriorityQueue<>(NEWEST_FIRST);
+			long sequence = 0;
+			pending.put(head, (BitSet) unresolved.clone());
+			seen.put(head, (BitSet) unresolved.clone());
+			queue.add(new Pending(head, head.getCommitTime(), sequence++));
+			while (!queue.isEmpty() && !unresolved.isEmpty()) {
+				RevCommit commit = queue.poll().commit();
+				BitSet active = pending.remove(commit);
+				active.and(unresolved);
+				if (active.isEmpty()) {
+					continue;
+				}
+				RevCommit[] parents = commit.getParents();
+				BitSet[] changed = new BitSet[parents.length];
+				BitSet included;
+				if (parents.length == 0) {
+					// a root commit is included if it contains any file of the module
+					treeWalk.reset(commit.getTree());
+					treeWalk.setFilter(TreeFilter.ALL);
+					included = getModules(treeWalk, active);
+				} else {
+					included = (BitSet) active.clone();
+					for (int i = 0; i < parents.length; i++) {
+						walk.parseHeaders(parents[i]);
+						treeWalk.reset(parents[i].getTree(), commit.getTree());
+						treeWalk.setFilter(TreeFilter.ANY_DIFF);
+						changed[i] = getModules(treeWalk, active);
+						included.and(changed[i]);
+					}
+				}
+				for (int m = included.nextSetBit(0); m >= 0; m = included.nextSetBit(m + 1)) {
+					commitTimes.put(paths.get(m), commit.getCommitTime());
+					unresolved.clear(m);
+				}
+				// for all other modules the commit is the same as (at least) one parent, like
+				// RevWalk we only follow the first such parent
+				BitSet remaining = (BitSet) active.clone();
+				remaining.andNot(included);
+				for (int i = 0; i < parents.length && !remaining.isEmpty(); i++) {
+					BitSet follow = (BitSet) remaining.clone();
+					follow.andNot(changed[i]);
+					remaining.andNot(follow);
+					BitSet parentSeen = seen.computeIfAbsent(parents[i], p -> new BitSet());
+					follow.andNot(parentSeen);
+					if (follow.isEmpty()) {
+						continue;
+					}
+					parentSeen.or(follow);
+					BitSet parentPending = pending.get(parents[i]);
+					if (parentPending == null) {
+						pending.put(parents[i], follow);
+						queue.add(new Pending(parents[i], parents[i].getCommitTime(), sequence++));
+					} else {
+						parentPending.or(follow);
+					}
+				}
+			}
+		}
+	}
+
+	private BitSet getModules(TreeWalk treeWalk, BitSet candidates) throws IOException {
+		BitSet result = new BitSet(paths.size());
+		BitSet open = (BitSet) candidates.clone();
+		while (!open.isEmpty() && treeWalk.next()) {
+			String path = treeWalk.getPathString();
+			for (int m = open.nextSetBit(0); m >= 0; m = open.nextSetBit(m + 1)) {
+				if (filters.get(m).include(path)) {
+					result.set(m);
+					open.clear(m);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static record Pending(RevCommit commit, int commitTime, long sequence) {
+
+	}
+}
@@ -14,37 +14,40 @@ package org.eclipse.tycho.extras.buildtimestamp.jgit;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Plugin;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.logging.Logger;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
-import org.eclipse.jgit.api.Status;
+import org.eclipse.aether.SessionData;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.IndexDiff;
 import org.eclipse.jgit.lib.ObjectId;
 import org.eclipse.jgit.lib.Repository;
-import org.eclipse.jgit.revwalk.RevCommit;
-import org.eclipse.jgit.revwalk.RevWalk;
 import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
-import org.eclipse.jgit.submodule.SubmoduleWalk.IgnoreSubmoduleMode;
-import org.eclipse.jgit.treewalk.FileTreeIterator;
-import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
-import org.eclipse.jgit.treewalk.filter.TreeFilter;
 import org.eclipse.tycho.build.BuildTimestampProvider;
 
 /**
@@ -138,7 +141,6 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 		try {
 			try (Repository repository = builder.build()) {
 				String relPath = getRelPath(repository, project);
-				TreeFilter pathFilter = createPathFilter(relPath, execution);
 				ObjectId headId = repository.resolve(Constants.HEAD);
 				if (headId == null) {
 					String message = "Git repository without HEAD on " + project.getBasedir()
@@ -149,25 +151,21 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 					}
 					return defaultTimestampProvider.getTimestamp(session, project, execution);
 				}
+				GitTimestampIndex index = getIndex(session, repository, headId, relPath, execution);
 				DirtyBehavior dirtyBehaviour = DirtyBehavior
 						.getDirtyWorkingTreeBehaviour(getDirtyBehaviorValue(execution));
 				if (dirtyBehaviour != DirtyBehavior.IGNORE) {
 					// 1. check if 'git status' is clean for relPath
-					IndexDiff diff = new IndexDiff(repository, headId, new FileTreeIterator(repository));
-					// Ignore all the submodules (together with the pathFilter this will ignore
+					// Ignore all the submodules (together with the path filter this will ignore
 					// changes done in not related submodules #480951)
-					diff.setIgnoreSubmoduleMode(IgnoreSubmoduleMode.ALL);
-					if (pathFilter != null) {
-						diff.setFilter(pathFilter);
-					}
-					diff.diff();
-					Status status = new Status(diff);
-					if (!status.isClean()) {
+					IndexDiff diff = index.getWorkingTreeDiff(repository, headId);
+					Predicate<String> pathFilter = path -> index.isModuleFile(relPath, path);
+					if (!isClean(diff, pathFilter)) {
 						if (dirtyBehaviour == DirtyBehavior.FALLBACK) {
 							return defaultTimestampProvider.getTimestamp(session, project, execution);
 						}
 						String message = "Working tree is dirty.\ngit status " + (relPath != null ? relPath : "")
-								+ ":\n" + toGitStatusStyleOutput(diff);
+								+ ":\n" + toGitStatusStyleOutput(diff, pathFilter);
 						if (dirtyBehaviour == DirtyBehavior.WARNING) {
 							if (!quiet) {
 								logger.warn(message);
@@ -183,22 +181,15 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 					}
 				}
 				// 2. get latest commit for relPath
-				try (RevWalk walk = new RevWalk(repository)) {
-					if (pathFilter != null) {
-						walk.setTreeFilter(AndTreeFilter.create(pathFilter, TreeFilter.ANY_DIFF));
-					}
-					walk.markStart(walk.parseCommit(headId));
-					walk.setRewriteParents(false);
-					RevCommit commit = walk.next();
-					// When dirtyBehaviour==ignore and no commit was ever done,
-					// the commit is null, so we fallback to the defaultTimestampProvider
-					if (commit == null) {
-						logger.info(
-								"Fallback to default timestamp provider, because no commit could be found for that project (Shared but not committed yet).");
-						return defaultTimestampProvider.getTimestamp(session, project, execution);
-					}
-					return new Date(commit.getCommitTime() * 1000L);
+				Integer commitTime = index.getCommitTime(relPath);
+				// When dirtyBehaviour==ignore and no commit was ever done,
+				// the commit is null, so we fallback to the defaultTimestampProvider
+				if (commitTime == null) {
+					logger.info(
+							"Fallback to default timestamp provider, because no commit could be found for that project (Shared but not committed yet).");
+					return defaultTimestampProvider.getTimestamp(session, project, execution);
 				}
+				return new Date(commitTime * 1000L);
 			}
 		} catch (IOException e) {
 			throw new MojoExecutionException("Could not determine git commit timestamp", e);
@@ -206,7 +197,7 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 	}
 
 	private String getDirtyBehaviorValue(MojoExecution execution) {
-		Xpp3Dom pluginConfiguration = getDom(execution);
+		Xpp3Dom pluginConfiguration = getDom(execution.getPlugin().getConfiguration());
 		if (pluginConfiguration != null) {
 			Xpp3Dom dirtyWorkingTreeDom = pluginConfiguration.getChild(PARAMETER_JGIT_DIRTY_WORKING_TREE);
 			if (dirtyWorkingTreeDom != null) {
@@ -219,15 +210,76 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 		return System.getProperty(PARAMETER_JGIT_DIRTY_WORKING_TREE);
 	}
 
-	private static TreeFilter createPathFilter(String relPath, MojoExecution execution) {
-		if (relPath != null && !relPath.isEmpty()) {
-			return new PathFilter(relPath, getIgnoreFilter(execution));
+	/**
+	 * Returns the index for the given HEAD shared by all projects of the session
+	 * that use the same ignore filter. The index is computed for all projects of
+	 * the session inside the git work tree at once, so the history only needs to be
+	 * walked once for the whole reactor.
+	 */
+	private GitTimestampIndex getIndex(MavenSession session, Repository repository, ObjectId headId, String relPath,
+			MojoExecution execution) throws IOException {
+		String ignoreFilter = getIgnoreFilter(execution.getPlugin());
+		String key = repository.getWorkTree().getCanonicalPath() + "@" + headId.name() + "\n" + ignoreFilter;
+		Map<String, FutureTask<GitTimestampIndex>> indexMap = getIndexMap(session);
+		FutureTask<GitTimestampIndex> task = new FutureTask<>(() -> {
+			List<String> paths = new ArrayList<>();
+			paths.add(relPath);
+			for (MavenProject project : session.getProjects()) {
+				Plugin plugin = project.getPlugin(execution.getPlugin().getKey());
+				if (plugin != null && Objects.equals(ignoreFilter, getIgnoreFilter(plugin))) {
+					try {
+						paths.add(getRelPath(repository, project));
+					} catch (IOException e) {
+						// not part of this git repository
+					}
+				}
+			}
+			return new GitTimestampIndex(repository, headId, paths, ignoreFilter);
+		});
+		// the history is walked outside of the map, other projects (of a parallel build) wait for
+		// the result of the same task
+		FutureTask<GitTimestampIndex> existing = indexMap.putIfAbsent(key, task);
+		if (existing == null) {
+			existing = task;
+			task.run();
 		}
-		return null;
+		GitTimestampIndex index;
+		try {
+			index = existing.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException(
+					"interrupted while waiting for the git history of " + repository.getWorkTree());
+		} catch (ExecutionException e) {
+			// let the next project try again
+			indexMap.remove(key, existing);
+			if (e.getCause() instanceof IOException ioException) {
+				throw ioException;
+			}
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IOException(e.getCause());
+		}
+		if (index.contains(relPath)) {
+			return index;
+		}
+		return new GitTimestampIndex(repository, headId, List.of(relPath), ignoreFilter);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, FutureTask<GitTimestampIndex>> getIndexMap(MavenSession session) {
+		SessionData data = session.getRepositorySession().getData();
+		Object map = data.get(GitTimestampIndex.class);
+		if (map == null) {
+			data.set(GitTimestampIndex.class, null, new ConcurrentHashMap<String, FutureTask<GitTimestampIndex>>());
+			map = data.get(GitTimestampIndex.class);
+		}
+		return (Map<String, FutureTask<GitTimestampIndex>>) map;
 	}
 
-	private static String getIgnoreFilter(MojoExecution execution) {
-		Xpp3Dom pluginConfiguration = getDom(execution);
+	private static String getIgnoreFilter(Plugin plugin) {
+		Xpp3Dom pluginConfiguration = getDom(plugin.getConfiguration());
 		if (pluginConfiguration == null) {
 			return null;
 		}
@@ -259,40 +311,53 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 		return path;
 	}
 
-	private static String toGitStatusStyleOutput(IndexDiff diff) {
+	private static boolean isClean(IndexDiff diff, Predicate<String> pathFilter) {
+		return Stream
+				.of(diff.getAdded(), diff.getChanged(), diff.getRemoved(), diff.getMissing(), diff.getModified(),
+						diff.getUntracked(), diff.getConflicting())
+				.flatMap(Set::stream).noneMatch(pathFilter);
+	}
+
+	private static String toGitStatusStyleOutput(IndexDiff diff, Predicate<String> pathFilter) {
 		StringWriter sw = new StringWriter();
 		PrintWriter pw = new PrintWriter(sw);
-		List<String> toBeCommitted = new ArrayList<>(diff.getAdded());
-		toBeCommitted.addAll(diff.getChanged());
-		toBeCommitted.addAll(diff.getRemoved());
-		if (!toBeCommitted.isEmpty()) {
+		List<String> added = filter(diff.getAdded(), pathFilter);
+		List<String> changed = filter(diff.getChanged(), pathFilter);
+		List<String> removed = filter(diff.getRemoved(), pathFilter);
+		if (!added.isEmpty() || !changed.isEmpty() || !removed.isEmpty()) {
 			pw.println("Changes to be committed:");
-			printList(pw, "\tnew file:    ", diff.getAdded());
-			printList(pw, "\tmodified:    ", diff.getChanged());
-			printList(pw, "\tdeleted:     ", diff.getRemoved());
+			printList(pw, "\tnew file:    ", added);
+			printList(pw, "\tmodified:    ", changed);
+			printList(pw, "\tdeleted:     ", removed);
 		}
-		List<String> notStaged = new ArrayList<>(diff.getModified());
-		notStaged.addAll(diff.getMissing());
-		if (!notStaged.isEmpty()) {
+		List<String> modified = filter(diff.getModified(), pathFilter);
+		List<String> missing = filter(diff.getMissing(), pathFilter);
+		if (!modified.isEmpty() || !missing.isEmpty()) {
 			pw.println();
 			pw.println("Changes not staged for commit:");
-			printList(pw, "\tmodified:    ", diff.getModified());
-			printList(pw, "\tdeleted:     ", diff.getMissing());
+			printList(pw, "\tmodified:    ", modified);
+			printList(pw, "\tdeleted:     ", missing);
 		}
-		if (!diff.getConflicting().isEmpty()) {
+		List<String> conflicting = filter(diff.getConflicting(), pathFilter);
+		if (!conflicting.isEmpty()) {
 			pw.println();
 			pw.println("Conflicting files:");
-			printList(pw, "\tconflict:    ", diff.getConflicting());
+			printList(pw, "\tconflict:    ", conflicting);
 		}
-		if (!diff.getUntracked().isEmpty()) {
+		List<String> untracked = filter(diff.getUntracked(), pathFilter);
+		if (!untracked.isEmpty()) {
 			pw.println();
 			pw.println("Untracked files:");
-			printList(pw, "\t", diff.getUntracked());
+			printList(pw, "\t", untracked);
 		}
 		return sw.toString();
 	}
 
-	private static void printList(PrintWriter witer, String prefix, Set<String> files) {
+	private static List<String> filter(Set<String> files, Predicate<String> pathFilter) {
+		return files.stream().filter(pathFilter).toList();
+	}
+
+	private static void printList(PrintWriter witer, String prefix, List<String> files) {
 		for (String file : files) {
 			witer.println(prefix + file);
 		}
@@ -303,8 +368,7 @@ public class JGitBuildTimestampProvider implements BuildTimestampProvider {
 		this.quiet = quiet;
 	}
 
-	private static Xpp3Dom getDom(MojoExecution execution) {
-		Object config = execution.getPlugin().getConfiguration();
+	private static Xpp3Dom getDom(Object config) {
 		if (config == null) {
 			return null;
 		}
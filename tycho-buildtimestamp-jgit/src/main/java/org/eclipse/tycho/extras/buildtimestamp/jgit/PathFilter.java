@@ -28,10 +28,13 @@ public class PathFilter extends TreeFilter {
 	private static final Pattern FILTER_DELIMITER = Pattern.compile("[\n\r\f]");
 	private final byte[] basedir;
 
+	private final String basedirPath;
+
 	private final List<FastIgnoreRule> rules;
 
 	public PathFilter(String basedir, String filters) {
 		this.basedir = Constants.encode(basedir);
+		this.basedirPath = basedir;
 
 		Stream<FastIgnoreRule> standardRules = Stream.of(
 				// the consumer pom generated by the UpdateConsumerPomMojo
@@ -58,17 +61,36 @@ public class PathFilter extends TreeFilter {
 		}
 
 		if (!tw.isSubtree()) {
-			String path = tw.getPathString();
-			for (FastIgnoreRule rule : rules) {
-				if (rule.isMatch(path, tw.isSubtree())) {
-					return !rule.getResult();
-				}
-			}
+			return isIncluded(tw.getPathString());
 		}
 
 		return true;
 	}
 
+	/**
+	 * Checks if the given file path (relative to the work tree, unix-style) is
+	 * matched by this filter
+	 * 
+	 * @param path the path of a file
+	 * @return <code>true</code> if the file is under the basedir and not ignored
+	 */
+	public boolean include(String path) {
+		if (!path.startsWith(basedirPath)
+				|| (path.length() > basedirPath.length() && path.charAt(basedirPath.length()) != '/')) {
+			return false;
+		}
+		return isIncluded(path);
+	}
+
+	private boolean isIncluded(String path) {
+		for (FastIgnoreRule rule : rules) {
+			if (rule.isMatch(path, false)) {
+				return !rule.getResult();
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public boolean shouldBeRecursive() {
 		return true;
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.extras.buildtimestamp.jgit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GitTimestampIndexTest {
+
+	private static final List<String> MODULES = List.of("", "a", "b", "c", "untouched", "missing");
+
+	@TempDir
+	File workTree;
+
+	@Test
+	public void testSameTimestampsAsWalkPerModule() throws Exception {
+		try (Git git = Git.init().setDirectory(workTree).setInitialBranch("main").call()) {
+			write("a/file.txt", "a");
+			write("b/file.txt", "b");
+			write("c/file.txt", "c");
+			write("untouched/file.txt", "untouched");
+			commit(git, 1000);
+
+			git.checkout().setCreateBranch(true).setName("feature").call();
+			write("a/file.txt", "a changed on feature");
+			write("b/feature.txt", "b added on feature");
+			commit(git, 2000);
+
+			git.checkout().setName("main").call();
+			write("b/file.txt", "b changed on main");
+			commit(git, 3000);
+			// b differs from both parents after the merge, a is taken from feature
+			git.merge().include(git.getRepository().resolve("feature")).setCommit(false).call();
+			commit(git, 4000);
+
+			git.rm().addFilepattern("c/file.txt").call();
+			write("c/renamed.txt", "c");
+			commit(git, 5000);
+
+			git.rm().addFilepattern("a/file.txt").call();
+			write("b/moved.txt", "a changed on feature");
+			commit(git, 6000);
+
+			// ignored by default, e.g. created by a pomless build
+			write("c/.polyglot.build.properties", "ignored");
+			commit(git, 7000);
+
+			Repository repository = git.getRepository();
+			ObjectId head = repository.resolve(Constants.HEAD);
+			GitTimestampIndex index = new GitTimestampIndex(repository, head, MODULES, null);
+			for (String module : MODULES) {
+				assertEquals(getCommitTimeByWalk(repository, head, module, null), index.getCommitTime(module),
+						module);
+			}
+			assertEquals(7000, index.getCommitTime(""));
+			assertEquals(6000, index.getCommitTime("a"));
+			assertEquals(6000, index.getCommitTime("b"));
+			assertEquals(5000, index.getCommitTime("c"));
+			assertEquals(1000, index.getCommitTime("untouched"));
+			assertNull(index.getCommitTime("missing"));
+		}
+	}
+
+	@Test
+	public void testMergeOfUnrelatedModules() throws Exception {
+		try (Git git = Git.init().setDirectory(workTree).setInitialBranch("main").call()) {
+			write("a/file.txt", "a");
+			write("b/file.txt", "b");
+			commit(git, 1000);
+
+			git.checkout().setCreateBranch(true).setName("feature").call();
+			write("a/file.txt", "a changed on feature");
+			commit(git, 3000);
+
+			git.checkout().setName("main").call();
+			write("b/file.txt", "b changed on main");
+			commit(git, 2000);
+			git.merge().include(git.getRepository().resolve("feature")).setCommit(false).call();
+			commit(git, 4000);
+
+			Repository repository = git.getRepository();
+			ObjectId head = repository.resolve(Constants.HEAD);
+			GitTimestampIndex index = new GitTimestampIndex(repository, head, MODULES, null);
+			for (String module : MODULES) {
+				assertEquals(getCommitTimeByWalk(repository, head, module, null), index.getCommitTime(module),
+						module);
+			}
+			// the merge itself does not change any module compared to one of its parents
+			assertEquals(3000, index.getCommitTime("a"));
+			assertEquals(2000, index.getCommitTime("b"));
+		}
+	}
+
+	@Test
+	public void testIgnoreFilter() throws Exception {
+		try (Git git = Git.init().setDirectory(workTree).setInitialBranch("main").call()) {
+			write("a/file.txt", "a");
+			commit(git, 1000);
+			write("a/generated.txt", "generated");
+			commit(git, 2000);
+
+			Repository repository = git.getRepository();
+			ObjectId head = repository.resolve(Constants.HEAD);
+			GitTimestampIndex index = new GitTimestampIndex(repository, head, List.of("a"), "generated.txt");
+			assertEquals(getCommitTimeByWalk(repository, head, "a", "generated.txt"), index.getCommitTime("a"));
+			assertEquals(1000, index.getCommitTime("a"));
+		}
+	}
+
+	/**
+	 * Computes the commit time of a module the same way as it was done before the
+	 * index, with one walk per module
+	 */
+	private static Integer getCommitTimeByWalk(Repository repository, ObjectId head, String module,
+			String ignoreFilter) throws IOException {
+		try (RevWalk walk = new RevWalk(repository)) {
+			if (!module.isEmpty()) {
+				walk.setTreeFilter(AndTreeFilter.create(new PathFilter(module, ignoreFilter), TreeFilter.ANY_DIFF));
+			}
+			walk.markStart(walk.parseCommit(head));
+			walk.setRewriteParents(false);
+			RevCommit commit = walk.next();
+			return commit == null ? null : commit.getCommitTime();
+		}
+	}
+
+	private void write(String path, String content) throws IOException {
+		File file = new File(workTree, path);
+		Files.createDirectories(file.getParentFile().toPath());
+		Files.writeString(file.toPath(), content);
+	}
+
+	private static void commit(Git git, long time) throws Exception {
+		git.add().addFilepattern(".").call();
+		PersonIdent ident = new PersonIdent("test", "test@example.com", Instant.ofEpochSecond(time), ZoneOffset.UTC);
+		git.commit().setMessage("commit at " + time).setAuthor(ident).setCommitter(ident).call();
+	}
+
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The information of a class file needed for incremental compilation, read directly from the
+ * constant pool, fields and attributes of the class file.
+ *
+ * @param name
+ *            the internal name of the class, e.g. <code>org/example/Foo$Bar</code>
+ * @param sourceFile
+ *            the name of the source file as given by the <code>SourceFile</code> attribute or
+ *            derived from the name of the class if not present
+ * @param hasConstants
+ *            if the class declares non-private compile time constants that might be inlined by
+ *            other classes
+ * @param references
+ *            the internal names of all other classes referenced by this class
+ */
+record ClassFileInfo(String name, String sourceFile, boolean hasConstants, Set<String> references) {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+
+    private static final Pattern TYPE_DESCRIPTOR = Pattern.compile("L([^;<>\\[\\s]+)[;<]");
+
+    static ClassFileInfo read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a class file: " + file);
+            }
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classes = new int[count];
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classes[i] = in.readUnsignedShort();
+                // String, MethodType, Module, Package
+                case 8, 16, 19, 20 -> in.readUnsignedShort();
+                // MethodHandle
+                case 15 -> in.skipNBytes(3);
+                // Integer, Float, Fieldref, Methodref, InterfaceMethodref, NameAndType, Dynamic, InvokeDynamic
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.readInt();
+                // Long and Double take two slots
+                case 5, 6 -> {
+                    in.readLong();
+                    i++;
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag + " in " + file);
+                }
+            }
+            in.readUnsignedShort(); // access flags
+            String name = utf8[classes[in.readUnsignedShort()]];
+            in.readUnsignedShort(); // super class
+            in.skipNBytes(2L * in.readUnsignedShort()); // interfaces
+            boolean hasConstants = false;
+            int fields = in.readUnsignedShort();
+            for (int i = 0; i < fields; i++) {
+                int access = in.readUnsignedShort();
+                in.readUnsignedShort(); // name
+                in.readUnsignedShort(); // descriptor
+                int attributes = in.readUnsignedShort();
+                for (int a = 0; a < attributes; a++) {
+                    String attribute = utf8[in.readUnsignedShort()];
+                    in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+                    if ("ConstantValue".equals(attribute) && (access & ACC_PRIVATE) == 0
+                            && (access & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL)) {
+                        hasConstants = true;
+                    }
+                }
+            }
+            int methods = in.readUnsignedShort();
+            for (int i = 0; i < methods; i++) {
+                in.skipNBytes(6); // access, name, descriptor
+                int attributes = in.readUnsignedShort();
+                for (int a = 0; a < attributes; a++) {
+                    in.readUnsignedShort();
+                    in.skipNBytes(Integer.toUnsignedLong(in.readInt()));
+                }
+            }
+            String sourceFile = null;
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attribute = utf8[in.readUnsignedShort()];
+                long length = Integer.toUnsignedLong(in.readInt());
+                if ("SourceFile".equals(attribute)) {
+                    sourceFile = utf8[in.readUnsignedShort()];
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+            if (sourceFile == null) {
+                String simpleName = name.substring(name.lastIndexOf('/') + 1);
+                int nested = simpleName.indexOf('$');
+                sourceFile = (nested > 0 ? simpleName.substring(0, nested) : simpleName) + ".java";
+            }
+            Set<String> references = new TreeSet<>();
+            for (int i = 1; i < count; i++) {
+                if (classes[i] != 0) {
+                    String type = utf8[classes[i]];
+                    if (type.startsWith("[")) {
+                        addDescriptorTypes(type, references);
+                    } else {
+                        references.add(type);
+                    }
+                } else if (utf8[i] != null && utf8[i].indexOf(';') > 0) {
+                    // descriptors and generic signatures
+                    addDescriptorTypes(utf8[i], references);
+                }
+            }
+            references.remove(name);
+            references.removeIf(type -> type.startsWith("java/"));
+            return new ClassFileInfo(name, sourceFile, hasConstants, references);
+        }
+    }
+
+    /**
+     * @return the path of the source file relative to its source folder, derived from the package
+     *         of this class
+     */
+    String getSourcePath() {
+        int slash = name.lastIndexOf('/');
+        return slash < 0 ? sourceFile : name.substring(0, slash + 1) + sourceFile;
+    }
+
+    private static void addDescriptorTypes(String descriptor, Set<String> references) {
+        Matcher matcher = TYPE_DESCRIPTOR.matcher(descriptor);
+        while (matcher.find()) {
+            references.add(matcher.group(1));
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
+
+/**
+ * Build wide cache of the jars on the classpath of the compiler, keyed by path, size and last
+ * modification time of the jar.
+ * <p>
+ * The batch compiler opens (and closes) every classpath jar again for each compilation. As long as
+ * a jar is kept open here, the JDK shares the already parsed central directory with the compiler,
+ * so for the target platform jars used by all bundles of a reactor this is done only once per
+ * build instead of once per compilation. The number of jars kept open is limited by the system
+ * property <code>tycho.compiler.openJars</code>, the least recently used jars are closed first.
+ * All jars are closed at the end of the build by the {@link ClasspathJarCacheBuildListener}.
+ * </p>
+ */
+@Named
+@Singleton
+public class ClasspathJarCache implements Disposable {
+
+    static final String OPEN_JARS_PROPERTY = "tycho.compiler.openJars";
+
+    private final int maxOpenJars = Integer.getInteger(OPEN_JARS_PROPERTY, 512);
+
+    private final Map<String, CachedJar> jars = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Opens all jars of the given classpath entries that are not already open.
+     *
+     * @param classpathEntries
+     *            the classpath entries, possibly with access rules
+     */
+    public void open(Collection<String> classpathEntries) {
+        if (classpathEntries == null || maxOpenJars <= 0) {
+            return;
+        }
+        for (String entry : classpathEntries) {
+            File file = toFile(entry);
+            if (file.isFile()) {
+                get(file).open();
+            }
+        }
+    }
+
+    /**
+     * @param jar
+     *            a jar file
+     * @return the digest of the content of the given jar
+     */
+    public String getDigest(File jar) throws IOException {
+        return get(jar).getDigest();
+    }
+
+    @Override
+    public void dispose() {
+        List<CachedJar> closed;
+        synchronized (jars) {
+            closed = new ArrayList<>(jars.values());
+            jars.clear();
+        }
+        closed.forEach(CachedJar::close);
+    }
+
+    private CachedJar get(File file) {
+        String path = file.getAbsolutePath();
+        long length = file.length();
+        long lastModified = file.lastModified();
+        List<CachedJar> closed = new ArrayList<>();
+        CachedJar jar;
+        synchronized (jars) {
+            jar = jars.get(path);
+            if (jar == null || jar.length != length || jar.lastModified != lastModified) {
+                if (jar != null) {
+                    closed.add(jar);
+                }
+                jar = new CachedJar(file, length, lastModified);
+                jars.put(path, jar);
+                for (Iterator<CachedJar> iterator = jars.values().iterator(); jars.size() > Math.max(1, maxOpenJars)
+                        && iterator.hasNext();) {
+                    closed.add(iterator.next());
+                    iterator.remove();
+                }
+            }
+        }
+        closed.forEach(CachedJar::close);
+        return jar;
+    }
+
+    static File toFile(String classpathEntry) {
+        // strip the access rules
+        int rules = classpathEntry.indexOf('[');
+        return new File(rules < 0 ? classpathEntry : classpathEntry.substring(0, rules));
+    }
+
+    private static final class CachedJar {
+
+        private final File file;
+        private final long length;
+        private final long lastModified;
+        private ZipFile zipFile;
+        private boolean closed;
+        private String digest;
+
+        CachedJar(File file, long length, long lastModified) {
+            this.file = file;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+
+        synchronized void open() {
+            if (zipFile != null || closed) {
+                return;
+            }
+            try {
+                zipFile = new ZipFile(file);
+            } catch (IOException e) {
+                // not a valid jar, the compiler will report it
+                closed = true;
+            }
+        }
+
+        synchronized String getDigest() throws IOException {
+            if (digest == null) {
+                digest = IncrementalBuildState.digest(file.toPath());
+            }
+            return digest;
+        }
+
+        synchronized void close() {
+            closed = true;
+            if (zipFile != null) {
+                try {
+                    zipFile.close();
+                } catch (IOException e) {
+                    // nothing we can do about it
+                }
+                zipFile = null;
+            }
+        }
+    }
+
+}
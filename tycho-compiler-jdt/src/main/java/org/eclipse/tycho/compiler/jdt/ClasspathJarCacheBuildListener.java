@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.tycho.build.BuildListener;
+
+/**
+ * Closes the jars kept open by the {@link ClasspathJarCache} at the end of the build, the plugin
+ * realm (and therefore the cache) might outlive the session, e.g. in a Maven daemon.
+ */
+@Named("classpath-jar-cache")
+@Singleton
+public class ClasspathJarCacheBuildListener implements BuildListener {
+
+    @Inject
+    private ClasspathJarCache classpathJarCache;
+
+    @Override
+    public void buildStarted(MavenSession session) {
+        // nothing to do
+    }
+
+    @Override
+    public void buildEnded(MavenSession session) {
+        classpathJarCache.dispose();
+    }
+
+}
@@ -0,0 +1,503 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * The state of an incremental compilation of one output folder, persisted between builds.
+ * <p>
+ * It records a digest of the compiler options, the state of every classpath entry (a content
+ * digest for jars, the stamps of all class files for folders) and for each source file its
+ * stamp, the class files produced from it and the classes these reference. This allows to
+ * compute the sources that have to be recompiled after a change: the changed sources and,
+ * transitively, all sources referencing a class defined in a changed source or a changed
+ * classpath folder. Compile time constants might be inlined without leaving a reference in the
+ * class file, so whenever a class that declares or declared such constants changes a full build is
+ * required. A full build is also required when a source is added, as the types it declares might
+ * be used instead of the ones other sources were compiled against (e.g. a type with the same simple
+ * name in the same package or an on-demand imported package), which the class files can't tell.
+ * </p>
+ */
+class IncrementalBuildState {
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final String options;
+
+    private final Map<String, ClasspathEntryState> classpath;
+
+    private final Map<String, SourceState> sources = new TreeMap<>();
+
+    /**
+     * @param options
+     *            a digest of all compiler options
+     * @param classpath
+     *            the state of the classpath as computed by
+     *            {@link #getClasspathState(List, File, ClasspathJarCache, IncrementalBuildState)}
+     */
+    IncrementalBuildState(String options, Map<String, ClasspathEntryState> classpath) {
+        this.options = options;
+        this.classpath = classpath;
+    }
+
+    /**
+     * Computes the sources that need to be compiled to bring the output folder of the previous
+     * build up to date with this state. Unchanged sources are taken over from the previous state.
+     *
+     * @param previous
+     *            the state of the previous build
+     * @param sourceFiles
+     *            all current source files
+     * @return the delta to compile or <code>null</code> if a full build is required
+     */
+    Delta computeDelta(IncrementalBuildState previous, Set<String> sourceFiles) throws IOException {
+        if (!options.equals(previous.options)
+                || !List.copyOf(classpath.keySet()).equals(List.copyOf(previous.classpath.keySet()))) {
+            return null;
+        }
+        Set<String> changedTypes = new HashSet<>();
+        for (Map.Entry<String, ClasspathEntryState> entry : classpath.entrySet()) {
+            if (!getChangedTypes(previous.classpath.get(entry.getKey()), entry.getValue(), changedTypes)) {
+                return null;
+            }
+        }
+        Set<String> dirty = new LinkedHashSet<>();
+        for (String source : sourceFiles) {
+            SourceState old = previous.sources.get(source);
+            if (old == null) {
+                // the new types might change how other sources resolve their simple names
+                return null;
+            }
+            File file = new File(source);
+            if (old.length() != file.length() || old.lastModified() != file.lastModified()) {
+                String digest = digest(file.toPath());
+                if (!digest.equals(old.digest())) {
+                    if (old.hasConstants()) {
+                        return null;
+                    }
+                    dirty.add(source);
+                    changedTypes.addAll(old.getTypes());
+                    continue;
+                }
+                old = new SourceState(file.length(), file.lastModified(), digest, old.hasConstants(),
+                        old.classFiles(), old.references());
+            }
+            sources.put(source, old);
+        }
+        List<String> obsoleteClassFiles = new ArrayList<>();
+        for (Map.Entry<String, SourceState> entry : previous.sources.entrySet()) {
+            SourceState old = entry.getValue();
+            if (!sourceFiles.contains(entry.getKey())) {
+                if (old.hasConstants()) {
+                    return null;
+                }
+                changedTypes.addAll(old.getTypes());
+                obsoleteClassFiles.addAll(old.classFiles());
+            } else if (dirty.contains(entry.getKey())) {
+                obsoleteClassFiles.addAll(old.classFiles());
+            }
+        }
+        // now add all sources that (transitively) depend on a changed type
+        Deque<String> pending = new ArrayDeque<>(changedTypes);
+        Map<String, List<String>> referencingSources = new HashMap<>();
+        for (Map.Entry<String, SourceState> entry : sources.entrySet()) {
+            for (String reference : entry.getValue().references()) {
+                referencingSources.computeIfAbsent(reference, r -> new ArrayList<>()).add(entry.getKey());
+            }
+        }
+        while (!pending.isEmpty()) {
+            for (String source : referencingSources.getOrDefault(pending.poll(), List.of())) {
+                SourceState state = sources.remove(source);
+                if (state != null) {
+                    dirty.add(source);
+                    obsoleteClassFiles.addAll(state.classFiles());
+                    pending.addAll(state.getTypes());
+                }
+            }
+        }
+        return new Delta(dirty, obsoleteClassFiles);
+    }
+
+    /**
+     * Records the class files produced for the given (successfully) compiled sources. All class
+     * files in the output folder not already belonging to another source are considered.
+     *
+     * @param compiledSources
+     *            the sources passed to the compiler
+     * @param sourceLocations
+     *            the source folders
+     * @param outputDirectory
+     *            the output folder
+     */
+    void recordCompiledSources(Collection<String> compiledSources, List<String> sourceLocations,
+            File outputDirectory) throws IOException {
+        Map<String, String> sourcesByPath = new HashMap<>();
+        for (String source : compiledSources) {
+            Path sourcePath = Path.of(source).toAbsolutePath();
+            for (String location : sourceLocations) {
+                Path root = Path.of(location).toAbsolutePath();
+                if (sourcePath.startsWith(root)) {
+                    sourcesByPath.put(toUnixPath(root.relativize(sourcePath)), source);
+                    break;
+                }
+            }
+        }
+        Set<String> knownClassFiles = new HashSet<>();
+        for (SourceState state : sources.values()) {
+            knownClassFiles.addAll(state.classFiles());
+        }
+        Map<String, List<ClassFileInfo>> classFilesBySource = new HashMap<>();
+        Path output = outputDirectory.toPath();
+        for (String classFile : listClassFiles(output, null)) {
+            if (knownClassFiles.contains(classFile)) {
+                continue;
+            }
+            ClassFileInfo info = ClassFileInfo.read(output.resolve(classFile));
+            if (!classFile.equals(info.name() + CLASS_SUFFIX)) {
+                // e.g. a multi-release class nested in this folder
+                continue;
+            }
+            String source = sourcesByPath.get(info.getSourcePath());
+            if (source != null) {
+                classFilesBySource.computeIfAbsent(source, s -> new ArrayList<>()).add(info);
+            }
+        }
+        for (String source : compiledSources) {
+            File file = new File(source);
+            List<ClassFileInfo> infos = classFilesBySource.getOrDefault(source, List.of());
+            Set<String> references = new TreeSet<>();
+            List<String> classFiles = new ArrayList<>();
+            boolean hasConstants = false;
+            for (ClassFileInfo info : infos) {
+                classFiles.add(info.name() + CLASS_SUFFIX);
+                references.addAll(info.references());
+                hasConstants |= info.hasConstants();
+            }
+            for (ClassFileInfo info : infos) {
+                references.remove(info.name());
+            }
+            sources.put(source, new SourceState(file.length(), file.lastModified(), digest(file.toPath()),
+                    hasConstants, classFiles, references));
+        }
+    }
+
+    /**
+     * @return the class files (relative to the output folder) of all sources of this state
+     */
+    Collection<String> getClassFiles() {
+        return sources.values().stream().flatMap(state -> state.classFiles().stream()).toList();
+    }
+
+    /**
+     * Computes the state of the given classpath
+     *
+     * @param classpathEntries
+     *            the classpath entries, possibly with access rules
+     * @param outputDirectory
+     *            the output folder to exclude from the state, as it might be nested in a
+     *            classpath folder
+     * @param jarCache
+     *            the cache providing the digests of jar files
+     * @param previous
+     *            the state of the previous build, used to avoid reading unchanged class files, may
+     *            be <code>null</code>
+     * @return the state of each classpath entry in classpath order
+     */
+    static Map<String, ClasspathEntryState> getClasspathState(List<String> classpathEntries, File outputDirectory,
+            ClasspathJarCache jarCache, IncrementalBuildState previous) throws IOException {
+        Map<String, ClasspathEntryState> result = new LinkedHashMap<>();
+        if (classpathEntries == null) {
+            return result;
+        }
+        Path output = outputDirectory.toPath().toAbsolutePath();
+        for (String entry : classpathEntries) {
+            Path path = toPath(entry);
+            if (path.toAbsolutePath().equals(output)) {
+                continue;
+            }
+            if (Files.isDirectory(path)) {
+                ClasspathEntryState previousEntry = previous != null ? previous.classpath.get(entry) : null;
+                Map<String, ClassFileStamp> classFiles = new TreeMap<>();
+                for (String classFile : listClassFiles(path, output)) {
+                    File file = path.resolve(classFile).toFile();
+                    String stamp = file.length() + ":" + file.lastModified();
+                    ClassFileStamp previousStamp = previousEntry != null ? previousEntry.classFiles().get(classFile)
+                            : null;
+                    if (previousStamp != null && previousStamp.stamp().equals(stamp)) {
+                        classFiles.put(classFile, previousStamp);
+                    } else {
+                        classFiles.put(classFile,
+                                new ClassFileStamp(stamp, ClassFileInfo.read(file.toPath()).hasConstants()));
+                    }
+                }
+                result.put(entry, new ClasspathEntryState(null, classFiles));
+            } else if (Files.isRegularFile(path)) {
+                result.put(entry, new ClasspathEntryState(jarCache.getDigest(path.toFile()), Map.of()));
+            } else {
+                result.put(entry, new ClasspathEntryState("-", Map.of()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads a previously persisted state
+     *
+     * @return the state or <code>null</code> if there is no (compatible) state
+     */
+    static IncrementalBuildState read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            String options = in.readUTF();
+            Map<String, ClasspathEntryState> classpath = new LinkedHashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                String entry = in.readUTF();
+                String digest = in.readBoolean() ? in.readUTF() : null;
+                Map<String, ClassFileStamp> classFiles = new TreeMap<>();
+                for (int j = in.readInt(); j > 0; j--) {
+                    classFiles.put(in.readUTF(), new ClassFileStamp(in.readUTF(), in.readBoolean()));
+                }
+                classpath.put(entry, new ClasspathEntryState(digest, classFiles));
+            }
+            IncrementalBuildState state = new IncrementalBuildState(options, classpath);
+            for (int i = in.readInt(); i > 0; i--) {
+                String source = in.readUTF();
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                String digest = in.readUTF();
+                boolean hasConstants = in.readBoolean();
+                List<String> classFiles = new ArrayList<>();
+                for (int j = in.readInt(); j > 0; j--) {
+                    classFiles.add(in.readUTF());
+                }
+                Set<String> references = new TreeSet<>();
+                for (int j = in.readInt(); j > 0; j--) {
+                    references.add(in.readUTF());
+                }
+                state.sources.put(source,
+                        new SourceState(length, lastModified, digest, hasConstants, classFiles, references));
+            }
+            return state;
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    void write(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        File tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile.toPath())))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(options);
+                out.writeInt(classpath.size());
+                for (Map.Entry<String, ClasspathEntryState> entry : classpath.entrySet()) {
+                    ClasspathEntryState state = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeBoolean(state.digest() != null);
+                    if (state.digest() != null) {
+                        out.writeUTF(state.digest());
+                    }
+                    out.writeInt(state.classFiles().size());
+                    for (Map.Entry<String, ClassFileStamp> classFile : state.classFiles().entrySet()) {
+                        out.writeUTF(classFile.getKey());
+                        out.writeUTF(classFile.getValue().stamp());
+                        out.writeBoolean(classFile.getValue().hasConstants());
+                    }
+                }
+                out.writeInt(sources.size());
+                for (Map.Entry<String, SourceState> entry : sources.entrySet()) {
+                    SourceState state = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(state.length());
+                    out.writeLong(state.lastModified());
+                    out.writeUTF(state.digest());
+                    out.writeBoolean(state.hasConstants());
+                    out.writeInt(state.classFiles().size());
+                    for (String classFile : state.classFiles()) {
+                        out.writeUTF(classFile);
+                    }
+                    out.writeInt(state.references().size());
+                    for (String reference : state.references()) {
+                        out.writeUTF(reference);
+                    }
+                }
+            }
+            Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    /**
+     * Computes a digest of the given strings
+     */
+    static String digest(Collection<String> values) {
+        MessageDigest digest = newDigest();
+        for (String value : values) {
+            digest.update(Objects.toString(value).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Computes a digest of the content of the given file
+     */
+    static String digest(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        return HexFormat.of().formatHex(bytes);
+    }
+
+    /**
+     * Collects the types changed in a classpath entry
+     *
+     * @return <code>false</code> if the change requires a full build
+     */
+    private static boolean getChangedTypes(ClasspathEntryState previous, ClasspathEntryState current,
+            Set<String> changedTypes) {
+        if (current.digest() != null || previous.digest() != null) {
+            return Objects.equals(current.digest(), previous.digest());
+        }
+        for (Map.Entry<String, ClassFileStamp> entry : previous.classFiles().entrySet()) {
+            ClassFileStamp old = entry.getValue();
+            ClassFileStamp stamp = current.classFiles().get(entry.getKey());
+            if (stamp != null && stamp.stamp().equals(old.stamp())) {
+                continue;
+            }
+            // constants of the removed or old version might be inlined, as might be the new ones
+            if (old.hasConstants() || (stamp != null && stamp.hasConstants())) {
+                return false;
+            }
+            changedTypes.add(toTypeName(entry.getKey()));
+        }
+        for (Map.Entry<String, ClassFileStamp> entry : current.classFiles().entrySet()) {
+            if (!previous.classFiles().containsKey(entry.getKey())) {
+                changedTypes.add(toTypeName(entry.getKey()));
+            }
+        }
+        return true;
+    }
+
+    private static String toTypeName(String classFile) {
+        return classFile.substring(0, classFile.length() - CLASS_SUFFIX.length());
+    }
+
+    private static List<String> listClassFiles(Path folder, Path excluded) throws IOException {
+        try (Stream<Path> stream = Files.walk(folder)) {
+            return stream.filter(path -> excluded == null || !path.toAbsolutePath().startsWith(excluded))
+                    .filter(path -> path.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .filter(Files::isRegularFile).map(path -> toUnixPath(folder.relativize(path))).toList();
+        }
+    }
+
+    private static Path toPath(String classpathEntry) {
+        return ClasspathJarCache.toFile(classpathEntry).toPath();
+    }
+
+    private static String toUnixPath(Path path) {
+        return path.toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * The sources to compile and the class files to delete beforehand
+     */
+    static record Delta(Collection<String> sources, Collection<String> obsoleteClassFiles) {
+
+    }
+
+    /**
+     * @param digest
+     *            the content digest of a jar, <code>null</code> for a folder
+     * @param classFiles
+     *            the stamps of all class files of a folder
+     */
+    static record ClasspathEntryState(String digest, Map<String, ClassFileStamp> classFiles) {
+
+    }
+
+    /**
+     * @param stamp
+     *            the length and last modified time of a class file
+     * @param hasConstants
+     *            if this version of the class file declares compile time constants
+     */
+    static record ClassFileStamp(String stamp, boolean hasConstants) {
+
+    }
+
+    private static record SourceState(long length, long lastModified, String digest, boolean hasConstants,
+            List<String> classFiles, Set<String> references) {
+
+        Collection<String> getTypes() {
+            return classFiles.stream().map(IncrementalBuildState::toTypeName).toList();
+        }
+    }
+
+}
@@ -21,12 +21,16 @@ import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringJoiner;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -84,12 +88,21 @@ public class JDTCompiler extends AbstractCompiler {
 
     static final String COMPILER_NAME = getCompilerName();
 
+    /**
+     * Custom compiler argument holding the location of the state file for incremental
+     * compilation, if absent all sources are compiled
+     */
+    public static final String INCREMENTAL_STATE = "tycho.incremental.state";
+
     @Inject
     private JdkLibraryInfoProvider jdkLibInfoProvider;
 
     @Inject
     private Logger logger;
 
+    @Inject
+    private ClasspathJarCache classpathJarCache;
+
     public JDTCompiler() {
         super(CompilerOutputStyle.ONE_OUTPUT_FILE_PER_INPUT_FILE, ".java", ".class", null);
     }
@@ -117,24 +130,145 @@ public class JDTCompiler extends AbstractCompiler {
         //so to have always the same arguments regardless of hash table ordering that is used internally by plexus compiler we sort the files simply by name
         Arrays.sort(sourceFiles);
 
-        logger.info("Compiling " + sourceFiles.length + " " + "source file" + (sourceFiles.length == 1 ? "" : "s")
-                + " to " + destinationDir.getAbsolutePath() + " using " + COMPILER_NAME + "");
-
         Collection<Map.Entry<String, String>> customCompilerArgumentEntries = config
                 .getCustomCompilerArgumentsEntries();
         checkCompilerArgs(customCompilerArgumentEntries, custom);
 
+        String stateFile = config.getCustomCompilerArgumentsAsMap().get(INCREMENTAL_STATE);
+        if (stateFile != null) {
+            return performIncrementalCompile(config, custom, sourceFiles, new File(stateFile));
+        }
+
+        logger.info("Compiling " + sourceFiles.length + " " + "source file" + (sourceFiles.length == 1 ? "" : "s")
+                + " to " + destinationDir.getAbsolutePath() + " using " + COMPILER_NAME + "");
+
         String[] args = buildCompilerArguments(config, custom, sourceFiles);
 
-        CompilerResult messages;
+        return compile(args, config, custom);
+    }
 
-        if (requireFork(config, custom)) {
-            messages = compileOutOfProcess(args, config, custom);
-        } else {
-            messages = compileInProcess(args, config, custom);
+    /**
+     * Compiles only the sources affected by changes since the last build, as recorded in the given
+     * state file. Falls back to a full build if there is no usable state, the compiler options or
+     * classpath jars have changed, annotation processing is enabled or a class declaring compile
+     * time constants has changed.
+     */
+    private CompilerResult performIncrementalCompile(CompilerConfiguration config, CustomCompilerConfiguration custom,
+            String[] sourceFiles, File stateFile) throws CompilerException {
+        File destinationDir = new File(config.getOutputLocation());
+        String[] allArgs = buildCompilerArguments(config, custom, sourceFiles);
+        try {
+            IncrementalBuildState previous = readState(stateFile);
+            IncrementalBuildState state = new IncrementalBuildState(getOptionsDigest(allArgs, sourceFiles, custom),
+                    IncrementalBuildState.getClasspathState(config.getClasspathEntries(), destinationDir,
+                            classpathJarCache, previous));
+            Set<String> allSources = new LinkedHashSet<>(Arrays.asList(sourceFiles));
+            IncrementalBuildState.Delta delta = null;
+            if (previous != null && !isAnnotationProcessingEnabled(config)) {
+                delta = state.computeDelta(previous, allSources);
+            }
+            // a failed or interrupted compilation must always result in a full build next time
+            Files.deleteIfExists(stateFile.toPath());
+            String[] args;
+            Collection<String> compiledSources;
+            if (delta == null) {
+                if (previous != null) {
+                    deleteClassFiles(destinationDir, previous.getClassFiles());
+                }
+                logger.info("Compiling " + sourceFiles.length + " " + "source file"
+                        + (sourceFiles.length == 1 ? "" : "s") + " to " + destinationDir.getAbsolutePath()
+                        + " using " + COMPILER_NAME + "");
+                args = allArgs;
+                compiledSources = allSources;
+            } else {
+                deleteClassFiles(destinationDir, delta.obsoleteClassFiles());
+                if (delta.sources().isEmpty()) {
+                    logger.info("Nothing to compile - all classes are up to date");
+                    state.write(stateFile);
+                    return new CompilerResult();
+                }
+                compiledSources = delta.sources();
+                logger.info("Compiling " + compiledSources.size() + " of " + sourceFiles.length + " source files to "
+                        + destinationDir.getAbsolutePath() + " using " + COMPILER_NAME + " (incremental)");
+                // the classes of all unchanged sources are taken from the output folder
+                List<String> classpath = new ArrayList<>();
+                classpath.add(destinationDir.getAbsolutePath());
+                if (config.getClasspathEntries() != null) {
+                    classpath.addAll(config.getClasspathEntries());
+                }
+                config.setClasspathEntries(classpath);
+                args = buildCompilerArguments(config, custom, compiledSources.toArray(String[]::new));
+            }
+            CompilerResult result = compile(args, config, custom);
+            if (result.isSuccess()) {
+                state.recordCompiledSources(compiledSources, config.getSourceLocations(), destinationDir);
+                state.write(stateFile);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new CompilerException("Incremental compilation failed: " + e.getMessage(), e);
         }
+    }
 
-        return messages;
+    private IncrementalBuildState readState(File stateFile) {
+        try {
+            return IncrementalBuildState.read(stateFile);
+        } catch (IOException e) {
+            logger.debug("Can't read incremental build state " + stateFile + ", performing a full build", e);
+            return null;
+        }
+    }
+
+    private static void deleteClassFiles(File destinationDir, Collection<String> classFiles) throws IOException {
+        for (String classFile : classFiles) {
+            Files.deleteIfExists(new File(destinationDir, classFile).toPath());
+        }
+    }
+
+    private static boolean isAnnotationProcessingEnabled(CompilerConfiguration config) {
+        if ("none".equals(config.getProc())) {
+            return false;
+        }
+        String[] annotationProcessors = config.getAnnotationProcessors();
+        return (annotationProcessors != null && annotationProcessors.length > 0)
+                || config.getCustomCompilerArgumentsAsMap().containsKey("-processorpath");
+    }
+
+    /**
+     * Computes a digest of everything that influences the compilation except the source files and
+     * the classpath, these are tracked individually.
+     */
+    private static String getOptionsDigest(String[] args, String[] sourceFiles, CustomCompilerConfiguration custom)
+            throws IOException {
+        Set<String> sources = new HashSet<>(Arrays.asList(sourceFiles));
+        List<String> options = new ArrayList<>();
+        options.add(COMPILER_NAME);
+        options.add(custom.javaHome);
+        options.add(custom.bootclasspathAccessRules);
+        options.add(String.valueOf(custom.accessRules));
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("-classpath".equals(arg)) {
+                i++;
+                continue;
+            }
+            if (!sources.contains(arg)) {
+                options.add(arg);
+            }
+            if ("-properties".equals(arg) && i + 1 < args.length) {
+                File properties = new File(args[i + 1]);
+                options.add(properties.isFile() ? IncrementalBuildState.digest(properties.toPath()) : "-");
+            }
+        }
+        return IncrementalBuildState.digest(options);
+    }
+
+    private CompilerResult compile(String[] args, CompilerConfiguration config, CustomCompilerConfiguration custom)
+            throws CompilerException {
+        if (requireFork(config, custom)) {
+            return compileOutOfProcess(args, config, custom);
+        }
+        return compileInProcess(args, config, custom);
     }
 
     private static String getCompilerName() {
@@ -204,6 +338,10 @@ public class JDTCompiler extends AbstractCompiler {
                 continue;
             }
 
+            if (INCREMENTAL_STATE.equals(key)) {
+                continue;
+            }
+
             args.add(key);
 
             String value = entry.getValue();
@@ -418,6 +556,7 @@ public class JDTCompiler extends AbstractCompiler {
             }
         }
         logger.debug("JDT compiler args: " + jdtCompilerArgs);
+        classpathJarCache.open(config.getClasspathEntries());
         boolean success = compiler.compile(jdtCompilerArgs.toArray(new String[0]));
 
         try {
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClasspathJarCacheTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    public void testDigestFollowsJarChanges() throws IOException {
+        ClasspathJarCache cache = new ClasspathJarCache();
+        File jar = new File(tempDir, "some.jar");
+        writeJar(jar, "content");
+        cache.open(List.of(jar.getAbsolutePath() + "[+p/*;?**/*]", tempDir.getAbsolutePath(),
+                new File(tempDir, "missing.jar").getAbsolutePath()));
+        String digest = cache.getDigest(jar);
+        assertEquals(digest, cache.getDigest(jar));
+
+        writeJar(jar, "changed content");
+        assertNotEquals(digest, cache.getDigest(jar));
+        cache.dispose();
+    }
+
+    private static void writeJar(File file, String content) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("p/some.txt"));
+            zip.write(content.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+    }
+
+}
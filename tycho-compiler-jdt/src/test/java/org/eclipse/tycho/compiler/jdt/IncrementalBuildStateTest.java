@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler.jdt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.internal.compiler.batch.Main;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IncrementalBuildStateTest {
+
+    @TempDir
+    File tempDir;
+
+    private File sourceDir;
+
+    private File outputDir;
+
+    private File stateFile;
+
+    private String a;
+
+    private String b;
+
+    private String c;
+
+    private String d;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        sourceDir = new File(tempDir, "src");
+        outputDir = new File(tempDir, "bin");
+        stateFile = new File(tempDir, "compile-state/@dot.state");
+        a = source("p/A.java", "package p; public class A { public int value() { return 1; } }");
+        b = source("p/B.java", "package p; public class B { int get() { return new A().value(); } }");
+        c = source("q/C.java", "package q; public class C { class Inner {} }");
+        d = source("q/D.java", "package q; public class D { public static final int X = 1; }");
+        Set<String> sources = Set.of(a, b, c, d);
+        compile(sources);
+        IncrementalBuildState state = createState("options");
+        state.recordCompiledSources(sources, List.of(sourceDir.getAbsolutePath()), outputDir);
+        state.write(stateFile);
+    }
+
+    @Test
+    public void testNothingChanged() throws IOException {
+        IncrementalBuildState.Delta delta = computeDelta("options");
+        assertNotNull(delta);
+        assertTrue(delta.sources().isEmpty());
+        assertTrue(delta.obsoleteClassFiles().isEmpty());
+    }
+
+    @Test
+    public void testChangedSourceAndDependents() throws IOException {
+        Files.writeString(new File(a).toPath(),
+                "package p; public class A { public int value() { return 22; } }", StandardCharsets.UTF_8);
+        IncrementalBuildState.Delta delta = computeDelta("options");
+        assertNotNull(delta);
+        assertEquals(Set.of(a, b), Set.copyOf(delta.sources()));
+        assertEquals(Set.of("p/A.class", "p/B.class"), Set.copyOf(delta.obsoleteClassFiles()));
+    }
+
+    @Test
+    public void testRemovedSource() throws IOException {
+        Files.delete(new File(c).toPath());
+        IncrementalBuildState state = createState("options");
+        IncrementalBuildState.Delta delta = state.computeDelta(IncrementalBuildState.read(stateFile),
+                new LinkedHashSet<>(List.of(a, b, d)));
+        assertNotNull(delta);
+        assertTrue(delta.sources().isEmpty());
+        assertEquals(Set.of("q/C.class", "q/C$Inner.class"), Set.copyOf(delta.obsoleteClassFiles()));
+    }
+
+    @Test
+    public void testAddedSourceRequiresFullBuild() throws IOException {
+        // hides java.lang.Integer in other sources of package p
+        String e = source("p/Integer.java", "package p; public class Integer {}");
+        IncrementalBuildState state = createState("options");
+        assertNull(state.computeDelta(IncrementalBuildState.read(stateFile),
+                new LinkedHashSet<>(List.of(a, b, c, d, e))));
+    }
+
+    @Test
+    public void testChangedConstantRequiresFullBuild() throws IOException {
+        Files.writeString(new File(d).toPath(), "package q; public class D { public static final int X = 42; }",
+                StandardCharsets.UTF_8);
+        assertNull(computeDelta("options"));
+    }
+
+    @Test
+    public void testChangedOptionsRequireFullBuild() throws IOException {
+        assertNull(computeDelta("other options"));
+    }
+
+    @Test
+    public void testChangedClassInClasspathFolder() throws IOException {
+        File libDir = new File(tempDir, "lib");
+        String e = prepareClasspathFolder(libDir, "package l; public class L { public int x() { return 1; } }");
+
+        compileLibrary(libDir, "package l; public class L { public int x() { return 2; } }");
+        IncrementalBuildState.Delta delta = createState("options", libDir)
+                .computeDelta(IncrementalBuildState.read(stateFile), new LinkedHashSet<>(List.of(e)));
+        assertNotNull(delta);
+        assertEquals(List.of(e), List.copyOf(delta.sources()));
+    }
+
+    @Test
+    public void testRemovedConstantInClasspathFolderRequiresFullBuild() throws IOException {
+        File libDir = new File(tempDir, "lib");
+        String e = prepareClasspathFolder(libDir, "package l; public class L { public static final int X = 1; }");
+
+        // the new version has no constants but the old one might have been inlined
+        compileLibrary(libDir, "package l; public class L { public static int X = 1; }");
+        assertNull(createState("options", libDir).computeDelta(IncrementalBuildState.read(stateFile),
+                new LinkedHashSet<>(List.of(e))));
+    }
+
+    @Test
+    public void testAddedConstantInClasspathFolderRequiresFullBuild() throws IOException {
+        File libDir = new File(tempDir, "lib");
+        String e = prepareClasspathFolder(libDir, "package l; public class L { public static int X = 1; }");
+
+        compileLibrary(libDir, "package l; public class L { public static final int X = 1; }");
+        assertNull(createState("options", libDir).computeDelta(IncrementalBuildState.read(stateFile),
+                new LinkedHashSet<>(List.of(e))));
+    }
+
+    /**
+     * Compiles the given class <code>l.L</code> to the given folder and records the state of a
+     * source using it
+     *
+     * @return the source using the class
+     */
+    private String prepareClasspathFolder(File libDir, String library) throws IOException {
+        compileLibrary(libDir, library);
+        String e = source("r/E.java", "package r; public class E { Object l = new l.L(); }");
+        Set<String> sources = Set.of(e);
+        compile(sources, "-cp", libDir.getAbsolutePath());
+        IncrementalBuildState state = createState("options", libDir);
+        state.recordCompiledSources(sources, List.of(sourceDir.getAbsolutePath()), outputDir);
+        state.write(stateFile);
+        return e;
+    }
+
+    private void compileLibrary(File libDir, String content) throws IOException {
+        File libClass = new File(libDir, "l/L.class");
+        long lastModified = libClass.lastModified();
+        File source = new File(tempDir, "libsrc/l/L.java");
+        source.getParentFile().mkdirs();
+        Files.writeString(source.toPath(), content, StandardCharsets.UTF_8);
+        compileTo(libDir, Set.of(source.getAbsolutePath()));
+        // make sure the change is visible even on filesystems with a coarse timestamp resolution
+        libClass.setLastModified(lastModified + 10_000);
+    }
+
+    private IncrementalBuildState.Delta computeDelta(String options) throws IOException {
+        return createState(options).computeDelta(IncrementalBuildState.read(stateFile),
+                new LinkedHashSet<>(List.of(a, b, c, d)));
+    }
+
+    private IncrementalBuildState createState(String options, File... classpath) throws IOException {
+        List<String> classpathEntries = new ArrayList<>();
+        for (File entry : classpath) {
+            classpathEntries.add(entry.getAbsolutePath());
+        }
+        return new IncrementalBuildState(IncrementalBuildState.digest(List.of(options)),
+                IncrementalBuildState.getClasspathState(classpathEntries, outputDir, new ClasspathJarCache(),
+                        IncrementalBuildState.read(stateFile)));
+    }
+
+    private String source(String path, String content) throws IOException {
+        File file = new File(sourceDir, path);
+        file.getParentFile().mkdirs();
+        Files.writeString(file.toPath(), content, StandardCharsets.UTF_8);
+        return file.getAbsolutePath();
+    }
+
+    private void compile(Set<String> sources, String... options) {
+        compileTo(outputDir, sources, options);
+    }
+
+    private void compileTo(File destination, Set<String> sources, String... options) {
+        StringWriter err = new StringWriter();
+        Main compiler = new Main(new PrintWriter(new StringWriter()), new PrintWriter(err), false, null, null);
+        List<String> args = new ArrayList<>(List.of("-17", "-d", destination.getAbsolutePath()));
+        args.addAll(List.of(options));
+        args.addAll(sources);
+        assertTrue(compiler.compile(args.toArray(String[]::new)), err.toString());
+    }
+
+}
@@ -28,8 +28,15 @@ public class CompilationFailureException extends MojoFailureException {
     private static final long serialVersionUID = 6116801730028853785L;
     private static final String LS = System.lineSeparator();
 
+    private final transient List<CompilerMessage> messages;
+
     public CompilationFailureException(List<CompilerMessage> messages) {
         super(null, "Compilation failure", longMessage(messages));
+        this.messages = List.copyOf(messages);
+    }
+
+    public List<CompilerMessage> getMessages() {
+        return messages;
     }
 
     public static String longMessage(List<CompilerMessage> messages) {
@@ -27,6 +27,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -36,6 +37,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -55,6 +60,7 @@ import org.apache.maven.project.artifact.ProjectArtifact;
 import org.apache.maven.toolchain.ToolchainManager;
 import org.apache.maven.toolchain.ToolchainManagerPrivate;
 import org.codehaus.plexus.compiler.CompilerConfiguration;
+import org.codehaus.plexus.compiler.CompilerMessage;
 import org.codehaus.plexus.compiler.util.scan.InclusionScanException;
 import org.codehaus.plexus.compiler.util.scan.SimpleSourceInclusionScanner;
 import org.codehaus.plexus.compiler.util.scan.SourceInclusionScanner;
@@ -76,6 +82,7 @@ import org.eclipse.tycho.ExecutionEnvironment;
 import org.eclipse.tycho.ReactorProject;
 import org.eclipse.tycho.SourcepathEntry;
 import org.eclipse.tycho.classpath.ClasspathContributor;
+import org.eclipse.tycho.compiler.jdt.JDTCompiler;
 import org.eclipse.tycho.core.BundleProject;
 import org.eclipse.tycho.core.TychoProject;
 import org.eclipse.tycho.core.TychoProjectManager;
@@ -104,6 +111,7 @@ import org.eclipse.tycho.model.classpath.SourceFolderClasspathEntry;
 import org.osgi.framework.Version;
 
 import copied.org.apache.maven.plugin.AbstractCompilerMojo;
+import copied.org.apache.maven.plugin.CompilationFailureException;
 
 public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo implements JavaCompilerConfiguration {
 
@@ -330,6 +338,26 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
     @Parameter
     private String log;
 
+    /**
+     * If set to <code>true</code>, the JDT compiler keeps a build state for each output folder in
+     * <code>${project.build.directory}/compile-state</code> and on subsequent builds only
+     * recompiles the changed sources and the sources depending on them. A full build is performed
+     * if there is no state yet, the compiler options or classpath jars have changed, annotation
+     * processing is enabled or a class declaring compile time constants has changed.
+     */
+    @Parameter(property = "tycho.compiler.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * If set to <code>true</code>, the output folders of a bundle (<code>output.*</code> entries in
+     * build.properties) that do not depend on each other are compiled concurrently, and so are the
+     * multi-release versions after all output folders are compiled. Output folders whose sources
+     * share a package or mention a package of another output folder are compiled one after the
+     * other in the configured order. Compile errors of all output folders are reported together.
+     */
+    @Parameter(property = "tycho.compiler.parallel", defaultValue = "false")
+    private boolean parallel;
+
     @Inject
     ToolchainProvider toolchainProvider;
 
@@ -347,17 +375,11 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
 
     private ExecutionEnvironment[] manifestBREEs;
 
-    private File currentOutputDirectory;
-
-    private List<String> currentSourceRoots;
-
-    private List<String> currentExcludes;
+    private final ThreadLocal<CompileUnit> currentUnit = new ThreadLocal<>();
 
     @Inject
     private TychoProjectManager tychoProjectManager;
 
-    private Integer currentRelease;
-
     @Override
     public final void execute() throws MojoExecutionException, MojoFailureException {
         getLog().debug("Manifest BREEs: " + Arrays.toString(getBREE()));
@@ -379,19 +401,33 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
         Map<File, List<SourcepathEntry>> outputMap = sourcepath.stream().collect(
                 Collectors.groupingBy(SourcepathEntry::getOutputDirectory, LinkedHashMap::new, Collectors.toList()));
 
+        List<CompileUnit> outputUnits = new ArrayList<>();
         for (Entry<File, List<SourcepathEntry>> entry : outputMap.entrySet()) {
-            this.currentOutputDirectory = entry.getKey();
-            this.currentOutputDirectory.mkdirs();
-            this.currentSourceRoots = entry.getValue().stream().map(SourcepathEntry::getSourcesRoot)
+            List<String> sourceRoots = entry.getValue().stream().map(SourcepathEntry::getSourcesRoot)
                     .map(root -> new File(root.toURI().normalize()).toString()).toList();
-            this.currentExcludes = entry.getValue().stream().map(SourcepathEntry::getExcludes).filter(Objects::nonNull)
-                    .flatMap(Collection::stream).distinct().toList();
-            super.execute();
-            doCopyResources();
+            List<String> excludes = entry.getValue().stream().map(SourcepathEntry::getExcludes)
+                    .filter(Objects::nonNull).flatMap(Collection::stream).distinct().toList();
+            outputUnits.add(new CompileUnit(entry.getKey(), sourceRoots, excludes, null));
         }
+        List<CompileUnit> releaseUnits = getMultiReleaseUnits(sourcepath);
+        if (parallel && outputUnits.size() + releaseUnits.size() > 1) {
+            compileParallel(outputUnits, releaseUnits);
+        } else {
+            for (CompileUnit unit : outputUnits) {
+                compile(unit);
+            }
+            for (CompileUnit unit : releaseUnits) {
+                compile(unit);
+            }
+        }
+    }
+
+    private List<CompileUnit> getMultiReleaseUnits(List<SourcepathEntry> sourcepath) throws MojoExecutionException {
+        List<CompileUnit> units = new ArrayList<>();
         //Check for MR JAR compile
         OsgiManifest manifest = bundleReader.loadManifest(project.getBasedir());
         if (Boolean.parseBoolean(manifest.getValue("Multi-Release"))) {
+            File dotDirectory = getEclipsePluginProject().getDotOutputJar().getOutputDirectory();
             // First, try to use classpath entries with release attribute (JDT approach)
             Collection<ProjectClasspathEntry> classpathEntries = getEclipsePluginProject().getClasspathEntries();
             Map<Integer, List<SourceFolderClasspathEntry>> multiReleaseSourceFolders = classpathEntries.stream()
@@ -404,46 +440,131 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
                 // Use classpath-based approach with release attribute
                 for (Entry<Integer, List<SourceFolderClasspathEntry>> mrEntry : multiReleaseSourceFolders.entrySet()) {
                     Integer release = mrEntry.getKey();
-                    getLog().info("Compiling multi-release sources for release " + release + " ...");
-                    this.currentRelease = release;
-                    File dotDirectory = getEclipsePluginProject().getDotOutputJar().getOutputDirectory();
-                    this.currentOutputDirectory = new File(dotDirectory, VERSIONS_DIRECTORY + "/" + release);
-                    this.currentOutputDirectory.mkdirs();
-                    this.currentExcludes = List.of();
-                    this.currentSourceRoots = mrEntry.getValue().stream().map(SourceFolderClasspathEntry::getSourcePath)
-                            .filter(File::isDirectory).map(File::getAbsolutePath).toList();
-                    if (this.currentSourceRoots.size() > 0) {
-                        super.execute();
+                    File outputDirectory = new File(dotDirectory, VERSIONS_DIRECTORY + "/" + release);
+                    outputDirectory.mkdirs();
+                    List<String> sourceRoots = mrEntry.getValue().stream()
+                            .map(SourceFolderClasspathEntry::getSourcePath).filter(File::isDirectory)
+                            .map(File::getAbsolutePath).toList();
+                    if (sourceRoots.size() > 0) {
+                        units.add(new CompileUnit(outputDirectory, sourceRoots, List.of(), release));
                     }
                 }
             } else {
                 // Fall back to directory-based approach (legacy)
                 Collection<Integer> releases = getMultiReleases();
                 for (Integer release : releases) {
-                    getLog().info("Compiling for release " + release + " ...");
-                    this.currentRelease = release;
-                    File dotDirectory = getEclipsePluginProject().getDotOutputJar().getOutputDirectory();
-                    this.currentOutputDirectory = new File(dotDirectory, VERSIONS_DIRECTORY + "/" + release);
-                    this.currentOutputDirectory.mkdirs();
-                    this.currentExcludes = List.of();
-                    this.currentSourceRoots = new ArrayList<String>();
+                    File outputDirectory = new File(dotDirectory, VERSIONS_DIRECTORY + "/" + release);
+                    outputDirectory.mkdirs();
+                    List<String> sourceRoots = new ArrayList<String>();
                     for (SourcepathEntry entry : sourcepath) {
                         File sourcesRoot = entry.getSourcesRoot();
                         File releaseSourceRoot = new File(sourcesRoot.getParentFile(), sourcesRoot.getName() + release);
                         if (releaseSourceRoot.isDirectory()) {
-                            this.currentSourceRoots.add(releaseSourceRoot.getAbsolutePath().toString());
+                            sourceRoots.add(releaseSourceRoot.getAbsolutePath().toString());
                         }
                     }
-                    if (this.currentSourceRoots.size() > 0) {
-                        super.execute();
+                    if (sourceRoots.size() > 0) {
+                        units.add(new CompileUnit(outputDirectory, sourceRoots, List.of(), release));
+                    }
+                }
+            }
+        }
+        return units;
+    }
+
+    private void compile(CompileUnit unit) throws MojoExecutionException, MojoFailureException {
+        if (unit.release() != null) {
+            getLog().info("Compiling multi-release sources for release " + unit.release() + " ...");
+        }
+        currentUnit.set(unit);
+        try {
+            unit.outputDirectory().mkdirs();
+            super.execute();
+            if (unit.release() == null) {
+                doCopyResources();
+            }
+        } finally {
+            currentUnit.remove();
+        }
+    }
+
+    /**
+     * Compiles independent groups of output folders concurrently, the multi-release versions are
+     * compiled concurrently afterwards as they require the regular output folders.
+     */
+    private void compileParallel(List<CompileUnit> outputUnits, List<CompileUnit> releaseUnits)
+            throws MojoExecutionException, MojoFailureException {
+        List<List<CompileUnit>> groups;
+        try {
+            groups = CompileUnit.getIndependentGroups(outputUnits);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Can't analyze the sources of " + project, e);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        int threads = Math.min(Math.max(groups.size(), releaseUnits.size()),
+                Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            for (List<CompileUnit> group : groups) {
+                CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+                for (CompileUnit unit : group) {
+                    future = future.thenRunAsync(() -> compileUnchecked(unit), executor);
+                }
+                futures.add(future);
+            }
+            CompletableFuture<Void> outputs = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+            for (CompileUnit unit : releaseUnits) {
+                futures.add(outputs.thenRunAsync(() -> compileUnchecked(unit), executor));
+            }
+            List<CompilerMessage> messages = new ArrayList<>();
+            Set<Throwable> failures = Collections.newSetFromMap(new IdentityHashMap<>());
+            Exception failure = null;
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause();
+                    if (!failures.add(cause)) {
+                        // dependent units fail with the same cause
+                        continue;
+                    }
+                    if (cause instanceof CompilationFailureException compilationFailure) {
+                        messages.addAll(compilationFailure.getMessages());
+                    } else if (failure == null && cause instanceof Exception exception) {
+                        failure = exception;
+                    } else if (failure != null) {
+                        failure.addSuppressed(cause);
+                    } else {
+                        throw e;
                     }
                 }
             }
+            if (failure != null) {
+                if (!messages.isEmpty()) {
+                    failure.addSuppressed(new CompilationFailureException(messages));
+                }
+                if (failure instanceof MojoExecutionException executionException) {
+                    throw executionException;
+                }
+                if (failure instanceof MojoFailureException failureException) {
+                    throw failureException;
+                }
+                throw new MojoExecutionException("Compilation failed", failure);
+            }
+            if (!messages.isEmpty()) {
+                throw new CompilationFailureException(messages);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void compileUnchecked(CompileUnit unit) {
+        try {
+            compile(unit);
+        } catch (MojoExecutionException | MojoFailureException e) {
+            throw new CompletionException(e);
         }
-        this.currentRelease = null;
-        this.currentOutputDirectory = null;
-        this.currentSourceRoots = null;
-        this.currentExcludes = null;
     }
 
     private Collection<Integer> getMultiReleases() {
@@ -483,6 +604,7 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
      * Only public for tests purpose!
      */
     public ExecutionEnvironment[] getBREE() {
+        Integer currentRelease = getCurrentRelease();
         if (currentRelease != null) {
             //if there is an explicit release set we know the release and there must be a suitable EE provided
             return new StandardExecutionEnvironment[] { ExecutionEnvironmentUtils
@@ -547,7 +669,13 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
 
     @Override
     protected File getOutputDirectory() {
-        return this.currentOutputDirectory;
+        CompileUnit unit = currentUnit.get();
+        return unit != null ? unit.outputDirectory() : null;
+    }
+
+    private Integer getCurrentRelease() {
+        CompileUnit unit = currentUnit.get();
+        return unit != null ? unit.release() : null;
     }
 
     @Override
@@ -673,44 +801,32 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
 
     @Override
     protected final List<String> getCompileSourceRoots() throws MojoExecutionException {
-        return currentSourceRoots;
+        CompileUnit unit = currentUnit.get();
+        return unit != null ? unit.sourceRoots() : null;
     }
 
     @Override
     protected final List<String> getCompileSourceExcludePaths() throws MojoExecutionException {
-        return currentExcludes;
+        CompileUnit unit = currentUnit.get();
+        return unit != null ? unit.excludes() : null;
     }
 
     @Override
     protected SourceInclusionScanner getSourceInclusionScanner(int staleMillis) {
-        SourceInclusionScanner scanner = null;
-
+        if (isIncremental()) {
+            // the compiler determines what needs to be compiled, so always pass all sources
+            return getSourceInclusionScanner("java");
+        }
         if (includes.isEmpty() && excludes.isEmpty()) {
-            scanner = new StaleSourceScanner(staleMillis);
-        } else {
-            if (includes.isEmpty()) {
-                includes.add("**/*.java");
-            }
-            scanner = new StaleSourceScanner(staleMillis, includes, excludes);
+            return new StaleSourceScanner(staleMillis);
         }
-        return scanner;
+        return new StaleSourceScanner(staleMillis, includes.isEmpty() ? Set.of("**/*.java") : includes, excludes);
     }
 
     @Override
     protected SourceInclusionScanner getSourceInclusionScanner(String inputFileEnding) {
-        SourceInclusionScanner scanner = null;
-
-        if (includes.isEmpty() && excludes.isEmpty()) {
-            includes = Collections.singleton("**/*." + inputFileEnding);
-            scanner = new SimpleSourceInclusionScanner(includes, Collections.<String> emptySet());
-        } else {
-            if (includes.isEmpty()) {
-                includes.add("**/*." + inputFileEnding);
-            }
-            scanner = new SimpleSourceInclusionScanner(includes, excludes);
-        }
-
-        return scanner;
+        Set<String> effectiveIncludes = includes.isEmpty() ? Set.of("**/*." + inputFileEnding) : includes;
+        return new SimpleSourceInclusionScanner(effectiveIncludes, excludes);
     }
 
     @Override
@@ -747,6 +863,12 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
         Collection<ProjectClasspathEntry> classpathEntries = getEclipsePluginProject().getClasspathEntries();
         configureBootclasspathAccessRules(compilerConfiguration, classpathEntries);
         configureCompilerLog(compilerConfiguration);
+        if (isIncremental()) {
+            File stateFile = new File(project.getBuild().getDirectory(),
+                    "compile-state/" + getOutputName() + ".state");
+            addCompilerCustomArgument(compilerConfiguration, JDTCompiler.INCREMENTAL_STATE,
+                    stateFile.getAbsolutePath());
+        }
         for (ProjectClasspathEntry cpe : classpathEntries) {
             if (cpe instanceof JREClasspathEntry jreClasspathEntry) {
                 if (jreClasspathEntry.isModule()) {
@@ -760,6 +882,32 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
         return compilerConfiguration;
     }
 
+    private boolean isIncremental() {
+        return incremental && JDT_COMPILER_ID.equals(compilerId);
+    }
+
+    /**
+     * @return the name of the current output folder, <code>@dot</code> for the project output
+     *         directory and a name derived from the path relative to the build directory otherwise
+     */
+    private String getOutputName() {
+        if (new File(project.getBuild().getOutputDirectory()).getAbsolutePath()
+                .equals(getOutputDirectory().getAbsolutePath())) {
+            return "@dot";
+        }
+        String suffix = "-classes";
+        String basePath = new File(project.getBuild().getDirectory()).getAbsolutePath();
+        String subPath = getOutputDirectory().getAbsolutePath().substring(basePath.length()).replace('\\', '/');
+        if (subPath.startsWith("/")) {
+            subPath = subPath.substring(1);
+        }
+        String name = subPath.replaceAll("/", "_");
+        if (name.endsWith(suffix)) {
+            return name.substring(0, name.length() - suffix.length());
+        }
+        return name;
+    }
+
     private void configureCompilerLog(CompilerConfiguration compilerConfiguration) throws MojoFailureException {
         if (log == null) {
             return;
@@ -769,24 +917,7 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
                     + " plugin parameter and the custom compiler argument '-log'. Only either of them is allowed.");
         }
         logDirectory.mkdirs();
-        String logFileName = null;
-        if (new File(project.getBuild().getOutputDirectory()).getAbsolutePath()
-                .equals(getOutputDirectory().getAbsolutePath())) {
-            logFileName = "@dot";
-        } else {
-            String suffix = "-classes";
-            String basePath = new File(project.getBuild().getDirectory()).getAbsolutePath();
-            String subPath = getOutputDirectory().getAbsolutePath().substring(basePath.length()).replace('\\', '/');
-            if (subPath.startsWith("/")) {
-                subPath = subPath.substring(1);
-            }
-            String name = subPath.replaceAll("/", "_");
-            if (name.endsWith(suffix)) {
-                logFileName = name.substring(0, name.length() - suffix.length());
-            } else {
-                logFileName = name;
-            }
-        }
+        String logFileName = getOutputName();
         String logPath = logDirectory.getAbsolutePath();
         if (!logPath.endsWith(File.separator)) {
             logPath = logPath + File.separator;
@@ -1101,8 +1232,9 @@ public abstract class AbstractOsgiCompilerMojo extends AbstractCompilerMojo impl
 
     @Override
     public String getReleaseLevel() throws MojoExecutionException {
-        if (this.currentRelease != null) {
-            return String.valueOf(this.currentRelease);
+        Integer currentRelease = getCurrentRelease();
+        if (currentRelease != null) {
+            return String.valueOf(currentRelease);
         }
         // first, explicit POM configuration
         if (release != null) {
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * One invocation of the compiler for an output folder of a bundle.
+ *
+ * @param outputDirectory
+ *            the folder to compile to
+ * @param sourceRoots
+ *            the source folders to compile
+ * @param excludes
+ *            the exclude patterns for the sources
+ * @param release
+ *            the multi-release version to compile for, or <code>null</code> for a regular output
+ *            folder
+ */
+record CompileUnit(File outputDirectory, List<String> sourceRoots, List<String> excludes, Integer release) {
+
+    /**
+     * Partitions the given units into groups that can be compiled independently of each other.
+     * Two units are considered dependent if their sources share a package or the sources of one
+     * mention a package of the other; this also applies transitively. Within a group the original
+     * order of the units is kept.
+     *
+     * @param units
+     *            the units in compile order
+     * @return the groups of dependent units
+     * @throws IOException
+     *             if reading the sources failed
+     */
+    static List<List<CompileUnit>> getIndependentGroups(List<CompileUnit> units) throws IOException {
+        int size = units.size();
+        List<Set<String>> packages = new ArrayList<>(size);
+        List<List<Path>> sources = new ArrayList<>(size);
+        for (CompileUnit unit : units) {
+            Set<String> unitPackages = new HashSet<>();
+            List<Path> unitSources = new ArrayList<>();
+            for (String sourceRoot : unit.sourceRoots()) {
+                Path root = Path.of(sourceRoot);
+                if (!Files.isDirectory(root)) {
+                    continue;
+                }
+                try (Stream<Path> stream = Files.walk(root)) {
+                    stream.filter(path -> path.getFileName().toString().endsWith(".java")).forEach(path -> {
+                        unitSources.add(path);
+                        Path folder = root.relativize(path).getParent();
+                        unitPackages.add(folder == null ? "" : folder.toString().replace(File.separatorChar, '.'));
+                    });
+                }
+            }
+            packages.add(unitPackages);
+            sources.add(unitSources);
+        }
+        int[] group = new int[size];
+        for (int i = 0; i < size; i++) {
+            group[i] = i;
+        }
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                if (find(group, i) != find(group, j) && (shareElement(packages.get(i), packages.get(j))
+                        || mentions(sources.get(i), packages.get(j)) || mentions(sources.get(j), packages.get(i)))) {
+                    group[find(group, j)] = find(group, i);
+                }
+            }
+        }
+        Map<Integer, List<CompileUnit>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            groups.computeIfAbsent(find(group, i), g -> new ArrayList<>()).add(units.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static int find(int[] group, int i) {
+        while (group[i] != i) {
+            i = group[i];
+        }
+        return i;
+    }
+
+    private static boolean shareElement(Set<String> a, Set<String> b) {
+        return a.stream().anyMatch(b::contains);
+    }
+
+    private static boolean mentions(List<Path> sources, Set<String> packages) throws IOException {
+        if (!sources.isEmpty() && packages.stream().anyMatch(pkg -> pkg.chars().anyMatch(c -> c > 127))) {
+            // we don't know the encoding of the sources, so be conservative
+            return true;
+        }
+        for (Path source : sources) {
+            String content = Files.readString(source, StandardCharsets.ISO_8859_1);
+            for (String pkg : packages) {
+                // types of the default package can't be referenced from other packages
+                if (!pkg.isEmpty() && content.contains(pkg)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CompileUnitTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testUnrelatedUnitsAreIndependent() throws IOException {
+        CompileUnit a = unit("a", "org/example/a/A.java", "package org.example.a; public class A {}");
+        CompileUnit b = unit("b", "org/example/b/B.java", "package org.example.b; public class B {}");
+
+        assertEquals(List.of(List.of(a), List.of(b)), CompileUnit.getIndependentGroups(List.of(a, b)));
+    }
+
+    @Test
+    public void testSharedPackage() throws IOException {
+        CompileUnit a = unit("a", "org/example/a/A.java", "package org.example.a; public class A {}");
+        CompileUnit b = unit("b", "org/example/a/B.java", "package org.example.a; public class B {}");
+
+        assertEquals(List.of(List.of(a, b)), CompileUnit.getIndependentGroups(List.of(a, b)));
+    }
+
+    @Test
+    public void testMentionedPackage() throws IOException {
+        CompileUnit a = unit("a", "org/example/a/A.java", "package org.example.a; public class A {}");
+        // a textual mention is enough, e.g. in a comment or a fully qualified name
+        CompileUnit b = unit("b", "org/example/b/B.java",
+                "package org.example.b; /** see org.example.a */ public class B {}");
+
+        assertEquals(List.of(List.of(a, b)), CompileUnit.getIndependentGroups(List.of(a, b)));
+        assertEquals(List.of(List.of(b, a)), CompileUnit.getIndependentGroups(List.of(b, a)));
+    }
+
+    @Test
+    public void testTransitiveGroupingKeepsOrder() throws IOException {
+        CompileUnit a = unit("a", "org/example/a/A.java", "package org.example.a; public class A {}");
+        CompileUnit b = unit("b", "org/example/b/B.java",
+                "package org.example.b; public class B extends org.example.a.A {}");
+        CompileUnit c = unit("c", "org/example/c/C.java",
+                "package org.example.c; public class C extends org.example.b.B {}");
+        CompileUnit d = unit("d", "org/example/d/D.java", "package org.example.d; public class D {}");
+
+        assertEquals(List.of(List.of(a, c, b), List.of(d)),
+                CompileUnit.getIndependentGroups(List.of(a, d, c, b)));
+    }
+
+    @Test
+    public void testNonAsciiPackageIsConsideredMentioned() throws IOException {
+        assumeTrue(canEncode("ä"), "file names can't contain non-ASCII characters");
+        CompileUnit a = unit("a", "org/example/ä/A.java", "package org.example.ä; public class A {}");
+        CompileUnit b = unit("b", "org/example/b/B.java", "package org.example.b; public class B {}");
+
+        assertEquals(List.of(List.of(a, b)), CompileUnit.getIndependentGroups(List.of(a, b)));
+    }
+
+    private boolean canEncode(String fileName) {
+        try {
+            tempDir.resolve(fileName);
+            return true;
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    private CompileUnit unit(String name, String path, String content) throws IOException {
+        Path sourceRoot = tempDir.resolve(name + "/src");
+        Path source = sourceRoot.resolve(path);
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, content, StandardCharsets.UTF_8);
+        return new CompileUnit(tempDir.resolve(name + "/bin").toFile(), List.of(sourceRoot.toString()), List.of(),
+                null);
+    }
+
+}
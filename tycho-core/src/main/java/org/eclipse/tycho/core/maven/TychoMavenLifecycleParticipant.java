@@ -52,6 +52,7 @@ import org.codehaus.plexus.PlexusContainer;
 import org.codehaus.plexus.component.repository.exception.ComponentLookupException;
 import org.codehaus.plexus.logging.Logger;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.equinox.internal.p2.repository.Transport;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.IRequirement;
 import org.eclipse.sisu.equinox.EquinoxServiceFactory;
@@ -65,6 +66,7 @@ import org.eclipse.tycho.core.osgitools.DefaultBundleReader;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor;
 import org.eclipse.tycho.p2maven.MavenProjectDependencyProcessor.ProjectDependencyClosure;
 import org.eclipse.tycho.p2maven.transport.TransportCacheConfig;
+import org.eclipse.tycho.p2maven.transport.TychoRepositoryTransport;
 import org.eclipse.tycho.resolver.TychoResolver;
 import org.eclipse.tycho.version.TychoVersion;
 
@@ -215,6 +217,15 @@ public class TychoMavenLifecycleParticipant extends AbstractMavenLifecyclePartic
     @Override
     public void afterSessionEnd(MavenSession session) throws MavenExecutionException {
         buildListeners.notifyBuildEnd(session);
+        if (plexus.hasComponent(Transport.class, "tycho")) {
+            try {
+                if (plexus.lookup(Transport.class, "tycho") instanceof TychoRepositoryTransport transport) {
+                    transport.sessionEnded();
+                }
+            } catch (ComponentLookupException e) {
+                throw new MavenExecutionException(e.getMessage(), e);
+            }
+        }
         if (plexus.hasComponent(EquinoxServiceFactory.class)) {
             try {
                 EquinoxServiceFactory factory = plexus.lookup(EquinoxServiceFactory.class);
@@ -20,7 +20,7 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.Enumeration;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -45,7 +45,14 @@ import org.eclipse.tycho.TychoConstants;
 public class DefaultBundleReader extends AbstractLogEnabled implements BundleReader {
 
     private static final long LOCK_TIMEOUT = Long.getLong("tycho.bundlereader.lock.timeout", 5 * 60 * 1000L);
-    private final Map<String, OsgiManifest> manifestCache = new HashMap<>();
+    private static final int MAX_CACHED_MANIFESTS = Integer.getInteger("tycho.bundlereader.cache.size", 10000);
+
+    /**
+     * manifests of bundles (jars or directories) by normalized absolute path, each entry remembers
+     * the size and modification time of the file it was read from
+     */
+    private final Map<String, CachedManifest> manifestCache = new ConcurrentHashMap<>();
+    private final Map<String, OsgiManifest> projectManifestCache = new ConcurrentHashMap<>();
 
     private File cacheDir;
     private ConcurrentMap<String, Optional<File>> extractedFiles = new ConcurrentHashMap<>();
@@ -55,12 +62,25 @@ public class DefaultBundleReader extends AbstractLogEnabled implements BundleRea
 
     @Override
     public OsgiManifest loadManifest(File bundleLocation) {
-        String locationPath = bundleLocation.getAbsolutePath();
-        OsgiManifest manifest = manifestCache.get(locationPath);
-        if (manifest == null) {
-            manifest = doLoadManifest(bundleLocation);
-            manifestCache.put(locationPath, manifest);
+        String locationPath = bundleLocation.toPath().toAbsolutePath().normalize().toString();
+        File stampFile = bundleLocation.isDirectory() ? new File(bundleLocation, JarFile.MANIFEST_NAME)
+                : bundleLocation;
+        long size = stampFile.length();
+        long lastModified = stampFile.lastModified();
+        CachedManifest cached = manifestCache.get(locationPath);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.manifest();
+        }
+        OsgiManifest manifest = doLoadManifest(bundleLocation);
+        if (manifestCache.size() >= MAX_CACHED_MANIFESTS && !manifestCache.containsKey(locationPath)) {
+            // no need for LRU here, the cache is only meant to bound memory for huge target platforms
+            Iterator<String> iterator = manifestCache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
         }
+        manifestCache.put(locationPath, new CachedManifest(manifest, size, lastModified));
         return manifest;
     }
 
@@ -69,14 +89,14 @@ public class DefaultBundleReader extends AbstractLogEnabled implements BundleRea
             throws OsgiManifestParserException, InvalidOSGiManifestException {
         String locationPath = mavenProject.getBasedir().getAbsolutePath();
         try {
-            OsgiManifest manifest = manifestCache.get(locationPath);
+            OsgiManifest manifest = projectManifestCache.get(locationPath);
             if (manifest == null) {
                 File manifestFile = getManifestLocation(mavenProject);
                 if (!manifestFile.isFile()) {
                     throw new OsgiManifestParserException(manifestFile.getAbsolutePath(), "Manifest file not found");
                 }
                 manifest = loadManifestFile(manifestFile);
-                manifestCache.put(locationPath, manifest);
+                projectManifestCache.put(locationPath, manifest);
             }
             return manifest;
         } catch (IOException e) {
@@ -244,4 +264,8 @@ public class DefaultBundleReader extends AbstractLogEnabled implements BundleRea
             outputFile.setLastModified(timestamp);
         }
     }
+
+    private static record CachedManifest(OsgiManifest manifest, long size, long lastModified) {
+
+    }
 }
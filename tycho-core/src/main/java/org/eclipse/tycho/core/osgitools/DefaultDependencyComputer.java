@@ -28,10 +28,14 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import javax.inject.Named;
 import javax.inject.Singleton;
+
+import org.eclipse.osgi.container.Module;
 import org.eclipse.osgi.container.ModuleCapability;
 import org.eclipse.osgi.container.ModuleContainer;
 import org.eclipse.osgi.container.ModuleRevision;
@@ -64,6 +68,20 @@ import org.osgi.resource.Capability;
 @Singleton
 public class DefaultDependencyComputer implements DependencyComputer {
 
+    private static final int MAX_SHARED_WIRINGS = 100_000;
+    private static final Set<String> WIRING_NAMESPACES = Set.of(PackageNamespace.PACKAGE_NAMESPACE,
+            BundleNamespace.BUNDLE_NAMESPACE, HostNamespace.HOST_NAMESPACE);
+
+    /**
+     * Package sources of wirings computed for earlier projects, by structural fingerprint of the
+     * wiring (see {@link PackageSourcesContext#getFingerprint(ModuleWiring)}). Each project is
+     * resolved in its own container, but most of them share large parts of the wiring graph (e.g.
+     * the platform runtime), so the package sources of these parts only need to be computed once.
+     */
+    private final Map<Integer, PackageSource[]> sharedPackageSources = new ConcurrentHashMap<>();
+    private final Map<String, Integer> fingerprintIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextFingerprintId = new AtomicInteger();
+
     public static class DependencyEntry implements DependencyComputer.DependencyEntry {
         public final BundleRevision module;
         private final Collection<AccessRule> rules;
@@ -176,6 +194,104 @@ public class DefaultDependencyComputer implements DependencyComputer {
         }
     }
 
+    /**
+     * Reference to a package capability that is independent of a specific container.
+     */
+    private static record CapabilityReference(String location, int index) {
+
+        static CapabilityReference of(ModuleCapability capability) {
+            ModuleRevision revision = capability.getResource();
+            return new CapabilityReference(revision.getRevisions().getModule().getLocation(),
+                    revision.getModuleCapabilities(PackageNamespace.PACKAGE_NAMESPACE).indexOf(capability));
+        }
+
+        ModuleCapability resolve(ModuleContainer container) {
+            Module module = container.getModule(location);
+            if (module == null || module.getCurrentRevision() == null) {
+                return null;
+            }
+            List<ModuleCapability> capabilities = module.getCurrentRevision()
+                    .getModuleCapabilities(PackageNamespace.PACKAGE_NAMESPACE);
+            return index >= 0 && index < capabilities.size() ? capabilities.get(index) : null;
+        }
+    }
+
+    private static record PackageSource(String packageName, CapabilityReference[] capabilities) {
+
+    }
+
+    /**
+     * State of one package sources computation
+     */
+    private final class PackageSourcesContext {
+
+        final Map<ModuleWiring, Map<String, Set<ModuleCapability>>> allSources = new HashMap<>();
+        private final Map<ModuleWiring, Integer> fingerprints = new HashMap<>();
+        private final Set<ModuleWiring> inProgress = new HashSet<>();
+        private final Set<ModuleWiring> cyclic = new HashSet<>();
+
+        /**
+         * Computes a fingerprint that is equal for two wirings (even in different containers) if
+         * the revisions and their package capabilities and all wires that are (transitively)
+         * relevant to compute the package sources are equal.
+         *
+         * @return the fingerprint or <code>null</code> if the wiring (transitively) participates in
+         *         a cycle, in this case the package sources depend on the order in which the cycle
+         *         is visited and can't be shared
+         */
+        Integer getFingerprint(ModuleWiring wiring) {
+            if (fingerprints.containsKey(wiring)) {
+                return fingerprints.get(wiring);
+            }
+            if (!inProgress.add(wiring)) {
+                cyclic.addAll(inProgress);
+                return null;
+            }
+            boolean valid = true;
+            StringBuilder fingerprint = new StringBuilder();
+            appendRevision(fingerprint, wiring.getRevision());
+            for (ModuleWire wire : wiring.getRequiredModuleWires(null)) {
+                ModuleCapability capability = wire.getCapability();
+                String namespace = capability.getNamespace();
+                if (!WIRING_NAMESPACES.contains(namespace)) {
+                    continue;
+                }
+                Integer provider = getFingerprint(wire.getProviderWiring());
+                if (provider == null) {
+                    valid = false;
+                    break;
+                }
+                ModuleRevision resource = capability.getResource();
+                fingerprint.append('|').append(namespace).append(':')
+                        .append(resource.getRevisions().getModule().getLocation()).append('#')
+                        .append(resource.getModuleCapabilities(namespace).indexOf(capability))
+                        .append(hasVisibilityReexport(wire) ? "!" : "").append('>').append(provider);
+            }
+            for (ModuleWire fragmentWire : wiring.getProvidedModuleWires(HostNamespace.HOST_NAMESPACE)) {
+                fingerprint.append("|+");
+                appendRevision(fingerprint, fragmentWire.getRequirer());
+            }
+            inProgress.remove(wiring);
+            Integer id = null;
+            if (valid && !cyclic.contains(wiring)) {
+                id = fingerprintIds.computeIfAbsent(fingerprint.toString(),
+                        key -> nextFingerprintId.incrementAndGet());
+            }
+            fingerprints.put(wiring, id);
+            return id;
+        }
+
+        private static void appendRevision(StringBuilder fingerprint, ModuleRevision revision) {
+            fingerprint.append(revision.getRevisions().getModule().getLocation()).append('@')
+                    .append(revision.getVersion());
+            for (ModuleCapability capability : revision.getModuleCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
+                fingerprint.append(';').append(getPackageName(capability)).append(' ')
+                        .append(capability.getAttributes().get(PackageNamespace.CAPABILITY_VERSION_ATTRIBUTE))
+                        .append(' ').append(capability.getDirectives());
+            }
+        }
+    }
+
     /**
      * Computes and returns the List of {@link DependencyEntry dependencies} of the given
      * {@link ModuleRevision}.
@@ -295,7 +411,8 @@ public class DefaultDependencyComputer implements DependencyComputer {
     }
 
     private VisiblePackages getPackagesInternal(ModuleRevision module) {
-        Map<String, Set<ModuleCapability>> sources = getPackagesInternal0(module.getWiring(), new HashMap<>());
+        Map<String, Set<ModuleCapability>> sources = getPackagesInternal0(module.getWiring(),
+                new PackageSourcesContext());
         VisiblePackages res = new VisiblePackages(module);
         sources.values().stream().flatMap(Set::stream).forEach(res::add);
         return res;
@@ -303,37 +420,87 @@ public class DefaultDependencyComputer implements DependencyComputer {
 
     // This part of resolution is copied and adapted from EquinoxCommandProvider `getPackages` implementation
     private Map<String, Set<ModuleCapability>> getPackagesInternal0(ModuleWiring wiring,
-            Map<ModuleWiring, Map<String, Set<ModuleCapability>>> allSources) {
+            PackageSourcesContext context) {
 
-        Map<String, Set<ModuleCapability>> packages = allSources.get(wiring);
+        Map<String, Set<ModuleCapability>> packages = context.allSources.get(wiring);
         if (packages != null) {
             return packages;
         }
+        Integer fingerprint = context.getFingerprint(wiring);
+        if (fingerprint != null) {
+            packages = resolveSharedPackageSources(fingerprint, wiring);
+            if (packages != null) {
+                context.allSources.put(wiring, packages);
+                return packages;
+            }
+        }
         packages = new TreeMap<>();
-        allSources.put(wiring, packages);
+        context.allSources.put(wiring, packages);
 
         Set<String> importedPackageNames = new HashSet<>();
-        populateFromWiring(wiring, allSources, packages, importedPackageNames);
+        populateFromWiring(wiring, context, packages, importedPackageNames);
         for (ModuleWire fragmentWire : wiring.getRequiredModuleWires(HostNamespace.HOST_NAMESPACE)) {
-            populateFromWiring(fragmentWire.getProviderWiring(), allSources, packages, importedPackageNames);
+            populateFromWiring(fragmentWire.getProviderWiring(), context, packages, importedPackageNames);
+        }
+        if (fingerprint != null) {
+            sharePackageSources(fingerprint, packages);
         }
         return packages;
     }
 
+    /**
+     * @return the shared package sources for the given fingerprint translated to the capabilities
+     *         of the container of the given wiring, or <code>null</code> if there are none
+     */
+    private Map<String, Set<ModuleCapability>> resolveSharedPackageSources(Integer fingerprint,
+            ModuleWiring wiring) {
+        PackageSource[] shared = sharedPackageSources.get(fingerprint);
+        if (shared == null) {
+            return null;
+        }
+        ModuleContainer container = wiring.getRevision().getRevisions().getModule().getContainer();
+        Map<String, Set<ModuleCapability>> packages = new TreeMap<>();
+        for (PackageSource source : shared) {
+            Set<ModuleCapability> capabilities = new LinkedHashSet<>();
+            for (CapabilityReference reference : source.capabilities()) {
+                ModuleCapability capability = reference.resolve(container);
+                if (capability == null) {
+                    return null;
+                }
+                capabilities.add(capability);
+            }
+            packages.put(source.packageName(), capabilities);
+        }
+        return packages;
+    }
+
+    private void sharePackageSources(Integer fingerprint, Map<String, Set<ModuleCapability>> packages) {
+        if (sharedPackageSources.size() >= MAX_SHARED_WIRINGS) {
+            // fingerprints are never reused so it is safe to simply start over
+            sharedPackageSources.clear();
+            fingerprintIds.clear();
+        }
+        PackageSource[] sources = packages.entrySet().stream()
+                .map(entry -> new PackageSource(entry.getKey(),
+                        entry.getValue().stream().map(CapabilityReference::of).toArray(CapabilityReference[]::new)))
+                .toArray(PackageSource[]::new);
+        sharedPackageSources.putIfAbsent(fingerprint, sources);
+    }
+
     private void populateFromWiring(ModuleWiring wiring,
-            Map<ModuleWiring, Map<String, Set<ModuleCapability>>> allSources,
+            PackageSourcesContext context,
             Map<String, Set<ModuleCapability>> packages, Set<String> importedPackageNames) {
 
         // first get the imported packages
         for (ModuleWire packageWire : wiring.getRequiredModuleWires(PackageNamespace.PACKAGE_NAMESPACE)) {
             String packageName = getPackageName(packageWire.getCapability());
             importedPackageNames.add(packageName);
-            addAggregatePackageSource(packageWire.getCapability(), packageName, packageWire, packages, allSources);
+            addAggregatePackageSource(packageWire.getCapability(), packageName, packageWire, packages, context);
         }
 
         // now get packages from its required bundles and all accessible bundles through visibility:reexport 
         for (ModuleWire requiredWire : getRequiredAndAllAccessibleModuleWires(wiring)) {
-            getRequiredBundlePackages(requiredWire, importedPackageNames, packages, allSources);
+            getRequiredBundlePackages(requiredWire, importedPackageNames, packages, context);
         }
     }
 
@@ -366,7 +533,7 @@ public class DefaultDependencyComputer implements DependencyComputer {
 
     private void addAggregatePackageSource(ModuleCapability packageCap, String packageName, ModuleWire wire,
             Map<String, Set<ModuleCapability>> packages,
-            Map<ModuleWiring, Map<String, Set<ModuleCapability>>> allSources) {
+            PackageSourcesContext context) {
         Set<ModuleCapability> packageSources = packages.computeIfAbsent(packageName, p -> new LinkedHashSet<>());
         packageSources.add(packageCap);
         // Tycho-specific: Case of split package with fragment, not part of `getPackages` console command but necessary for Tycho
@@ -380,7 +547,7 @@ public class DefaultDependencyComputer implements DependencyComputer {
             }
         }
         // source may be a split package aggregate
-        Set<ModuleCapability> providerSource = getPackagesInternal0(wire.getProviderWiring(), allSources)
+        Set<ModuleCapability> providerSource = getPackagesInternal0(wire.getProviderWiring(), context)
                 .get(packageName);
         if (providerSource != null) {
             packageSources.addAll(providerSource);
@@ -389,14 +556,14 @@ public class DefaultDependencyComputer implements DependencyComputer {
 
     private void getRequiredBundlePackages(ModuleWire requiredWire, Set<String> importedPackageNames,
             Map<String, Set<ModuleCapability>> packages,
-            Map<ModuleWiring, Map<String, Set<ModuleCapability>>> allSources) {
+            PackageSourcesContext context) {
         ModuleWiring providerWiring = requiredWire.getProviderWiring();
         for (ModuleCapability packageCapability : providerWiring
                 .getModuleCapabilities(PackageNamespace.PACKAGE_NAMESPACE)) {
             String packageName = getPackageName(packageCapability);
             // if imported then packages from required bundles do not get added
             if (!importedPackageNames.contains(packageName)) {
-                addAggregatePackageSource(packageCapability, packageName, requiredWire, packages, allSources);
+                addAggregatePackageSource(packageCapability, packageName, requiredWire, packages, context);
             }
         }
 
@@ -419,7 +586,7 @@ public class DefaultDependencyComputer implements DependencyComputer {
             if (!importedPackageNames.contains(packageName) && declaredPackageNames.contains(packageName)) {
                 // if the package is a declared capability AND the wiring imports the package
                 // then it is substituted
-                addAggregatePackageSource(packageWire.getCapability(), packageName, packageWire, packages, allSources);
+                addAggregatePackageSource(packageWire.getCapability(), packageName, packageWire, packages, context);
             }
         }
 
@@ -27,10 +27,12 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
@@ -55,6 +57,7 @@ import org.eclipse.osgi.container.ModuleWire;
 import org.eclipse.osgi.container.SystemModule;
 import org.eclipse.osgi.container.builders.OSGiManifestBuilderFactory;
 import org.eclipse.osgi.container.namespaces.EclipsePlatformNamespace;
+import org.eclipse.osgi.framework.util.CaseInsensitiveDictionaryMap;
 import org.eclipse.osgi.internal.framework.AliasMapper;
 import org.eclipse.osgi.internal.framework.EquinoxConfiguration;
 import org.eclipse.osgi.report.resolution.ResolutionReport;
@@ -113,6 +116,15 @@ public class EquinoxResolver implements DependenciesResolver {
     @Inject
     private DependencyComputer dependencyComputer;
 
+    /**
+     * Target platform bundles are the same for most reactor projects, so the revision builder
+     * (which requires parsing all manifest headers) is only computed once per bundle and then
+     * shared by all resolver states. The builders are treated as read-only once they are cached.
+     * There is at most one entry per bundle location and configuration, it is replaced when the
+     * bundle changes.
+     */
+    private final Map<PreparedBundleKey, CachedBundle> preparedBundles = new ConcurrentHashMap<>();
+
     public ModuleContainer newResolvedState(ReactorProject project, MavenSession mavenSession, ExecutionEnvironment ee,
             DependencyArtifacts artifacts, Map<Module, ArtifactDescriptor> descriptorLookup) throws BundleException {
         Objects.requireNonNull(artifacts, "DependencyArtifacts can't be null!");
@@ -359,8 +371,8 @@ public class EquinoxResolver implements DependenciesResolver {
         ModuleContainer moduleContainer = new ModuleContainer(moduleContainerAdaptor, moduleDatabase);
         moduleContainerAccessor[0] = moduleContainer;
 
-        Map<File, OsgiManifest> systemBundles = new LinkedHashMap<>();
-        Map<File, OsgiManifest> externalBundles = new LinkedHashMap<>();
+        Map<File, Map<String, String>> systemBundles = new LinkedHashMap<>();
+        Map<File, ModuleRevisionBuilder> externalBundles = new LinkedHashMap<>();
         Map<File, OsgiManifest> projects = new LinkedHashMap<>();
         Map<File, ArtifactDescriptor> descriptors = new LinkedHashMap<>();
 
@@ -374,31 +386,36 @@ public class EquinoxResolver implements DependenciesResolver {
                 continue;
             }
             File location = artifact.getLocation(true);
-            OsgiManifest mf = loadManifest(location, artifact);
             descriptors.put(location, artifact);
+            if (artifact.getMavenProject() == null) {
+                PreparedBundle prepared = prepareExternalBundle(location, artifact, config);
+                if (prepared.builder() == null) {
+                    systemBundles.put(location, prepared.headers());
+                } else {
+                    externalBundles.put(location, prepared.builder());
+                }
+                continue;
+            }
+            OsgiManifest mf = loadManifest(location, artifact);
             if (!config.keepRequireCapability) {
                 removeRequireCapabilities(mf);
             }
             if (isFrameworkImplementation(mf)) {
-                systemBundles.put(location, mf);
+                systemBundles.put(location, mf.getHeaders());
             } else {
                 ReactorProject mavenProject = artifact.getMavenProject();
-                if (mavenProject != null) {
-                    Collection<String> additionalBundles = buildPropertiesParser.parse(mavenProject)
-                            .getAdditionalBundles();
-                    if (!additionalBundles.isEmpty()) {
-                        List<String> reqb = new ArrayList<>();
-                        String value = mf.getValue(Constants.REQUIRE_BUNDLE);
-                        if (value != null) {
-                            reqb.add(value);
-                        }
-                        reqb.addAll(additionalBundles.stream().map(b -> b + ";resolution:=optional").toList());
-                        mf.getHeaders().put(Constants.REQUIRE_BUNDLE, String.join(",", reqb));
+                Collection<String> additionalBundles = buildPropertiesParser.parse(mavenProject)
+                        .getAdditionalBundles();
+                if (!additionalBundles.isEmpty()) {
+                    List<String> reqb = new ArrayList<>();
+                    String value = mf.getValue(Constants.REQUIRE_BUNDLE);
+                    if (value != null) {
+                        reqb.add(value);
                     }
-                    projects.put(location, mf);
-                } else {
-                    externalBundles.put(location, mf);
+                    reqb.addAll(additionalBundles.stream().map(b -> b + ";resolution:=optional").toList());
+                    mf.getHeaders().put(Constants.REQUIRE_BUNDLE, String.join(",", reqb));
                 }
+                projects.put(location, mf);
             }
         }
 
@@ -407,8 +424,8 @@ public class EquinoxResolver implements DependenciesResolver {
         Map<String, String> systemBundleManifest;
         File systemBundleInfo;
         if (!systemBundles.isEmpty()) {
-            Map.Entry<File, OsgiManifest> systemBundle = systemBundles.entrySet().iterator().next();
-            systemBundleManifest = systemBundle.getValue().getHeaders();
+            Map.Entry<File, Map<String, String>> systemBundle = systemBundles.entrySet().iterator().next();
+            systemBundleManifest = systemBundle.getValue();
             systemBundleInfo = systemBundle.getKey();
         } else {
             systemBundleManifest = Map.of(Constants.BUNDLE_SYMBOLICNAME, Constants.SYSTEM_BUNDLE_SYMBOLICNAME);
@@ -418,35 +435,82 @@ public class EquinoxResolver implements DependenciesResolver {
         ModuleRevisionBuilder systemBundleRevisionBuilder = OSGiManifestBuilderFactory.createBuilder(
                 systemBundleManifest, Constants.SYSTEM_BUNDLE_SYMBOLICNAME,
                 properties.getProperty(Constants.FRAMEWORK_SYSTEMPACKAGES), systemExtraCapabilities);
+        if (!config.keepUses) {
+            removeUses(systemBundleRevisionBuilder);
+        }
         install(moduleContainer, null, Constants.SYSTEM_BUNDLE_LOCATION, systemBundleRevisionBuilder, systemBundleInfo,
-                config, descriptorLookup, descriptors);
+                descriptorLookup, descriptors);
 
-        for (Map.Entry<File, OsgiManifest> external : externalBundles.entrySet()) {
-            install(moduleContainer, null, external.getKey().getAbsolutePath(),
-                    OSGiManifestBuilderFactory.createBuilder(external.getValue().getHeaders()), external.getKey(),
-                    config, descriptorLookup, descriptors);
+        for (Map.Entry<File, ModuleRevisionBuilder> external : externalBundles.entrySet()) {
+            // the builders are shared and already prepared for the configuration
+            install(moduleContainer, null, external.getKey().getAbsolutePath(), external.getValue(),
+                    external.getKey(), descriptorLookup, descriptors);
         }
         for (Map.Entry<File, OsgiManifest> entry : projects.entrySet()) {
             // make sure reactor projects override anything from the target platform
             // that has the same bundle symbolic name
             Map<String, String> headers = entry.getValue().getHeaders();
             ModuleRevisionBuilder builder = OSGiManifestBuilderFactory.createBuilder(headers);
-            install(moduleContainer, null, entry.getKey().getAbsolutePath(), builder, entry.getKey(), config,
+            if (!config.keepUses) {
+                removeUses(builder);
+            }
+            install(moduleContainer, null, entry.getKey().getAbsolutePath(), builder, entry.getKey(),
                     descriptorLookup, descriptors);
         }
         return moduleContainer;
     }
 
-    private static Module install(ModuleContainer moduleContainer, Module origin, String location,
-            ModuleRevisionBuilder builder, File revisionInfo, EquinoxResolverConfiguration configuration,
-            Map<Module, ArtifactDescriptor> descriptorLookup, Map<File, ArtifactDescriptor> descriptors)
+    /**
+     * Computes (or fetches from the cache) the revision builder for a bundle of the target
+     * platform, the result only depends on the bundle file and the resolver configuration but not
+     * on the project that is resolved.
+     */
+    private PreparedBundle prepareExternalBundle(File location, ArtifactDescriptor artifact,
+            EquinoxResolverConfiguration config) throws BundleException {
+        if (!checkExits(location)) {
+            throw new IllegalArgumentException("bundleLocation not found: " + location + " for artifact " + artifact);
+        }
+        PreparedBundleKey key = PreparedBundleKey.of(location, config);
+        BundleStamp stamp = BundleStamp.of(location);
+        CachedBundle cached = preparedBundles.get(key);
+        if (cached != null && cached.stamp().equals(stamp)) {
+            return cached.bundle();
+        }
+        PreparedBundle prepared = prepareBundle(loadManifest(location, artifact), config);
+        // replaces the entry of an older version of the bundle
+        preparedBundles.put(key, new CachedBundle(stamp, prepared));
+        return prepared;
+    }
+
+    /**
+     * Prepares the given manifest of a target platform bundle for the given configuration. The
+     * manifest itself is not modified as it is shared with other users of the bundle reader.
+     */
+    static PreparedBundle prepareBundle(OsgiManifest mf, EquinoxResolverConfiguration config)
             throws BundleException {
-        if (!configuration.keepUses) {
-            List<GenericInfo> capabilities = builder.getCapabilities();
-            for (GenericInfo genericInfo : capabilities) {
-                genericInfo.getDirectives().remove("uses");
-            }
+        Map<String, String> headers = new CaseInsensitiveDictionaryMap<>(mf.getHeaders());
+        if (!config.keepRequireCapability) {
+            headers.remove(Constants.REQUIRE_CAPABILITY);
+        }
+        if (isFrameworkImplementation(mf)) {
+            return new PreparedBundle(headers, null);
         }
+        ModuleRevisionBuilder builder = OSGiManifestBuilderFactory.createBuilder(headers);
+        if (!config.keepUses) {
+            removeUses(builder);
+        }
+        return new PreparedBundle(headers, builder);
+    }
+
+    private static void removeUses(ModuleRevisionBuilder builder) {
+        for (GenericInfo genericInfo : builder.getCapabilities()) {
+            genericInfo.getDirectives().remove("uses");
+        }
+    }
+
+    private static Module install(ModuleContainer moduleContainer, Module origin, String location,
+            ModuleRevisionBuilder builder, File revisionInfo, Map<Module, ArtifactDescriptor> descriptorLookup,
+            Map<File, ArtifactDescriptor> descriptors) throws BundleException {
         Module module = moduleContainer.install(origin, location, builder, revisionInfo);
         ArtifactDescriptor descriptor = descriptors.get(revisionInfo);
         if (descriptor != null) {
@@ -455,7 +519,7 @@ public class EquinoxResolver implements DependenciesResolver {
         return module;
     }
 
-    private boolean isFrameworkImplementation(OsgiManifest mf) {
+    private static boolean isFrameworkImplementation(OsgiManifest mf) {
         // starting with OSGi R4.2, /META-INF/services/org.osgi.framework.launch.FrameworkFactory
         // can be used to detect framework implementation
         // See https://www.osgi.org/javadoc/r4v42/org/osgi/framework/launch/FrameworkFactory.html
@@ -631,6 +695,45 @@ public class EquinoxResolver implements DependenciesResolver {
         };
     }
 
+    static record PreparedBundleKey(String location, boolean keepUses, boolean keepRequireCapability) {
+
+        static PreparedBundleKey of(File location, EquinoxResolverConfiguration config) {
+            return new PreparedBundleKey(location.getAbsolutePath(), config.keepUses, config.keepRequireCapability);
+        }
+    }
+
+    /**
+     * The version of a bundle a prepared bundle was computed from
+     */
+    static record BundleStamp(long lastModified, long size) {
+
+        /**
+         * Creates the stamp of the given bundle. Directory bundles are stamped by their manifest,
+         * as the timestamp of the directory itself neither changes when the manifest is edited in
+         * place nor only when it changes.
+         */
+        static BundleStamp of(File location) {
+            File file = location;
+            if (location.isDirectory()) {
+                file = new File(location, JarFile.MANIFEST_NAME);
+            }
+            return new BundleStamp(file.lastModified(), file.length());
+        }
+    }
+
+    private static record CachedBundle(BundleStamp stamp, PreparedBundle bundle) {
+    }
+
+    /**
+     * @param headers
+     *            the prepared manifest headers of the bundle
+     * @param builder
+     *            the builder to install the bundle, or <code>null</code> if the bundle is a
+     *            framework implementation
+     */
+    static record PreparedBundle(Map<String, String> headers, ModuleRevisionBuilder builder) {
+    }
+
     public static Properties computeMergedProperties(MavenProject mavenProject, MavenSession mavenSession) {
         Properties properties = new Properties();
         properties.putAll(mavenProject.getProperties());
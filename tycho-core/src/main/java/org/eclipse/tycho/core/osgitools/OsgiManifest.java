@@ -5,6 +5,7 @@ import static org.osgi.framework.Constants.BUNDLE_VERSION;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -35,6 +36,11 @@ import org.osgi.framework.Version;
 public class OsgiManifest {
 
     private static final String[] EMPTY_EXEC_ENV = new String[0];
+    /**
+     * header values up to this length are interned, as values like vendor, required execution
+     * environment or the manifest version repeat across most bundles of a target platform
+     */
+    private static final int MAX_INTERNED_LENGTH = 128;
 
     private final String location;
     private final CaseInsensitiveDictionaryMap<String, String> headers;
@@ -66,6 +72,12 @@ public class OsgiManifest {
             } else {
                 ManifestElement.parseBundleManifest(stream, headers);
             }
+            for (String key : new ArrayList<>(headers.keySet())) {
+                String value = headers.get(key);
+                if (value != null && value.length() <= MAX_INTERNED_LENGTH) {
+                    headers.put(key, value.intern());
+                }
+            }
             // this will do more strict validation of headers on OSGi semantical level
             this.bundleSymbolicName = OSGiManifestBuilderFactory.createBuilder(headers).getSymbolicName();
         } catch (IOException | BundleException e) {
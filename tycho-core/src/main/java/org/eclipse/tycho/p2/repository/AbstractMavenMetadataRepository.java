@@ -12,21 +12,36 @@
  *******************************************************************************/
 package org.eclipse.tycho.p2.repository;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.equinox.p2.query.IQuery;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.repository.IRepositoryReference;
@@ -34,15 +49,45 @@ import org.eclipse.equinox.p2.repository.metadata.spi.AbstractMetadataRepository
 import org.eclipse.tycho.ArtifactType;
 import org.eclipse.tycho.TychoConstants;
 
+/**
+ * A metadata repository backed by the GAV index of a maven repository. Only the ids and versions of
+ * the units of each GAV are kept in memory (and persisted in {@link #UNITS_INDEX_RELPATH} so they
+ * don't have to be read on every build), the units themselves are read when they are queried and
+ * only the most recently used ones are kept, see {@link #CACHE_SIZE}.
+ */
 public abstract class AbstractMavenMetadataRepository extends AbstractMetadataRepository {
 
+    public static final String UNITS_INDEX_RELPATH = ".meta/p2-local-metadata.units";
+
+    /**
+     * The maximum number of GAVs whose units are kept in memory
+     */
+    static final int CACHE_SIZE = Integer.getInteger("tycho.p2.localMetadata.cacheSize", 1000);
+
+    private static final int UNITS_INDEX_FORMAT = 1;
+
     protected final TychoRepositoryIndex metadataIndex;
 
     protected final RepositoryReader contentLocator;
 
-    protected Set<IInstallableUnit> units = new LinkedHashSet<>();
+    /**
+     * the known GAVs with the ids and versions of their units
+     */
+    private final Map<GAV, GAVEntry> entries = new LinkedHashMap<>();
 
-    protected Map<GAV, Set<IInstallableUnit>> unitsMap = new LinkedHashMap<>();
+    /**
+     * units added but not yet saved, these are never evicted
+     */
+    private final Map<GAV, Set<IInstallableUnit>> unsavedUnits = new LinkedHashMap<>();
+
+    private final Map<GAV, Set<IInstallableUnit>> loadedUnits = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<GAV, Set<IInstallableUnit>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private boolean loaded;
 
     public AbstractMavenMetadataRepository(IProvisioningAgent agent, URI location, TychoRepositoryIndex metadataIndex,
             RepositoryReader contentLocator) {
@@ -58,50 +103,352 @@ public abstract class AbstractMavenMetadataRepository extends AbstractMetadataRe
         }
     }
 
-    protected void load() {
+    protected synchronized void load() {
         MetadataIO io = new MetadataIO();
-
+        Map<GAV, GAVEntry> previous = readUnitsIndex(getUnitsIndexFile());
+        boolean changed = false;
         for (GAV gav : metadataIndex.getProjectGAVs()) {
-            try {
-                File localArtifactFileLocation = contentLocator.getLocalArtifactLocation(gav,
-                        TychoConstants.CLASSIFIER_P2_METADATA, ArtifactType.TYPE_P2_METADATA);
-                if (!localArtifactFileLocation.exists()) {
-                    // if files have been manually removed from the repository, simply remove them from the index (bug 351080)
-                    metadataIndex.removeGav(gav);
-                } else {
-                    try (InputStream is = new FileInputStream(localArtifactFileLocation)) {
-                        Set<IInstallableUnit> gavUnits = io.readXML(is);
+            File localArtifactFileLocation = getMetadataFile(gav);
+            if (!localArtifactFileLocation.exists()) {
+                // if files have been manually removed from the repository, simply remove them from the index (bug 351080)
+                metadataIndex.removeGav(gav);
+                continue;
+            }
+            GAVEntry entry = previous.get(gav);
+            if (entry == null || !entry.isCurrent(localArtifactFileLocation)) {
+                try {
+                    long length = localArtifactFileLocation.length();
+                    long lastModified = localArtifactFileLocation.lastModified();
+                    Set<IInstallableUnit> gavUnits = Collections
+                            .unmodifiableSet(readUnits(io, localArtifactFileLocation));
+                    entry = new GAVEntry(length, lastModified, getKeys(gavUnits));
+                    loadedUnits.put(gav, gavUnits);
+                    changed = true;
+                } catch (IOException e) {
+                    // TODO throw properly typed exception if repository cannot be loaded
+                    e.printStackTrace();
+                    continue;
+                }
+            }
+            entries.put(gav, entry);
+        }
+        loaded = true;
+        if (changed || previous.size() != entries.size()) {
+            saveUnitsIndex();
+        }
+    }
 
-                        unitsMap.put(gav, gavUnits);
-                        units.addAll(gavUnits);
-                    }
+    private static Set<IInstallableUnit> readUnits(MetadataIO io, File xmlFile) throws IOException {
+        File binaryFile = getBinaryMetadataFile(xmlFile);
+        if (binaryFile.isFile()) {
+            try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(binaryFile)))) {
+                // only use the binary copy if it was written for the current XML file
+                if (is.readLong() == xmlFile.length() && is.readLong() == xmlFile.lastModified()) {
+                    return io.readBinary(is);
                 }
             } catch (IOException e) {
-                // TODO throw properly typed exception if repository cannot be loaded
-                e.printStackTrace();
+                // incompatible, the XML file is always authoritative...
             }
+        }
+        try (InputStream is = new FileInputStream(xmlFile)) {
+            return io.readXML(is);
+        }
+    }
 
+    /**
+     * Writes a binary copy of the given units, which must have been written to the given XML file
+     * before. The binary copy is only used as long as the XML file is not modified afterwards.
+     */
+    protected static void writeBinary(MetadataIO io, Collection<IInstallableUnit> units, File xmlFile)
+            throws IOException {
+        File binaryFile = getBinaryMetadataFile(xmlFile);
+        try (DataOutputStream os = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(binaryFile)))) {
+            os.writeLong(xmlFile.length());
+            os.writeLong(xmlFile.lastModified());
+            io.writeBinary(units, os);
+        } catch (IOException e) {
+            // not representable in the binary format, readers will use the XML file
+            Files.deleteIfExists(binaryFile.toPath());
         }
     }
 
+    /**
+     * @return the location of the binary copy of the given XML metadata file, see
+     *         {@link #writeBinary(MetadataIO, Collection, File)}
+     */
+    protected static File getBinaryMetadataFile(File xmlFile) {
+        return new File(xmlFile.getParentFile(), xmlFile.getName() + ".bin");
+    }
+
     @Override
     public void initialize(RepositoryState state) {
     }
 
     @Override
     public IQueryResult<IInstallableUnit> query(IQuery<IInstallableUnit> query, IProgressMonitor monitor) {
-        return query.perform(units.iterator());
+        List<GAV> gavs;
+        synchronized (this) {
+            gavs = new ArrayList<>(entries.keySet());
+        }
+        return query.perform(new UnitsIterator(gavs));
+    }
+
+    /**
+     * @return the ids and versions of all units in this repository, this does not require to read
+     *         the units
+     */
+    public synchronized Set<IVersionedId> getUnitKeys() {
+        Set<IVersionedId> keys = new LinkedHashSet<>();
+        for (GAV gav : entries.keySet()) {
+            keys.addAll(getKeys(gav));
+        }
+        return keys;
+    }
+
+    /**
+     * Adds a unit that is not saved yet, see {@link #unitsSaved(GAV, File)}
+     */
+    protected synchronized void addUnsavedUnit(GAV gav, IInstallableUnit unit) {
+        Set<IInstallableUnit> gavUnits = unsavedUnits.get(gav);
+        if (gavUnits == null) {
+            gavUnits = new LinkedHashSet<>();
+            if (entries.containsKey(gav)) {
+                gavUnits.addAll(getUnits(gav));
+            }
+            unsavedUnits.put(gav, gavUnits);
+        }
+        gavUnits.add(unit);
+        entries.putIfAbsent(gav, GAVEntry.UNSAVED);
+    }
+
+    /**
+     * @return the GAVs with units not saved yet
+     */
+    protected synchronized List<GAV> getUnsavedGAVs() {
+        return new ArrayList<>(unsavedUnits.keySet());
+    }
+
+    /**
+     * @return the units not saved yet for the given GAV or <code>null</code>
+     */
+    protected synchronized Set<IInstallableUnit> getUnsavedUnits(GAV gav) {
+        Set<IInstallableUnit> gavUnits = unsavedUnits.get(gav);
+        return gavUnits == null ? null : new LinkedHashSet<>(gavUnits);
+    }
+
+    /**
+     * Records that the unsaved units of the given GAV have been written to the given file.
+     */
+    protected synchronized void unitsSaved(GAV gav, File file) {
+        Set<IInstallableUnit> gavUnits = unsavedUnits.remove(gav);
+        if (gavUnits != null) {
+            entries.put(gav, new GAVEntry(file.length(), file.lastModified(), getKeys(gavUnits)));
+            loadedUnits.put(gav, Collections.unmodifiableSet(gavUnits));
+        }
+    }
+
+    /**
+     * Persists the ids and versions of all units, so they can be used without reading the units in
+     * the next build.
+     */
+    protected synchronized void saveUnitsIndex() {
+        if (!loaded) {
+            // we only know about our own units, the next load will create it
+            return;
+        }
+        File file = getUnitsIndexFile();
+        try {
+            file.getParentFile().mkdirs();
+            File tempFile = File.createTempFile(file.getName(), ".tmp", file.getParentFile());
+            try {
+                try (DataOutputStream os = new DataOutputStream(
+                        new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+                    os.writeInt(UNITS_INDEX_FORMAT);
+                    List<Map.Entry<GAV, GAVEntry>> saved = entries.entrySet().stream()
+                            .filter(entry -> entry.getValue() != GAVEntry.UNSAVED).toList();
+                    os.writeInt(saved.size());
+                    for (Map.Entry<GAV, GAVEntry> entry : saved) {
+                        GAV gav = entry.getKey();
+                        os.writeUTF(gav.getGroupId());
+                        os.writeUTF(gav.getArtifactId());
+                        os.writeUTF(gav.getVersion());
+                        GAVEntry gavEntry = entry.getValue();
+                        os.writeLong(gavEntry.length());
+                        os.writeLong(gavEntry.lastModified());
+                        os.writeInt(gavEntry.keys().size());
+                        for (IVersionedId key : gavEntry.keys()) {
+                            os.writeUTF(key.getId());
+                            os.writeUTF(key.getVersion().toString());
+                        }
+                    }
+                }
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile.toPath());
+            }
+        } catch (IOException e) {
+            // the units are read again in the next build...
+        }
+    }
+
+    private static Map<GAV, GAVEntry> readUnitsIndex(File file) {
+        Map<GAV, GAVEntry> result = new LinkedHashMap<>();
+        if (!file.isFile()) {
+            return result;
+        }
+        try (DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (is.readInt() != UNITS_INDEX_FORMAT) {
+                return result;
+            }
+            int size = is.readInt();
+            for (int i = 0; i < size; i++) {
+                GAV gav = new GAV(is.readUTF(), is.readUTF(), is.readUTF());
+                long length = is.readLong();
+                long lastModified = is.readLong();
+                int keyCount = is.readInt();
+                List<IVersionedId> keys = new ArrayList<>(keyCount);
+                for (int k = 0; k < keyCount; k++) {
+                    keys.add(new VersionedId(is.readUTF(), Version.parseVersion(is.readUTF())));
+                }
+                result.put(gav, new GAVEntry(length, lastModified, keys));
+            }
+            return result;
+        } catch (IOException | IllegalArgumentException e) {
+            // incomplete or corrupted, all units are read again
+            return new LinkedHashMap<>();
+        }
+    }
+
+    private File getUnitsIndexFile() {
+        return new File(new File(getLocation()), UNITS_INDEX_RELPATH);
+    }
+
+    protected File getMetadataFile(GAV gav) {
+        if (contentLocator != null) {
+            return contentLocator.getLocalArtifactLocation(gav, TychoConstants.CLASSIFIER_P2_METADATA,
+                    ArtifactType.TYPE_P2_METADATA);
+        }
+        return new File(new File(getLocation()), RepositoryLayoutHelper.getRelativePath(gav,
+                TychoConstants.CLASSIFIER_P2_METADATA, ArtifactType.TYPE_P2_METADATA, metadataIndex.getMavenContext()));
+    }
+
+    private synchronized List<IVersionedId> getKeys(GAV gav) {
+        Set<IInstallableUnit> gavUnits = unsavedUnits.get(gav);
+        if (gavUnits != null) {
+            return getKeys(gavUnits);
+        }
+        GAVEntry entry = entries.get(gav);
+        return entry == null ? List.of() : entry.keys();
+    }
+
+    private synchronized Set<IInstallableUnit> getUnits(GAV gav) {
+        Set<IInstallableUnit> gavUnits = unsavedUnits.get(gav);
+        if (gavUnits != null) {
+            return new LinkedHashSet<>(gavUnits);
+        }
+        gavUnits = loadedUnits.get(gav);
+        if (gavUnits != null) {
+            return gavUnits;
+        }
+        if (!entries.containsKey(gav)) {
+            return Set.of();
+        }
+        File file = getMetadataFile(gav);
+        try {
+            long length = file.length();
+            long lastModified = file.lastModified();
+            gavUnits = Collections.unmodifiableSet(readUnits(new MetadataIO(), file));
+            GAVEntry entry = entries.get(gav);
+            if (entry.length() != length || entry.lastModified() != lastModified) {
+                // modified by another build in the meantime
+                entries.put(gav, new GAVEntry(length, lastModified, getKeys(gavUnits)));
+            }
+            loadedUnits.put(gav, gavUnits);
+            return gavUnits;
+        } catch (IOException e) {
+            // TODO throw properly typed exception if repository cannot be loaded
+            e.printStackTrace();
+            return Set.of();
+        }
+    }
+
+    private static List<IVersionedId> getKeys(Collection<IInstallableUnit> units) {
+        return units.stream().<IVersionedId> map(unit -> new VersionedId(unit.getId(), unit.getVersion())).toList();
     }
 
     /**
      * For testing purposes only
      */
-    public Map<GAV, Set<IInstallableUnit>> getGAVs() {
-        return unitsMap;
+    public synchronized Map<GAV, Set<IInstallableUnit>> getGAVs() {
+        Map<GAV, Set<IInstallableUnit>> result = new LinkedHashMap<>();
+        for (GAV gav : entries.keySet()) {
+            result.put(gav, getUnits(gav));
+        }
+        return result;
     }
 
     @Override
     public Collection<IRepositoryReference> getReferences() {
         return Collections.emptyList();
     }
+
+    private static record GAVEntry(long length, long lastModified, List<IVersionedId> keys) {
+
+        static final GAVEntry UNSAVED = new GAVEntry(-1, -1, List.of());
+
+        boolean isCurrent(File file) {
+            return length == file.length() && lastModified == file.lastModified();
+        }
+    }
+
+    /**
+     * Iterates over the units of the given GAVs, reading them one GAV after another. Units with the
+     * same id and version are only returned once.
+     */
+    private final class UnitsIterator implements Iterator<IInstallableUnit> {
+
+        private final Iterator<GAV> gavs;
+
+        private final Set<IVersionedId> seen = new HashSet<>();
+
+        private Iterator<IInstallableUnit> current = Collections.emptyIterator();
+
+        private IInstallableUnit next;
+
+        UnitsIterator(List<GAV> gavs) {
+            this.gavs = gavs.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (current.hasNext()) {
+                    IInstallableUnit unit = current.next();
+                    if (seen.add(new VersionedId(unit.getId(), unit.getVersion()))) {
+                        next = unit;
+                    }
+                } else if (gavs.hasNext()) {
+                    GAV gav = gavs.next();
+                    if (!seen.containsAll(getKeys(gav))) {
+                        current = getUnits(gav).iterator();
+                    }
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public IInstallableUnit next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            IInstallableUnit result = next;
+            next = null;
+            return result;
+        }
+    }
 }
@@ -0,0 +1,575 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2.repository;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.ICopyright;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitFragment;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitPatch;
+import org.eclipse.equinox.p2.metadata.ILicense;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.IRequirementChange;
+import org.eclipse.equinox.p2.metadata.ITouchpointData;
+import org.eclipse.equinox.p2.metadata.ITouchpointInstruction;
+import org.eclipse.equinox.p2.metadata.ITouchpointType;
+import org.eclipse.equinox.p2.metadata.IUpdateDescriptor;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitFragmentDescription;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitPatchDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.equinox.p2.metadata.expression.ExpressionUtil;
+import org.eclipse.equinox.p2.metadata.expression.IExpression;
+import org.eclipse.equinox.p2.metadata.expression.IFilterExpression;
+import org.eclipse.equinox.p2.metadata.expression.IMatchExpression;
+
+/**
+ * Compact binary representation of installable units as an alternative to the p2 XML format.
+ * <p>
+ * All strings (ids, namespaces, versions, expressions, ...) are written only once per stream and
+ * referenced by index afterwards, on reading, parsed values like versions and expressions are
+ * shared between all units of the stream. Expressions are stored in the same textual form used by
+ * the p2 XML format, so the codec does not depend on p2 internals beside {@link ArtifactKey}.
+ * </p>
+ * <p>
+ * Units that can't be represented (e.g. capabilities with exotic attribute types) are rejected
+ * with an {@link IOException} on writing, callers are expected to fall back to the XML format in
+ * this case.
+ * </p>
+ */
+final class BinaryMetadataCodec {
+
+    private static final int MAGIC = 0x54594255; // "TYBU"
+    private static final int FORMAT_VERSION = 2;
+
+    private static final byte KIND_UNIT = 0;
+    private static final byte KIND_FRAGMENT = 1;
+    private static final byte KIND_PATCH = 2;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_VERSION = 2;
+    private static final byte TYPE_VERSION_RANGE = 3;
+    private static final byte TYPE_FILTER = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_INTEGER = 6;
+    private static final byte TYPE_LONG = 7;
+    private static final byte TYPE_DOUBLE = 8;
+    private static final byte TYPE_LIST = 9;
+
+    private BinaryMetadataCodec() {
+    }
+
+    static void write(Collection<? extends IInstallableUnit> units, DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        Writer writer = new Writer(out);
+        writer.writeVarInt(units.size());
+        for (IInstallableUnit unit : units) {
+            writer.writeUnit(unit);
+        }
+        out.flush();
+    }
+
+    static Set<IInstallableUnit> read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary metadata stream");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary metadata format version " + version);
+        }
+        Reader reader = new Reader(in);
+        int size = reader.readVarInt();
+        Set<IInstallableUnit> units = new LinkedHashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            units.add(reader.readUnit());
+        }
+        return units;
+    }
+
+    private static final class Writer {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeUnit(IInstallableUnit unit) throws IOException {
+            if (unit instanceof IInstallableUnitFragment) {
+                out.writeByte(KIND_FRAGMENT);
+            } else if (unit instanceof IInstallableUnitPatch) {
+                out.writeByte(KIND_PATCH);
+            } else {
+                out.writeByte(KIND_UNIT);
+            }
+            writeString(unit.getId());
+            writeString(unit.getVersion().toString());
+            out.writeBoolean(unit.isSingleton());
+            Map<String, String> properties = unit.getProperties();
+            writeVarInt(properties.size());
+            for (var entry : properties.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+            Collection<IProvidedCapability> capabilities = unit.getProvidedCapabilities();
+            writeVarInt(capabilities.size());
+            for (IProvidedCapability capability : capabilities) {
+                writeString(capability.getNamespace());
+                Map<String, Object> attributes = capability.getProperties();
+                writeVarInt(attributes.size());
+                for (var entry : attributes.entrySet()) {
+                    writeString(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            }
+            // when a fragment (patch) is created, its host requirements (life cycle) are appended to
+            // its requirements, so they must not be written twice
+            List<IRequirement> appended = List.of();
+            if (unit instanceof IInstallableUnitFragment fragment) {
+                appended = List.copyOf(fragment.getHost());
+            } else if (unit instanceof IInstallableUnitPatch patch && patch.getLifeCycle() != null) {
+                appended = List.of(patch.getLifeCycle());
+            }
+            writeRequirements(withoutAppended(unit.getRequirements(), appended));
+            writeRequirements(unit.getMetaRequirements());
+            if (unit instanceof IInstallableUnitFragment) {
+                writeRequirements(appended);
+            }
+            if (unit instanceof IInstallableUnitPatch patch) {
+                IRequirement[][] scope = patch.getApplicabilityScope();
+                writeVarInt(scope.length);
+                for (IRequirement[] requirements : scope) {
+                    writeRequirements(List.of(requirements));
+                }
+                List<IRequirementChange> changes = patch.getRequirementsChange();
+                writeVarInt(changes.size());
+                for (IRequirementChange change : changes) {
+                    writeOptionalRequirement(change.applyOn());
+                    writeOptionalRequirement(change.newValue());
+                }
+                writeOptionalRequirement(patch.getLifeCycle());
+            }
+            writeMatchExpression(unit.getFilter());
+            Collection<IArtifactKey> artifacts = unit.getArtifacts();
+            writeVarInt(artifacts.size());
+            for (IArtifactKey artifact : artifacts) {
+                writeString(artifact.getClassifier());
+                writeString(artifact.getId());
+                writeString(artifact.getVersion().toString());
+            }
+            ITouchpointType touchpointType = unit.getTouchpointType();
+            out.writeBoolean(touchpointType != null);
+            if (touchpointType != null) {
+                writeString(touchpointType.getId());
+                writeString(touchpointType.getVersion().toString());
+            }
+            Collection<ITouchpointData> touchpointData = unit.getTouchpointData();
+            writeVarInt(touchpointData.size());
+            for (ITouchpointData data : touchpointData) {
+                Map<String, ITouchpointInstruction> instructions = data.getInstructions();
+                writeVarInt(instructions.size());
+                for (var entry : instructions.entrySet()) {
+                    writeString(entry.getKey());
+                    writeString(entry.getValue().getBody());
+                    writeString(entry.getValue().getImportAttribute());
+                }
+            }
+            IUpdateDescriptor updateDescriptor = unit.getUpdateDescriptor();
+            out.writeBoolean(updateDescriptor != null);
+            if (updateDescriptor != null) {
+                Collection<IMatchExpression<IInstallableUnit>> updated = updateDescriptor.getIUsBeingUpdated();
+                writeVarInt(updated.size());
+                for (IMatchExpression<IInstallableUnit> expression : updated) {
+                    writeMatchExpression(expression);
+                }
+                writeVarInt(updateDescriptor.getSeverity());
+                writeString(updateDescriptor.getDescription());
+                writeURI(updateDescriptor.getLocation());
+            }
+            Collection<ILicense> licenses = unit.getLicenses();
+            writeVarInt(licenses.size());
+            for (ILicense license : licenses) {
+                writeURI(license.getLocation());
+                writeString(license.getBody());
+            }
+            ICopyright copyright = unit.getCopyright();
+            out.writeBoolean(copyright != null);
+            if (copyright != null) {
+                writeURI(copyright.getLocation());
+                writeString(copyright.getBody());
+            }
+        }
+
+        private static Collection<IRequirement> withoutAppended(Collection<IRequirement> requirements,
+                List<IRequirement> appended) {
+            List<IRequirement> list = new ArrayList<>(requirements);
+            int own = list.size() - appended.size();
+            if (appended.isEmpty() || own < 0 || !list.subList(own, list.size()).equals(appended)) {
+                return requirements;
+            }
+            return list.subList(0, own);
+        }
+
+        private void writeRequirements(Collection<IRequirement> requirements) throws IOException {
+            writeVarInt(requirements.size());
+            for (IRequirement requirement : requirements) {
+                writeRequirement(requirement);
+            }
+        }
+
+        private void writeOptionalRequirement(IRequirement requirement) throws IOException {
+            out.writeBoolean(requirement != null);
+            if (requirement != null) {
+                writeRequirement(requirement);
+            }
+        }
+
+        private void writeRequirement(IRequirement requirement) throws IOException {
+            writeMatchExpression(requirement.getMatches());
+            writeMatchExpression(requirement.getFilter());
+            writeVarInt(requirement.getMin());
+            writeVarInt(requirement.getMax());
+            out.writeBoolean(requirement.isGreedy());
+            writeString(requirement.getDescription());
+        }
+
+        private void writeMatchExpression(IMatchExpression<IInstallableUnit> expression) throws IOException {
+            if (expression == null) {
+                writeString(null);
+                return;
+            }
+            writeString(ExpressionUtil.getOperand(expression).toString());
+            Object[] parameters = expression.getParameters();
+            writeVarInt(parameters.length);
+            for (Object parameter : parameters) {
+                writeValue(parameter);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(TYPE_NULL);
+            } else if (value instanceof String string) {
+                out.writeByte(TYPE_STRING);
+                writeString(string);
+            } else if (value instanceof Version version) {
+                out.writeByte(TYPE_VERSION);
+                writeString(version.toString());
+            } else if (value instanceof VersionRange range) {
+                out.writeByte(TYPE_VERSION_RANGE);
+                writeString(range.toString());
+            } else if (value instanceof IFilterExpression filter) {
+                out.writeByte(TYPE_FILTER);
+                writeString(filter.toString());
+            } else if (value instanceof Boolean bool) {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(bool);
+            } else if (value instanceof Integer integer) {
+                out.writeByte(TYPE_INTEGER);
+                out.writeInt(integer);
+            } else if (value instanceof Long number) {
+                out.writeByte(TYPE_LONG);
+                out.writeLong(number);
+            } else if (value instanceof Double number) {
+                out.writeByte(TYPE_DOUBLE);
+                out.writeDouble(number);
+            } else if (value instanceof List<?> list) {
+                out.writeByte(TYPE_LIST);
+                writeVarInt(list.size());
+                for (Object element : list) {
+                    writeValue(element);
+                }
+            } else {
+                throw new IOException("Unsupported value type " + value.getClass().getName());
+            }
+        }
+
+        private void writeURI(URI uri) throws IOException {
+            writeString(uri == null ? null : uri.toString());
+        }
+
+        /**
+         * Strings are encoded as <code>0</code> for <code>null</code>, <code>1</code> followed by
+         * the UTF-8 bytes for the first occurrence and <code>index + 2</code> for any further
+         * occurrence.
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index + 2);
+                return;
+            }
+            strings.put(value, strings.size());
+            writeVarInt(1);
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeVarInt(int value) throws IOException {
+            while ((value & ~0x7F) != 0) {
+                out.writeByte((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            out.writeByte(value);
+        }
+    }
+
+    private static final class Reader {
+
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Version> versions = new HashMap<>();
+        private final Map<String, VersionRange> ranges = new HashMap<>();
+        private final Map<String, IExpression> expressions = new HashMap<>();
+        private final Map<String, IFilterExpression> filters = new HashMap<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        IInstallableUnit readUnit() throws IOException {
+            byte kind = in.readByte();
+            InstallableUnitDescription description;
+            if (kind == KIND_FRAGMENT) {
+                description = new InstallableUnitFragmentDescription();
+            } else if (kind == KIND_PATCH) {
+                description = new InstallableUnitPatchDescription();
+            } else if (kind == KIND_UNIT) {
+                description = new InstallableUnitDescription();
+            } else {
+                throw new IOException("Invalid unit kind " + kind);
+            }
+            description.setId(readString());
+            description.setVersion(readVersion());
+            description.setSingleton(in.readBoolean());
+            int properties = readVarInt();
+            for (int i = 0; i < properties; i++) {
+                description.setProperty(readString(), readString());
+            }
+            int capabilities = readVarInt();
+            IProvidedCapability[] providedCapabilities = new IProvidedCapability[capabilities];
+            for (int i = 0; i < capabilities; i++) {
+                String namespace = readString();
+                int attributeCount = readVarInt();
+                Map<String, Object> attributes = new LinkedHashMap<>(attributeCount * 2);
+                for (int j = 0; j < attributeCount; j++) {
+                    attributes.put(readString(), readValue());
+                }
+                providedCapabilities[i] = MetadataFactory.createProvidedCapability(namespace, attributes);
+            }
+            description.setCapabilities(providedCapabilities);
+            description.setRequirements(readRequirements());
+            description.setMetaRequirements(readRequirements());
+            if (description instanceof InstallableUnitFragmentDescription fragment) {
+                fragment.setHost(readRequirements());
+            }
+            if (description instanceof InstallableUnitPatchDescription patch) {
+                IRequirement[][] scope = new IRequirement[readVarInt()][];
+                for (int i = 0; i < scope.length; i++) {
+                    scope[i] = readRequirements();
+                }
+                patch.setApplicabilityScope(scope);
+                IRequirementChange[] changes = new IRequirementChange[readVarInt()];
+                for (int i = 0; i < changes.length; i++) {
+                    IRequirement applyOn = readOptionalRequirement();
+                    changes[i] = MetadataFactory.createRequirementChange(applyOn, readOptionalRequirement());
+                }
+                patch.setRequirementChanges(changes);
+                patch.setLifeCycle(readOptionalRequirement());
+            }
+            description.setFilter(readMatchExpression());
+            int artifactCount = readVarInt();
+            IArtifactKey[] artifacts = new IArtifactKey[artifactCount];
+            for (int i = 0; i < artifactCount; i++) {
+                artifacts[i] = new ArtifactKey(readString(), readString(), readVersion());
+            }
+            description.setArtifacts(artifacts);
+            if (in.readBoolean()) {
+                description.setTouchpointType(MetadataFactory.createTouchpointType(readString(), readVersion()));
+            }
+            int touchpointDataCount = readVarInt();
+            for (int i = 0; i < touchpointDataCount; i++) {
+                int instructionCount = readVarInt();
+                Map<String, ITouchpointInstruction> instructions = new LinkedHashMap<>(instructionCount * 2);
+                for (int j = 0; j < instructionCount; j++) {
+                    String key = readString();
+                    instructions.put(key, MetadataFactory.createTouchpointInstruction(readString(), readString()));
+                }
+                description.addTouchpointData(MetadataFactory.createTouchpointData(instructions));
+            }
+            if (in.readBoolean()) {
+                int updatedCount = readVarInt();
+                List<IMatchExpression<IInstallableUnit>> updated = new ArrayList<>(updatedCount);
+                for (int i = 0; i < updatedCount; i++) {
+                    updated.add(readMatchExpression());
+                }
+                int severity = readVarInt();
+                String updateDescription = readString();
+                description.setUpdateDescriptor(
+                        MetadataFactory.createUpdateDescriptor(updated, severity, updateDescription, readURI()));
+            }
+            int licenseCount = readVarInt();
+            ILicense[] licenses = new ILicense[licenseCount];
+            for (int i = 0; i < licenseCount; i++) {
+                URI location = readURI();
+                licenses[i] = MetadataFactory.createLicense(location, readString());
+            }
+            description.setLicenses(licenses);
+            if (in.readBoolean()) {
+                URI location = readURI();
+                description.setCopyright(MetadataFactory.createCopyright(location, readString()));
+            }
+            if (description instanceof InstallableUnitFragmentDescription fragment) {
+                return MetadataFactory.createInstallableUnitFragment(fragment);
+            }
+            if (description instanceof InstallableUnitPatchDescription patch) {
+                return MetadataFactory.createInstallableUnitPatch(patch);
+            }
+            return MetadataFactory.createInstallableUnit(description);
+        }
+
+        private IRequirement[] readRequirements() throws IOException {
+            int count = readVarInt();
+            IRequirement[] requirements = new IRequirement[count];
+            for (int i = 0; i < count; i++) {
+                requirements[i] = readRequirement();
+            }
+            return requirements;
+        }
+
+        private IRequirement readOptionalRequirement() throws IOException {
+            return in.readBoolean() ? readRequirement() : null;
+        }
+
+        private IRequirement readRequirement() throws IOException {
+            IMatchExpression<IInstallableUnit> matches = readMatchExpression();
+            IMatchExpression<IInstallableUnit> filter = readMatchExpression();
+            int min = readVarInt();
+            int max = readVarInt();
+            boolean greedy = in.readBoolean();
+            return MetadataFactory.createRequirement(matches, filter, min, max, greedy, readString());
+        }
+
+        private IMatchExpression<IInstallableUnit> readMatchExpression() throws IOException {
+            String operand = readString();
+            if (operand == null) {
+                return null;
+            }
+            IExpression expression = expressions.computeIfAbsent(operand, ExpressionUtil::parse);
+            int count = readVarInt();
+            Object[] parameters = new Object[count];
+            for (int i = 0; i < count; i++) {
+                parameters[i] = readValue();
+            }
+            return ExpressionUtil.getFactory().matchExpression(expression, parameters);
+        }
+
+        private Object readValue() throws IOException {
+            byte type = in.readByte();
+            return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> readString();
+            case TYPE_VERSION -> readVersion();
+            case TYPE_VERSION_RANGE -> ranges.computeIfAbsent(readString(), VersionRange::create);
+            case TYPE_FILTER -> filters.computeIfAbsent(readString(), ExpressionUtil::parseLDAP);
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_LIST -> {
+                int size = readVarInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                yield list;
+            }
+            default -> throw new IOException("Invalid value type " + type);
+            };
+        }
+
+        private Version readVersion() throws IOException {
+            return versions.computeIfAbsent(readString(), Version::create);
+        }
+
+        private URI readURI() throws IOException {
+            String uri = readString();
+            if (uri == null) {
+                return null;
+            }
+            try {
+                return new URI(uri);
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid URI " + uri, e);
+            }
+        }
+
+        private String readString() throws IOException {
+            int code = readVarInt();
+            if (code == 0) {
+                return null;
+            }
+            if (code == 1) {
+                byte[] bytes = new byte[readVarInt()];
+                in.readFully(bytes);
+                String value = new String(bytes, StandardCharsets.UTF_8);
+                strings.add(value);
+                return value;
+            }
+            int index = code - 2;
+            if (index >= strings.size()) {
+                throw new IOException("Invalid string reference " + index);
+            }
+            return strings.get(index);
+        }
+
+        int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Malformed variable length integer");
+        }
+    }
+}
@@ -24,9 +24,12 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.tycho.FileLockService;
@@ -48,9 +51,16 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
     private final MavenLogger logger;
     private final FileLockService fileLockService;
 
-    private Set<GAV> addedGavs = new HashSet<>();
-    private Set<GAV> removedGavs = new HashSet<>();
-    private Set<GAV> gavs = new HashSet<>();
+    /**
+     * pending changes not yet written to the index file, <code>true</code> for added and
+     * <code>false</code> for removed GAVs
+     */
+    private final Map<GAV, Boolean> pendingChanges = new LinkedHashMap<>();
+    private final Set<GAV> gavs = new LinkedHashSet<>();
+    /** guards {@link #gavs} and {@link #pendingChanges}, which are always updated together */
+    private final Object stateLock = new Object();
+    /** serializes writing the index file, held while the file is read and written */
+    private final Object saveLock = new Object();
     private MavenContext mavenContext;
 
     private FileBasedTychoRepositoryIndex(File indexFile, FileLockService fileLockService, MavenContext mavenContext) {
@@ -61,7 +71,7 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
         this.logger = mavenContext.getLogger();
         if (indexFile.isFile()) {
             try (var locked = fileLockService.lock(indexFile)) {
-                gavs = read(new FileInputStream(indexFile));
+                gavs.addAll(read(new FileInputStream(indexFile)));
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
@@ -74,69 +84,106 @@ public class FileBasedTychoRepositoryIndex implements TychoRepositoryIndex {
     }
 
     @Override
-    public synchronized Set<GAV> getProjectGAVs() {
-        return Collections.unmodifiableSet(new LinkedHashSet<>(gavs));
+    public Set<GAV> getProjectGAVs() {
+        synchronized (stateLock) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(gavs));
+        }
     }
 
     @Override
-    public synchronized void addGav(GAV gav) {
-        gavs.add(gav);
-        this.addedGavs.add(gav);
-        if (removedGavs.contains(gav)) {
-            removedGavs.remove(gav);
+    public void addGav(GAV gav) {
+        synchronized (stateLock) {
+            gavs.add(gav);
+            pendingChanges.put(gav, Boolean.TRUE);
         }
     }
 
     @Override
-    public synchronized void removeGav(GAV gav) {
-        gavs.remove(gav);
-        this.removedGavs.add(gav);
-        if (addedGavs.contains(gav)) {
-            addedGavs.remove(gav);
+    public void removeGav(GAV gav) {
+        synchronized (stateLock) {
+            gavs.remove(gav);
+            pendingChanges.put(gav, Boolean.FALSE);
         }
     }
 
+    /**
+     * Writes all pending changes to the index file. Concurrent calls are coalesced: a caller
+     * waiting for another save to complete finds its changes already written if they were made
+     * before that save started, in this case the file is not written again. Changes are only
+     * taken from the pending changes while holding the save lock and are put back before the lock
+     * is released if writing fails, so no pending changes always means they have been written.
+     */
     @Override
-    public synchronized void save() throws IOException {
-        if (addedGavs.isEmpty() && removedGavs.isEmpty() && indexFile.isFile()) {
-            // avoid touching the file on disk if saving is a no-op
-            return;
+    public void save() throws IOException {
+        synchronized (saveLock) {
+            if (!hasPendingChanges() && indexFile.isFile()) {
+                // avoid touching the file on disk if saving is a no-op
+                return;
+            }
+            File parentDir = indexFile.getParentFile();
+            if (!parentDir.isDirectory()) {
+                parentDir.mkdirs();
+            }
+            Map<GAV, Boolean> changes = drainPendingChanges();
+            try (var locked = fileLockService.lock(indexFile)) {
+                Set<GAV> merged = reconcile(changes);
+                // minimize time window for corrupting the file by first writing to a temp file, then moving it
+                File tempFile = File.createTempFile("index", "tmp", indexFile.getParentFile());
+                write(merged, new BufferedOutputStream(new FileOutputStream(tempFile)));
+                Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | RuntimeException e) {
+                // keep the changes so that a later save can try again
+                synchronized (stateLock) {
+                    changes.forEach(pendingChanges::putIfAbsent);
+                }
+                throw e;
+            }
         }
-        File parentDir = indexFile.getParentFile();
-        if (!parentDir.isDirectory()) {
-            parentDir.mkdirs();
+    }
+
+    private boolean hasPendingChanges() {
+        synchronized (stateLock) {
+            return !pendingChanges.isEmpty();
         }
-        try (var locked = fileLockService.lock(indexFile)) {
-            reconcile();
-            // minimize time window for corrupting the file by first writing to a temp file, then moving it
-            File tempFile = File.createTempFile("index", "tmp", indexFile.getParentFile());
-            write(new BufferedOutputStream(new FileOutputStream(tempFile)));
-            if (indexFile.isFile()) {
-                indexFile.delete();
-            }
-            tempFile.renameTo(indexFile);
+    }
+
+    private Map<GAV, Boolean> drainPendingChanges() {
+        synchronized (stateLock) {
+            Map<GAV, Boolean> changes = new LinkedHashMap<>(pendingChanges);
+            pendingChanges.clear();
+            return changes;
         }
     }
 
-    private synchronized void reconcile() throws IOException {
-        // re-read index from file system so that changes from other
-        // processes which happened in the meantime are not discarded
-        if (indexFile.isFile()) {
-            gavs = read(new FileInputStream(indexFile));
-            for (GAV addedGav : addedGavs) {
-                addGav(addedGav);
+    /**
+     * Merges the given changes into the current content of the index file and updates the
+     * in-memory state with changes from other processes which happened in the meantime.
+     *
+     * @return the new content of the index file
+     */
+    private Set<GAV> reconcile(Map<GAV, Boolean> changes) throws IOException {
+        Set<GAV> merged = indexFile.isFile() ? read(new FileInputStream(indexFile)) : new LinkedHashSet<>();
+        changes.forEach((gav, added) -> {
+            if (added) {
+                merged.add(gav);
+            } else {
+                merged.remove(gav);
             }
-            for (GAV removedGav : removedGavs) {
-                removeGav(removedGav);
+        });
+        synchronized (stateLock) {
+            for (GAV gav : merged) {
+                if (!Boolean.FALSE.equals(pendingChanges.get(gav))) {
+                    gavs.add(gav);
+                }
             }
+            gavs.removeIf(gav -> !merged.contains(gav) && !pendingChanges.containsKey(gav));
         }
-        addedGavs.clear();
-        removedGavs.clear();
+        return merged;
     }
 
-    private void write(OutputStream outStream) throws IOException {
+    private void write(Set<GAV> content, OutputStream outStream) throws IOException {
         try (Writer out = new OutputStreamWriter(new BufferedOutputStream(outStream), StandardCharsets.UTF_8)) {
-            for (GAV gav : getProjectGAVs()) {
+            for (GAV gav : content) {
                 out.write(gav.toExternalForm());
                 out.write(EOL);
             }
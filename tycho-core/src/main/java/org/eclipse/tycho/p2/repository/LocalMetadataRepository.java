@@ -16,7 +16,6 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
-import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
@@ -27,8 +26,6 @@ import org.eclipse.tycho.core.shared.MavenContext;
 
 public class LocalMetadataRepository extends AbstractMavenMetadataRepository {
 
-    private Set<GAV> changedGAVs = new LinkedHashSet<>();
-
     /**
      * Local existing repository
      */
@@ -47,25 +44,16 @@ public class LocalMetadataRepository extends AbstractMavenMetadataRepository {
     }
 
     public void addInstallableUnit(IInstallableUnit unit, GAV gav) {
-        this.units.add(unit);
-
-        Set<IInstallableUnit> gavUnits = unitsMap.get(gav);
-        if (gavUnits == null) {
-            gavUnits = new LinkedHashSet<>();
-            unitsMap.put(gav, gavUnits);
-        }
-        gavUnits.add(unit);
-
-        changedGAVs.add(gav);
+        addUnsavedUnit(gav, unit);
     }
 
-    public void save() {
+    public synchronized void save() {
         File basedir = new File(getLocation());
 
         MetadataIO io = new MetadataIO();
 
-        for (GAV gav : changedGAVs) {
-            Set<IInstallableUnit> gavUnits = unitsMap.get(gav);
+        for (GAV gav : getUnsavedGAVs()) {
+            Set<IInstallableUnit> gavUnits = getUnsavedUnits(gav);
 
             if (gavUnits != null && !gavUnits.isEmpty()) {
                 MavenContext mavenContext;
@@ -82,8 +70,10 @@ public class LocalMetadataRepository extends AbstractMavenMetadataRepository {
 
                 try {
                     io.writeXML(gavUnits, file);
+                    writeBinary(io, gavUnits, file);
 
                     metadataIndex.addGav(gav);
+                    unitsSaved(gav, file);
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
@@ -95,8 +85,7 @@ public class LocalMetadataRepository extends AbstractMavenMetadataRepository {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-
-        changedGAVs.clear();
+        saveUnitsIndex();
     }
 
     @Override
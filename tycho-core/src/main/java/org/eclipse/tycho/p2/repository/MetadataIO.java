@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.tycho.p2.repository;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -195,4 +199,36 @@ public class MetadataIO {
             writeXML(units, os);
         }
     }
+
+    /**
+     * Reads units written with {@link #writeBinary(Collection, OutputStream)}.
+     */
+    public Set<IInstallableUnit> readBinary(InputStream is) throws IOException {
+        return BinaryMetadataCodec.read(new DataInputStream(is));
+    }
+
+    public Set<IInstallableUnit> readBinary(File file) throws IOException {
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            return readBinary(is);
+        }
+    }
+
+    /**
+     * Writes the units in a compact binary format that is much faster to read than the XML format
+     * but is only meant to be consumed by Tycho itself.
+     *
+     * @throws IOException
+     *             if writing fails or the units contain data that can't be represented in the
+     *             binary format, in this case the XML format has to be used
+     */
+    public void writeBinary(Collection<? extends IInstallableUnit> units, OutputStream os) throws IOException {
+        BinaryMetadataCodec.write(units, new DataOutputStream(os));
+    }
+
+    public void writeBinary(Collection<? extends IInstallableUnit> units, File file) throws IOException {
+        file.getParentFile().mkdirs();
+        try (OutputStream os = new BufferedOutputStream(new FileOutputStream(file))) {
+            writeBinary(units, os);
+        }
+    }
 }
@@ -26,6 +26,7 @@ public class DestinationRepositoryDescriptor {
     private final boolean keepNonXzIndexFiles;
     private final boolean metaDataOnly;
     private final boolean append;
+    private final boolean incremental;
     private final Map<String, String> extraArtifactRepositoryProperties;
     private final List<RepositoryReference> repositoryReferences;
     private final List<RepositoryReference> filterablRepositoryReferences;
@@ -34,6 +35,14 @@ public class DestinationRepositoryDescriptor {
             boolean keepNonXzIndexFiles, boolean metaDataOnly, boolean append,
             Map<String, String> extraArtifactRepositoryProperties, List<RepositoryReference> repositoryReferences,
             List<RepositoryReference> filterablRepositoryReferences) {
+        this(location, name, compress, xzCompress, keepNonXzIndexFiles, metaDataOnly, append, false,
+                extraArtifactRepositoryProperties, repositoryReferences, filterablRepositoryReferences);
+    }
+
+    public DestinationRepositoryDescriptor(File location, String name, boolean compress, boolean xzCompress,
+            boolean keepNonXzIndexFiles, boolean metaDataOnly, boolean append, boolean incremental,
+            Map<String, String> extraArtifactRepositoryProperties, List<RepositoryReference> repositoryReferences,
+            List<RepositoryReference> filterablRepositoryReferences) {
         this.location = location;
         this.name = name;
         this.compress = compress;
@@ -41,6 +50,7 @@ public class DestinationRepositoryDescriptor {
         this.keepNonXzIndexFiles = keepNonXzIndexFiles;
         this.metaDataOnly = metaDataOnly;
         this.append = append;
+        this.incremental = incremental;
         this.extraArtifactRepositoryProperties = extraArtifactRepositoryProperties;
         this.repositoryReferences = repositoryReferences;
         this.filterablRepositoryReferences = filterablRepositoryReferences;
@@ -84,6 +94,14 @@ public class DestinationRepositoryDescriptor {
         return append;
     }
 
+    /**
+     * @return <code>true</code> if an existing repository at the location should be updated to
+     *         contain exactly the mirrored content, reusing all artifacts that are unchanged
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
     public Map<String, String> getExtraArtifactRepositoryProperties() {
         return extraArtifactRepositoryProperties == null ? Collections.emptyMap() : extraArtifactRepositoryProperties;
     }
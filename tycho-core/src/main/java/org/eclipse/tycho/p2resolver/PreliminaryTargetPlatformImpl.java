@@ -24,7 +24,8 @@ import java.util.Set;
 
 import org.eclipse.equinox.p2.core.IProvisioningAgent;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
-import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.metadata.IVersionedId;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
 import org.eclipse.tycho.ExecutionEnvironmentResolutionHints;
@@ -94,8 +95,14 @@ public class PreliminaryTargetPlatformImpl extends TargetPlatformBaseImpl {
         if (!includeLocalRepo) {
             return;
         }
-        final Set<IInstallableUnit> localIUs = localMetadataRepository.query(QueryUtil.ALL_UNITS, null).toSet();
-        localIUs.retainAll(usedUnits);
+        // only the ids and versions are needed, so there is no need to read the local units
+        Set<IVersionedId> localUnitKeys = localMetadataRepository.getUnitKeys();
+        final Set<IInstallableUnit> localIUs = new LinkedHashSet<>();
+        for (IInstallableUnit unit : usedUnits) {
+            if (localUnitKeys.contains(new VersionedId(unit.getId(), unit.getVersion()))) {
+                localIUs.add(unit);
+            }
+        }
 
         // workaround to avoid warnings for "a.jre.javase" IUs - TODO avoid this step?
         for (Iterator<IInstallableUnit> iterator = localIUs.iterator(); iterator.hasNext();) {
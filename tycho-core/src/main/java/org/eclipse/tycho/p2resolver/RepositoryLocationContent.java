@@ -19,9 +19,13 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Predicate;
 
 import org.apache.commons.io.FilenameUtils;
@@ -82,29 +86,42 @@ public class RepositoryLocationContent implements TargetDefinitionContent {
         List<ContentCapability> contentCapabilities = providers.values().stream().flatMap(Collection::stream)
                 .map(Capability::getResource).distinct().map(ResourceUtils::getContentCapability)
                 .filter(Objects::nonNull).toList();
+        // start all downloads at once, the transport takes care of limiting the concurrent requests
+        Map<URI, CompletableFuture<File>> downloads = new LinkedHashMap<>();
         for (ContentCapability content : contentCapabilities) {
             URI url = content.url();
             logger.info("Loading " + url + "...");
-            try {
-                File file = tychoTransport.downloadToFile(url);
-                if (!"jar".equalsIgnoreCase(FilenameUtils.getExtension(file.getName()))) {
-                    logger.info("Skip non-jar artifact (" + file + ")");
-                    continue;
-                }
-                Feature feature = new FeatureParser().parse(file);
-                if (feature != null) {
-                    feature.setLocation(file.getAbsolutePath());
-                    features.add(feature);
-                    continue;
-                }
-                BundleDescription bundleDescription = BundlesAction.createBundleDescription(file);
-                if (bundleDescription == null || bundleDescription.getSymbolicName() == null) {
-                    continue;
+            downloads.computeIfAbsent(url, tychoTransport::downloadToFileAsync);
+        }
+        try {
+            for (Entry<URI, CompletableFuture<File>> download : downloads.entrySet()) {
+                URI url = download.getKey();
+                try {
+                    File file = download.getValue().join();
+                    if (!"jar".equalsIgnoreCase(FilenameUtils.getExtension(file.getName()))) {
+                        logger.info("Skip non-jar artifact (" + file + ")");
+                        continue;
+                    }
+                    Feature feature = new FeatureParser().parse(file);
+                    if (feature != null) {
+                        feature.setLocation(file.getAbsolutePath());
+                        features.add(feature);
+                        continue;
+                    }
+                    BundleDescription bundleDescription = BundlesAction.createBundleDescription(file);
+                    if (bundleDescription == null || bundleDescription.getSymbolicName() == null) {
+                        continue;
+                    }
+                    publish(bundleDescription, file);
+                } catch (CompletionException e) {
+                    throw new TargetDefinitionResolutionException("Can't fetch resource from " + url, e.getCause());
+                } catch (Exception e) {
+                    throw new TargetDefinitionResolutionException("Can't fetch resource from " + url, e);
                 }
-                publish(bundleDescription, file);
-            } catch (Exception e) {
-                throw new TargetDefinitionResolutionException("Can't fetch resource from " + url, e);
             }
+        } finally {
+            // do not keep downloading if one of the downloads has failed
+            downloads.values().forEach(download -> download.cancel(false));
         }
         FeaturePublisher.publishFeatures(features, repositoryContent::put, artifactRepository, logger);
     }
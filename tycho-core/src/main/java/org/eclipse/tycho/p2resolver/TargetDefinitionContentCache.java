@@ -0,0 +1,450 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.equinox.internal.p2.repository.Transport;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.query.CollectionResult;
+import org.eclipse.equinox.p2.query.IQuery;
+import org.eclipse.equinox.p2.query.IQueryResult;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.ICompositeRepository;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.tycho.ExecutionEnvironmentResolutionHints;
+import org.eclipse.tycho.TargetEnvironment;
+import org.eclipse.tycho.core.resolver.shared.IncludeSourceMode;
+import org.eclipse.tycho.core.resolver.shared.ReferencedRepositoryMode;
+import org.eclipse.tycho.core.shared.MavenContext;
+import org.eclipse.tycho.core.shared.MavenLogger;
+import org.eclipse.tycho.p2.repository.LazyArtifactRepository;
+import org.eclipse.tycho.p2.repository.ListCompositeMetadataRepository;
+import org.eclipse.tycho.p2.repository.MetadataIO;
+import org.eclipse.tycho.p2.resolver.URITargetDefinitionContent;
+import org.eclipse.tycho.p2maven.ListCompositeArtifactRepository;
+import org.eclipse.tycho.targetplatform.TargetDefinition;
+import org.eclipse.tycho.targetplatform.TargetDefinition.InstallableUnitLocation;
+import org.eclipse.tycho.targetplatform.TargetDefinition.Location;
+import org.eclipse.tycho.targetplatform.TargetDefinition.Repository;
+import org.eclipse.tycho.targetplatform.TargetDefinition.Unit;
+import org.eclipse.tycho.targetplatform.TargetDefinitionContent;
+
+/**
+ * Persistent cache for the installable units of resolved target definitions, stored in the local
+ * repository so it can be used by later Maven invocations.
+ * <p>
+ * Only target definitions consisting solely of p2 (<code>InstallableUnit</code>) locations are
+ * cached. The cache key covers the content of the target definition, the target environments, the
+ * execution environment, the source and reference modes, and the last modified time of the
+ * metadata index of each referenced repository. As the units of a repository also depend on the
+ * children of composite repositories and on followed repository references, each entry also
+ * records the last modified time of all repositories that were loaded during the resolution, and
+ * is only used as long as none of them has changed. On a cache hit, the metadata and artifact
+ * repositories are only loaded if something actually requests them (e.g. to download an artifact
+ * that is not yet available locally).
+ * </p>
+ */
+class TargetDefinitionContentCache {
+
+    static final String ENABLED_PROPERTY = "tycho.target.cache";
+
+    private static final String CACHE_FOLDER = ".cache/tycho/target-definitions";
+    private static final int FORMAT_VERSION = 4;
+    private static final String P2_INDEX_FILE = "p2.index";
+    private static final List<String> REPOSITORY_INDEX_FILES = List.of("content.jar", "content.xml.xz",
+            "content.xml", "compositeContent.jar", "compositeContent.xml");
+
+    private final MavenContext mavenContext;
+    private final File cacheFolder;
+    private final MetadataIO metadataIO = new MetadataIO();
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicInteger stores = new AtomicInteger();
+
+    TargetDefinitionContentCache(MavenContext mavenContext) {
+        this.mavenContext = mavenContext;
+        this.cacheFolder = new File(mavenContext.getLocalRepositoryRoot(), CACHE_FOLDER);
+    }
+
+    boolean isEnabled() {
+        return Boolean.parseBoolean(
+                mavenContext.getSessionProperties().getProperty(ENABLED_PROPERTY, System.getProperty(ENABLED_PROPERTY)));
+    }
+
+    /**
+     * Computes the cache key for the given arguments
+     *
+     * @return the key or <code>null</code> if the target definition can't be cached
+     */
+    CacheKey computeKey(TargetDefinition definition, Collection<TargetEnvironment> environments,
+            ExecutionEnvironmentResolutionHints jreIUs, IncludeSourceMode includeSourceMode,
+            ReferencedRepositoryMode referencedRepositoryMode, Function<String, URI> locationResolver,
+            IProvisioningAgent agent) {
+        if (definition.hasIncludedBundles()) {
+            return null;
+        }
+        StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append("environments=").append(environments).append('\n');
+        fingerprint.append("ee=").append(jreIUs.getClass().getName());
+        Stream.concat(jreIUs.getMandatoryUnits().stream(), jreIUs.getTemporaryAdditions().stream())
+                .map(iu -> iu.getId() + "/" + iu.getVersion()).sorted().forEach(s -> fingerprint.append(',').append(s));
+        fingerprint.append('\n');
+        fingerprint.append("targetEE=").append(definition.getTargetEE()).append('\n');
+        fingerprint.append("includeSourceMode=").append(includeSourceMode).append('\n');
+        List<RepositoryKey> repositories = new ArrayList<>();
+        Transport transport = agent.getService(Transport.class);
+        for (Location location : definition.getLocations()) {
+            if (!(location instanceof InstallableUnitLocation iuLocation)) {
+                // other locations depend on local state we can't fingerprint cheaply
+                return null;
+            }
+            ReferencedRepositoryMode followReferences = TargetDefinitionResolver.getReferencedRepositoryMode(iuLocation,
+                    referencedRepositoryMode);
+            fingerprint.append("location mode=").append(iuLocation.getIncludeMode()).append(" allEnvironments=")
+                    .append(iuLocation.includeAllEnvironments()).append(" source=").append(iuLocation.includeSource())
+                    .append(" references=").append(followReferences).append('\n');
+            for (Unit unit : iuLocation.getUnits()) {
+                fingerprint.append("unit ").append(unit.getId()).append('/').append(unit.getVersion()).append('\n');
+            }
+            for (Repository repository : iuLocation.getRepositories()) {
+                URI uri = locationResolver.apply(repository.getLocation());
+                String repositoryFingerprint = getRepositoryFingerprint(transport, uri);
+                if (repositoryFingerprint == null) {
+                    return null;
+                }
+                fingerprint.append("repository ").append(uri.normalize()).append('@').append(repositoryFingerprint)
+                        .append('\n');
+                repositories.add(new RepositoryKey(uri, repository.getId(), followReferences));
+            }
+        }
+        String value = fingerprint.toString();
+        return new CacheKey(value, digest(value), repositories);
+    }
+
+    /**
+     * Loads the content for the given key from the persistent cache
+     *
+     * @return the cached content or <code>null</code> if nothing is cached (or the cache entry is
+     *         not usable)
+     */
+    TargetDefinitionContent load(CacheKey key, IProvisioningAgent agent) {
+        MavenLogger logger = mavenContext.getLogger();
+        File file = getCacheFile(key);
+        if (!file.isFile()) {
+            misses.incrementAndGet();
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != FORMAT_VERSION || !key.fingerprint().equals(readString(in))) {
+                misses.incrementAndGet();
+                return null;
+            }
+            Transport transport = agent.getService(Transport.class);
+            int loadedRepositories = in.readInt();
+            for (int i = 0; i < loadedRepositories; i++) {
+                URI location = URI.create(readString(in));
+                String fingerprint = readString(in);
+                if (!fingerprint.equals(getRepositoryFingerprint(transport, location))) {
+                    logger.debug("Not using cached target definition content from " + file + " as repository "
+                            + location + " has changed");
+                    misses.incrementAndGet();
+                    return null;
+                }
+            }
+            Set<IInstallableUnit> units = metadataIO.readBinary(new GZIPInputStream(in));
+            hits.incrementAndGet();
+            logger.debug("Using " + units.size() + " cached units from " + file);
+            return new CachedTargetDefinitionContent(units, key.repositories(), agent, logger);
+        } catch (IOException e) {
+            logger.warn("Can't read target definition cache entry " + file + ": " + e);
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Stores the units of the given content under the given key, together with the fingerprints of
+     * all repositories that were loaded for the repositories of the key
+     */
+    void store(CacheKey key, TargetDefinitionContent content, IProvisioningAgent agent) {
+        File file = getCacheFile(key);
+        Map<URI, String> loadedRepositories = getLoadedRepositories(key, agent);
+        if (loadedRepositories == null) {
+            return;
+        }
+        Set<IInstallableUnit> units = content.query(QueryUtil.ALL_UNITS, null).toUnmodifiableSet();
+        try {
+            Files.createDirectories(cacheFolder.toPath());
+            Path tempFile = Files.createTempFile(cacheFolder.toPath(), key.digest(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    out.writeInt(FORMAT_VERSION);
+                    writeString(out, key.fingerprint());
+                    out.writeInt(loadedRepositories.size());
+                    for (Entry<URI, String> entry : loadedRepositories.entrySet()) {
+                        writeString(out, entry.getKey().toString());
+                        writeString(out, entry.getValue());
+                    }
+                    GZIPOutputStream gzip = new GZIPOutputStream(out);
+                    metadataIO.writeBinary(units, gzip);
+                    gzip.finish();
+                }
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                stores.incrementAndGet();
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            mavenContext.getLogger().warn("Can't write target definition cache entry " + file + ": " + e);
+        }
+    }
+
+    String getStatistics() {
+        return hits + " hits, " + misses + " misses, " + stores + " stored entries";
+    }
+
+    private File getCacheFile(CacheKey key) {
+        return new File(cacheFolder, key.digest() + ".bin");
+    }
+
+    /**
+     * Computes the fingerprints of the children of composite repositories and of the followed
+     * references of the repositories of the given key. The repositories were already loaded by the
+     * resolution, so the repository manager returns them without accessing the remote repository
+     * again.
+     *
+     * @return the fingerprints by repository location or <code>null</code> if the fingerprint of a
+     *         repository can't be computed, in this case the content can't be cached
+     */
+    private Map<URI, String> getLoadedRepositories(CacheKey key, IProvisioningAgent agent) {
+        MavenLogger logger = mavenContext.getLogger();
+        IMetadataRepositoryManager repositoryManager = agent.getService(IMetadataRepositoryManager.class);
+        Transport transport = agent.getService(Transport.class);
+        if (repositoryManager == null) {
+            return null;
+        }
+        Set<URI> locations = new LinkedHashSet<>();
+        for (RepositoryKey repository : key.repositories()) {
+            try {
+                collectLoadedRepositories(repository.location(),
+                        repository.referencedRepositoryMode() == ReferencedRepositoryMode.include, repositoryManager,
+                        locations);
+            } catch (ProvisionException e) {
+                logger.debug("Not caching target definition content as repository " + repository.location()
+                        + " can't be loaded: " + e);
+                return null;
+            }
+        }
+        // the repositories of the target definition itself are already covered by the key
+        key.repositories().forEach(repository -> locations.remove(repository.location().normalize()));
+        Map<URI, String> fingerprints = new LinkedHashMap<>();
+        for (URI location : locations) {
+            String fingerprint = getRepositoryFingerprint(transport, location);
+            if (fingerprint == null) {
+                logger.debug("Not caching target definition content as the metadata of repository " + location
+                        + " is not available");
+                return null;
+            }
+            fingerprints.put(location, fingerprint);
+        }
+        return fingerprints;
+    }
+
+    private static void collectLoadedRepositories(URI location, boolean followReferences,
+            IMetadataRepositoryManager repositoryManager, Set<URI> locations) throws ProvisionException {
+        if (!locations.add(location.normalize())) {
+            return;
+        }
+        IMetadataRepository repository = repositoryManager.loadRepository(location, null);
+        if (repository instanceof ICompositeRepository<?> composite) {
+            for (URI child : composite.getChildren()) {
+                collectLoadedRepositories(URIUtil.makeAbsolute(child, location), followReferences, repositoryManager,
+                        locations);
+            }
+        }
+        if (followReferences) {
+            for (IRepositoryReference reference : repository.getReferences()) {
+                if (reference.isEnabled() && reference.getType() == IRepository.TYPE_METADATA) {
+                    try {
+                        collectLoadedRepositories(reference.getLocation(), followReferences, repositoryManager,
+                                locations);
+                    } catch (ProvisionException e) {
+                        // skipped by the resolution as well, but the result would change once it
+                        // becomes available, so the location stays recorded and prevents caching
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return a fingerprint of the metadata of the given repository, consisting of the last
+     *         modified time of its <code>p2.index</code> (if any) and its metadata index file, or
+     *         <code>null</code> if the metadata index is not available
+     */
+    private static String getRepositoryFingerprint(Transport transport, URI repository) {
+        if (transport == null) {
+            return null;
+        }
+        String base = repository.toString();
+        if (!base.endsWith("/")) {
+            base += "/";
+        }
+        try {
+            // the p2.index decides which of the index files is used
+            StringBuilder fingerprint = new StringBuilder();
+            long p2Index = getLastModified(transport, URI.create(base + P2_INDEX_FILE));
+            if (p2Index > 0) {
+                fingerprint.append(P2_INDEX_FILE).append('@').append(p2Index).append(',');
+            }
+            for (String indexFile : REPOSITORY_INDEX_FILES) {
+                long lastModified = getLastModified(transport, URI.create(base + indexFile));
+                if (lastModified > 0) {
+                    return fingerprint.append(indexFile).append('@').append(lastModified).toString();
+                }
+            }
+        } catch (CoreException | IllegalArgumentException e) {
+            // can't fingerprint it then...
+        }
+        return null;
+    }
+
+    /**
+     * @return the last modified time of the given file or <code>0</code> if it does not exist
+     */
+    private static long getLastModified(Transport transport, URI uri) throws CoreException {
+        try {
+            return transport.getLastModified(uri, (IProgressMonitor) null);
+        } catch (FileNotFoundException e) {
+            return 0;
+        }
+    }
+
+    private static String digest(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static record CacheKey(String fingerprint, String digest, List<RepositoryKey> repositories) {
+    }
+
+    static record RepositoryKey(URI location, String id, ReferencedRepositoryMode referencedRepositoryMode) {
+    }
+
+    private static final class CachedTargetDefinitionContent implements TargetDefinitionContent {
+
+        private final IQueryResult<IInstallableUnit> units;
+        private final List<RepositoryKey> keys;
+        private final List<URITargetDefinitionContent> repositories;
+        private final IProvisioningAgent agent;
+        private IMetadataRepository metadataRepository;
+        private IArtifactRepository artifactRepository;
+
+        CachedTargetDefinitionContent(Set<IInstallableUnit> units, List<RepositoryKey> repositories,
+                IProvisioningAgent agent, MavenLogger logger) {
+            this.units = new CollectionResult<>(units);
+            this.keys = repositories;
+            this.repositories = repositories.stream()
+                    .map(key -> new URITargetDefinitionContent(agent, key.location(), key.id(),
+                            key.referencedRepositoryMode(), logger))
+                    .toList();
+            this.agent = agent;
+        }
+
+        @Override
+        public IQueryResult<IInstallableUnit> query(IQuery<IInstallableUnit> query, IProgressMonitor monitor) {
+            return units.query(query, monitor);
+        }
+
+        @Override
+        public synchronized IMetadataRepository getMetadataRepository() {
+            if (metadataRepository == null) {
+                metadataRepository = new ListCompositeMetadataRepository(
+                        repositories.stream().map(URITargetDefinitionContent::getMetadataRepository).toList(), agent);
+            }
+            return metadataRepository;
+        }
+
+        @Override
+        public synchronized IArtifactRepository getArtifactRepository() {
+            if (artifactRepository == null) {
+                List<IArtifactRepository> list = new ArrayList<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    URITargetDefinitionContent repository = repositories.get(i);
+                    list.add(new LazyArtifactRepository(agent, keys.get(i).location(),
+                            (uri, a) -> repository.getArtifactRepository()));
+                }
+                artifactRepository = new ListCompositeArtifactRepository(list, agent);
+            }
+            return artifactRepository;
+        }
+
+    }
+
+}
@@ -150,15 +150,8 @@ public final class TargetDefinitionResolver {
                             includeSourceMode, logger);
                 }
                 List<URITargetDefinitionContent> locations = new ArrayList<>();
-                var followRepositoryReferences = installableUnitLocation.followRepositoryReferences();
-                final ReferencedRepositoryMode followReferences;
-                if (followRepositoryReferences == FollowRepositoryReferences.DEFAULT) {
-                    followReferences = referencedRepositoryMode;
-                } else if (followRepositoryReferences == FollowRepositoryReferences.ENABLED) {
-                    followReferences = ReferencedRepositoryMode.include;
-                } else {
-                    followReferences = ReferencedRepositoryMode.ignore;
-                }
+                ReferencedRepositoryMode followReferences = getReferencedRepositoryMode(installableUnitLocation,
+                        referencedRepositoryMode);
                 for (Repository repository : installableUnitLocation.getRepositories()) {
                     URI location = resolveRepositoryLocation(repository.getLocation());
                     String key = location.normalize().toASCIIString();
@@ -324,6 +317,21 @@ public final class TargetDefinitionResolver {
         };
     }
 
+    /**
+     * @return the mode to use for repository references of the given location, taking the global
+     *         default into account
+     */
+    static ReferencedRepositoryMode getReferencedRepositoryMode(InstallableUnitLocation location,
+            ReferencedRepositoryMode defaultMode) {
+        FollowRepositoryReferences followRepositoryReferences = location.followRepositoryReferences();
+        if (followRepositoryReferences == FollowRepositoryReferences.DEFAULT) {
+            return defaultMode;
+        } else if (followRepositoryReferences == FollowRepositoryReferences.ENABLED) {
+            return ReferencedRepositoryMode.include;
+        }
+        return ReferencedRepositoryMode.ignore;
+    }
+
     private static IInstallableUnit createCategory(String label, IQueryResult<IInstallableUnit> result) {
         SiteCategory category = new SiteCategory();
         category.setLabel(label);
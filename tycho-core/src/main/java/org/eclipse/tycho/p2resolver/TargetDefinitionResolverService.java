@@ -58,6 +58,8 @@ public class TargetDefinitionResolverService {
     @Requirement
     private TargetDefinitionVariableResolver varResolver;
 
+    private TargetDefinitionContentCache persistentCache;
+
     // constructor for DS
     public TargetDefinitionResolverService() {
     }
@@ -94,12 +96,38 @@ public class TargetDefinitionResolverService {
                 arguments.includeSourceMode, arguments.referencedRepositoryMode, mavenContext, dependenciesResolver,
                 varResolver);
         try {
-            return CompletableFuture.completedFuture(resolver.resolveContent(arguments.definition, arguments.agent));
+            TargetDefinitionContentCache cache = getPersistentCache();
+            TargetDefinitionContentCache.CacheKey cacheKey = null;
+            if (cache.isEnabled()) {
+                cacheKey = cache.computeKey(arguments.definition, arguments.environments, arguments.jreIUs,
+                        arguments.includeSourceMode, arguments.referencedRepositoryMode,
+                        resolver::resolveRepositoryLocation, arguments.agent);
+                if (cacheKey != null && !mavenContext.isUpdateSnapshots()) {
+                    TargetDefinitionContent cached = cache.load(cacheKey, arguments.agent);
+                    if (cached != null) {
+                        mavenContext.getLogger().debug("Persistent target definition cache: " + cache.getStatistics());
+                        return CompletableFuture.completedFuture(cached);
+                    }
+                }
+            }
+            TargetDefinitionContent content = resolver.resolveContent(arguments.definition, arguments.agent);
+            if (cacheKey != null) {
+                cache.store(cacheKey, content, arguments.agent);
+                mavenContext.getLogger().debug("Persistent target definition cache: " + cache.getStatistics());
+            }
+            return CompletableFuture.completedFuture(content);
         } catch (Exception e) {
             return CompletableFuture.failedFuture(e);
         }
     }
 
+    private synchronized TargetDefinitionContentCache getPersistentCache() {
+        if (persistentCache == null) {
+            persistentCache = new TargetDefinitionContentCache(mavenContext);
+        }
+        return persistentCache;
+    }
+
     private void debugCacheMiss(ResolutionArguments arguments) {
         if (resolutionCache.isEmpty()) {
             return;
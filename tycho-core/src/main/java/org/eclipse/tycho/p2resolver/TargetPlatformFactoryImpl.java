@@ -36,6 +36,13 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
@@ -126,9 +133,13 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
 
     private static final Version DEFAULT_P2_ADVICE_VERSION = Version.parseVersion("1.0.0.qualifier");
 
+    private static final int MAX_REPOSITORY_THREADS = Integer
+            .getInteger("tycho.p2.transport.max-repository-threads", 4);
+
     private final MavenContext mavenContext;
     private final MavenLogger logger;
     private final IProgressMonitor monitor;
+    private final ExecutorService repositoryLoaderExecutor;
 
     private final IProvisioningAgent remoteAgent;
     private final IRepositoryIdManager remoteRepositoryIdManager;
@@ -155,6 +166,11 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
         this.mavenBundleResolver = mavenBundleResolver;
         this.logger = mavenContext.getLogger();
         this.monitor = new DuplicateFilteringLoggingProgressMonitor(logger); // entails that this class is not thread-safe
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_REPOSITORY_THREADS, MAX_REPOSITORY_THREADS, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("Tycho-Repository-Loader-", 0).daemon().factory());
+        executor.allowCoreThreadTimeOut(true);
+        this.repositoryLoaderExecutor = executor;
 
         this.remoteAgent = remoteAgent;
         this.remoteRepositoryIdManager = repositoryIdManager;
@@ -423,41 +439,50 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
         }
 
         List<IMetadataRepository> metadataRepositories = new ArrayList<>();
-        Set<URI> loaded = new HashSet<>();
-        for (MavenRepositoryLocation location : completeRepositories) {
-            artifactRepositories.put(location.getURL(), false);
-            try {
-                loadMetadataRepository(location, metadataRepositories, loaded, artifactRepositories, includeReferences);
-            } catch (ProvisionException e) {
-                String idMessage = location.getId() == null ? "" : " with ID '" + location.getId() + "'";
-                throw new RuntimeException(
-                        "Failed to load p2 repository" + idMessage + " from location " + location.getURL(), e);
+        ConcurrentRepositoryLoader loader = new ConcurrentRepositoryLoader(repositoryLoaderExecutor,
+                includeReferences);
+        try {
+            // first trigger the loading of everything, then collect the result in a well defined order
+            completeRepositories.forEach(loader::load);
+            Set<URI> loaded = new HashSet<>();
+            for (MavenRepositoryLocation location : completeRepositories) {
+                artifactRepositories.put(location.getURL(), false);
+                try {
+                    collectMetadataRepository(loader, location, metadataRepositories, loaded, artifactRepositories,
+                            includeReferences);
+                } catch (ProvisionException e) {
+                    String idMessage = location.getId() == null ? "" : " with ID '" + location.getId() + "'";
+                    throw new RuntimeException(
+                            "Failed to load p2 repository" + idMessage + " from location " + location.getURL(), e);
+                }
             }
+        } finally {
+            loader.cancel();
         }
         if (includeLocalMavenRepo) {
             metadataRepositories.add(localMetadataRepository);
         }
 
-        for (IMetadataRepository repository : metadataRepositories) {
-            IQueryResult<IInstallableUnit> matches = repository.query(QueryUtil.ALL_UNITS, monitor);
-            result.addAll(matches.toUnmodifiableSet());
-        }
+        // the list keeps the encounter order so the result stays the same as for a sequential query, the
+        // shared monitor is not thread-safe
+        metadataRepositories.parallelStream()
+                .map(repository -> repository.query(QueryUtil.ALL_UNITS, new NullProgressMonitor())
+                        .toUnmodifiableSet())
+                .toList().forEach(result::addAll);
 
         if (includeLocalMavenRepo && logger.isDebugEnabled()) {
-            IQueryResult<IInstallableUnit> locallyInstalledIUs = localMetadataRepository.query(QueryUtil.ALL_UNITS,
-                    null);
-            logger.debug("Added " + countElements(locallyInstalledIUs.iterator())
+            logger.debug("Added " + localMetadataRepository.getUnitKeys().size()
                     + " locally built units to the target platform");
         }
 
         return result;
     }
 
-    private void loadMetadataRepository(MavenRepositoryLocation location,
+    private void collectMetadataRepository(ConcurrentRepositoryLoader loader, MavenRepositoryLocation location,
             List<IMetadataRepository> metadataRepositories, Set<URI> loaded, Map<URI, Boolean> artifactRepositories,
             boolean includeReferences) throws ProvisionException {
         if (loaded.add(location.getURL().normalize())) {
-            IMetadataRepository repository = remoteMetadataRepositoryManager.loadRepository(location.getURL(), monitor);
+            IMetadataRepository repository = loader.get(location);
             metadataRepositories.add(repository);
             if (includeReferences) {
                 for (IRepositoryReference reference : repository.getReferences()) {
@@ -465,7 +490,8 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
                         URI uri = reference.getLocation();
                         if (reference.getType() == IRepository.TYPE_METADATA) {
                             try {
-                                loadMetadataRepository(new MavenRepositoryLocation(reference.getNickname(), uri),
+                                collectMetadataRepository(loader,
+                                        new MavenRepositoryLocation(reference.getNickname(), uri),
                                         metadataRepositories, loaded, artifactRepositories, includeReferences);
                             } catch (ProvisionException e) {
                                 logger.warn("Loading referenced repository failed: " + e.getMessage(),
@@ -483,6 +509,67 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
         }
     }
 
+    /**
+     * Loads metadata repositories in the background, as soon as a repository is loaded, the loading
+     * of its references is triggered as well. Each (normalized) location is only loaded once.
+     */
+    private final class ConcurrentRepositoryLoader {
+
+        private final Map<URI, CompletableFuture<IMetadataRepository>> repositories = new ConcurrentHashMap<>();
+        private final ExecutorService executor;
+        private final boolean includeReferences;
+
+        ConcurrentRepositoryLoader(ExecutorService executor, boolean includeReferences) {
+            this.executor = executor;
+            this.includeReferences = includeReferences;
+        }
+
+        CompletableFuture<IMetadataRepository> load(MavenRepositoryLocation location) {
+            return repositories.computeIfAbsent(location.getURL().normalize(),
+                    uri -> CompletableFuture.supplyAsync(() -> {
+                        try {
+                            // the shared monitor is not thread-safe
+                            IMetadataRepository repository = remoteMetadataRepositoryManager
+                                    .loadRepository(location.getURL(), new NullProgressMonitor());
+                            if (includeReferences) {
+                                for (IRepositoryReference reference : repository.getReferences()) {
+                                    if (reference.isEnabled() && reference.getType() == IRepository.TYPE_METADATA) {
+                                        load(new MavenRepositoryLocation(reference.getNickname(),
+                                                reference.getLocation()));
+                                    }
+                                }
+                            }
+                            return repository;
+                        } catch (ProvisionException e) {
+                            throw new CompletionException(e);
+                        }
+                    }, executor));
+        }
+
+        /**
+         * Cancels all loading that has not started yet, e.g. because the result is not needed anymore
+         * after a failure.
+         */
+        void cancel() {
+            repositories.values().forEach(future -> future.cancel(false));
+        }
+
+        IMetadataRepository get(MavenRepositoryLocation location) throws ProvisionException {
+            try {
+                return load(location).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof ProvisionException provisionException) {
+                    throw provisionException;
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+    }
+
     private static final class SortedRepositories {
 
         private SortedRepositories(List<FileArtifactRepository> local, List<IArtifactRepository> remote) {
@@ -664,14 +751,6 @@ public class TargetPlatformFactoryImpl implements TargetPlatformFactory {
         return Boolean.parseBoolean(iu.getProperty(IInstallableUnit.PROP_PARTIAL_IU));
     }
 
-    static int countElements(Iterator<?> iterator) {
-        int result = 0;
-        for (; iterator.hasNext(); iterator.next()) {
-            ++result;
-        }
-        return result;
-    }
-
     @SuppressWarnings("unchecked")
     @Override
     public P2TargetPlatform createTargetPlatformWithUpdatedReactorContent(TargetPlatform baseTargetPlatform,
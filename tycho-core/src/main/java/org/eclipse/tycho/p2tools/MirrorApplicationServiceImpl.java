@@ -92,9 +92,13 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
 
     private static final String MIRROR_FAILURE_MESSAGE = "Mirroring failed";
 
+    private static final int MIRROR_THREADS = Integer.getInteger("tycho.p2.mirror.threads", 4);
+
     @Requirement
     Logger logger;
 
+    private int mirrorThreads = MIRROR_THREADS;
+
     @Requirement
     IProvisioningAgent agent;
 
@@ -103,7 +107,8 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
             Collection<IUDescription> seedIUs, MirrorOptions mirrorOptions, BuildDirectory tempDirectory)
             throws FacadeException {
         agent.getService(IArtifactRepositoryManager.class); //force init of framework if not already done!
-        final TychoMirrorApplication mirrorApp = createMirrorApplication(sources, destination, agent, logger);
+        final TychoMirrorApplication mirrorApp = createMirrorApplication(sources, destination, agent, logger,
+                mirrorThreads);
         mirrorApp.setSlicingOptions(createSlicingOptions(mirrorOptions));
         mirrorApp.setIgnoreErrors(mirrorOptions.isIgnoreErrors());
         if (mirrorOptions.getCategoryName() != null && !mirrorOptions.getCategoryName().isBlank()) {
@@ -130,6 +135,10 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
         this.logger = logger;
     }
 
+    void setMirrorThreads(int mirrorThreads) {
+        this.mirrorThreads = mirrorThreads;
+    }
+
     private static SlicingOptions createSlicingOptions(MirrorOptions mirrorOptions) {
         SlicingOptions slicingOptions = new SlicingOptions();
         slicingOptions.considerStrictDependencyOnly(mirrorOptions.isFollowStrictOnly());
@@ -181,7 +190,8 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
             boolean includeAllSource, boolean includeRequiredBundles, boolean includeRequiredFeatures,
             boolean filterProvided, boolean addOnlyProvidingRepoReferences, Map<String, String> filterProperties)
             throws FacadeException {
-        final TychoMirrorApplication mirrorApp = createMirrorApplication(sources, destination, agent, logger);
+        final TychoMirrorApplication mirrorApp = createMirrorApplication(sources, destination, agent, logger,
+                mirrorThreads);
 
         // mirror scope: seed units...
         try {
@@ -210,7 +220,7 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
         } catch (ProvisionException e) {
             throw new FacadeException(MIRROR_FAILURE_MESSAGE + ": " + StatusTool.collectProblems(e.getStatus()), e);
         }
-        recreateArtifactRepository(destination);
+        recreateArtifactRepository(destination, mirrorApp.getUnchangedArtifacts());
     }
 
     private void xzCompress(DestinationRepositoryDescriptor destination) throws FacadeException {
@@ -229,6 +239,11 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
 
     @Override
     public void recreateArtifactRepository(DestinationRepositoryDescriptor destination) throws FacadeException {
+        recreateArtifactRepository(destination, Set.of());
+    }
+
+    private void recreateArtifactRepository(DestinationRepositoryDescriptor destination,
+            Set<IArtifactKey> unchangedArtifacts) throws FacadeException {
         // bug 357513 - force artifact repo recreation which will
         // create the missing md5 checksums
         if (destination.isMetaDataOnly()) {
@@ -246,6 +261,7 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
         descriptor.setLocation(location.toURI());
         RecreateRepositoryApplication application = new RecreateRepositoryApplication(agent);
         application.setArtifactRepository(descriptor.getRepoLocation());
+        application.setUnchangedArtifacts(unchangedArtifacts);
         try {
             application.run(new NullProgressMonitor());
         } catch (ProvisionException e) {
@@ -255,9 +271,11 @@ public class MirrorApplicationServiceImpl implements MirrorApplicationService {
     }
 
     private static TychoMirrorApplication createMirrorApplication(RepositoryReferences sources,
-            DestinationRepositoryDescriptor destination, IProvisioningAgent agent, Logger logger) {
+            DestinationRepositoryDescriptor destination, IProvisioningAgent agent, Logger logger,
+            int mirrorThreads) {
         final TychoMirrorApplication mirrorApp = new TychoMirrorApplication(agent, destination, logger);
         mirrorApp.setRaw(false);
+        mirrorApp.setParallelism(mirrorThreads);
 
         List<RepositoryDescriptor> sourceDescriptors = createSourceDescriptors(sources);
         for (RepositoryDescriptor sourceDescriptor : sourceDescriptors) {
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -55,6 +56,8 @@ import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.IRepository;
 import org.eclipse.equinox.p2.repository.IRepositoryManager;
 import org.eclipse.equinox.p2.repository.IRepositoryReference;
+import org.eclipse.equinox.p2.repository.artifact.ArtifactKeyQuery;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepositoryManager;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
@@ -72,6 +75,9 @@ public class TychoMirrorApplication extends org.eclipse.tycho.p2tools.copiedfrom
 
     private static final String SOURCE_SUFFIX = ".source";
     private static final String FEATURE_GROUP = ".feature.group";
+    private static final List<String> CHECKSUM_PROPERTIES = List.of(
+            IArtifactDescriptor.DOWNLOAD_CHECKSUM + ".sha-512", IArtifactDescriptor.DOWNLOAD_CHECKSUM + ".sha-256",
+            IArtifactDescriptor.DOWNLOAD_CHECKSUM + ".md5");
     private final DestinationRepositoryDescriptor destination;
     private boolean includeAllSource;
     private boolean includeRequiredBundles;
@@ -81,6 +87,7 @@ public class TychoMirrorApplication extends org.eclipse.tycho.p2tools.copiedfrom
     private TargetPlatform targetPlatform;
     private String categoryName;
     private Logger logger;
+    private final Set<IArtifactKey> unchangedArtifacts = new HashSet<>();
 
     public TychoMirrorApplication(IProvisioningAgent agent, DestinationRepositoryDescriptor destination,
             Logger logger) {
@@ -252,6 +259,10 @@ public class TychoMirrorApplication extends org.eclipse.tycho.p2tools.copiedfrom
     protected IMetadataRepository initializeDestination(RepositoryDescriptor toInit, IMetadataRepositoryManager mgr)
             throws ProvisionException {
         IMetadataRepository result = super.initializeDestination(toInit, mgr);
+        if (destination.isIncremental()) {
+            // references are added again as needed
+            result.removeReferences(result.getReferences());
+        }
         var refs = Stream.of(destination.getRepositoryReferences(), destination.getFilterableRepositoryReferences())
                 .flatMap(List::stream).flatMap(TychoMirrorApplication::toSpiRepositoryReferences).toList();
         result.addReferences(refs);
@@ -267,6 +278,77 @@ public class TychoMirrorApplication extends org.eclipse.tycho.p2tools.copiedfrom
         });
     }
 
+    @Override
+    protected void mirrorMetadata(Collection<IInstallableUnit> units, IProgressMonitor monitor)
+            throws ProvisionException {
+        if (destination.isIncremental()) {
+            // the metadata is always written as a whole, so simply replace it with the current units
+            destinationMetadataRepository.removeAll();
+        }
+        super.mirrorMetadata(units, monitor);
+    }
+
+    @Override
+    protected void prepareArtifactDestination(Collection<IArtifactKey> keys, IProgressMonitor monitor)
+            throws ProvisionException {
+        if (!destination.isIncremental()) {
+            return;
+        }
+        IArtifactRepository source = getCompositeArtifactRepository();
+        Set<IArtifactKey> mirrored = new HashSet<>(keys);
+        int removed = 0;
+        for (IArtifactKey key : destinationArtifactRepository.query(ArtifactKeyQuery.ALL_KEYS, monitor)
+                .toUnmodifiableSet()) {
+            if (mirrored.contains(key) && hasSameContent(source.getArtifactDescriptors(key),
+                    destinationArtifactRepository.getArtifactDescriptors(key))) {
+                unchangedArtifacts.add(key);
+            } else {
+                destinationArtifactRepository.removeDescriptor(key, monitor);
+                removed++;
+            }
+        }
+        logger.info("Reusing " + unchangedArtifacts.size() + " unchanged artifact(s), removed " + removed
+                + " stale or changed artifact(s) from the destination repository");
+    }
+
+    /**
+     * @return the artifacts that were already present in the destination with the same content
+     *         and therefore have not been mirrored again
+     */
+    public Set<IArtifactKey> getUnchangedArtifacts() {
+        return unchangedArtifacts;
+    }
+
+    private boolean hasSameContent(IArtifactDescriptor[] sourceDescriptors,
+            IArtifactDescriptor[] destinationDescriptors) {
+        if (sourceDescriptors.length == 0 || sourceDescriptors.length != destinationDescriptors.length) {
+            return false;
+        }
+        for (IArtifactDescriptor destinationDescriptor : destinationDescriptors) {
+            String format = destinationDescriptor.getProperty(IArtifactDescriptor.FORMAT);
+            IArtifactDescriptor sourceDescriptor = Stream.of(sourceDescriptors)
+                    .filter(d -> Objects.equals(format, d.getProperty(IArtifactDescriptor.FORMAT))).findFirst()
+                    .orElse(null);
+            if (sourceDescriptor == null || !hasSameChecksum(sourceDescriptor, destinationDescriptor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasSameChecksum(IArtifactDescriptor source, IArtifactDescriptor destination) {
+        for (String property : CHECKSUM_PROPERTIES) {
+            String sourceChecksum = source.getProperty(property);
+            String destinationChecksum = destination.getProperty(property);
+            if (sourceChecksum != null && destinationChecksum != null) {
+                return sourceChecksum.equals(destinationChecksum);
+            }
+        }
+        // without a common checksum the artifact is mirrored again to be safe
+        logger.debug("Mirroring " + destination + " again as the source and destination have no common checksum");
+        return false;
+    }
+
     @Override
     protected void finalizeRepositories() {
         IMetadataRepository repository = getDestinationMetadataRepository();
@@ -5,18 +5,24 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExecutableExtension;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.URIUtil;
@@ -35,6 +41,7 @@ import org.eclipse.equinox.p2.internal.repository.mirroring.FileMirrorLog;
 import org.eclipse.equinox.p2.internal.repository.mirroring.IArtifactMirrorLog;
 import org.eclipse.equinox.p2.internal.repository.mirroring.Mirroring;
 import org.eclipse.equinox.p2.internal.repository.mirroring.XMLMirrorLog;
+import org.eclipse.equinox.p2.internal.repository.tools.Activator;
 import org.eclipse.equinox.p2.internal.repository.tools.Messages;
 import org.eclipse.equinox.p2.internal.repository.tools.SlicingOptions;
 import org.eclipse.equinox.p2.metadata.IArtifactKey;
@@ -46,6 +53,7 @@ import org.eclipse.equinox.p2.query.IQuery;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.IQueryable;
 import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.artifact.ArtifactKeyQuery;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
 import org.eclipse.equinox.p2.repository.artifact.IArtifactRepository;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
@@ -56,6 +64,9 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
     private static final String DEFAULT_COMPARATOR = ArtifactChecksumComparator.COMPARATOR_ID + ".sha-256"; //$NON-NLS-1$
     private static final String LOG_ROOT = "p2.mirror"; //$NON-NLS-1$
     private static final String MIRROR_MODE = "metadataOrArtifacts"; //$NON-NLS-1$
+    private static final Comparator<IArtifactKey> ARTIFACT_KEY_ORDER = Comparator
+            .comparing(IArtifactKey::getClassifier).thenComparing(IArtifactKey::getId)
+            .thenComparing(IArtifactKey::getVersion);
 
     protected SlicingOptions slicingOptions = new SlicingOptions();
     protected Collection<TargetEnvironment> environments = new ArrayList<>();
@@ -72,6 +83,7 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
     private String metadataOrArtifacts = null;
     private String[] rootIUs = null;
     private boolean mirrorProperties = false;
+    private int parallelism = 1;
 
     private File mirrorLogFile; // file to log mirror output to (optional)
     private File comparatorLogFile; // file to comparator output to (optional)
@@ -221,6 +233,8 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
             IQueryable<IInstallableUnit> slice = slice(new NullProgressMonitor());
             Set<IInstallableUnit> units = collectUnits(slice, monitor);
             if (destinationArtifactRepository != null) {
+                // p2's executeBatch is synchronized on the repository, when mirroring in parallel the
+                // waiting thread has to release that monitor for the mirroring threads, see await()
                 destinationArtifactRepository.executeBatch(m -> {
                     try {
                         mirrorStatus.set(mirrorArtifacts(units, m));
@@ -257,9 +271,13 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
 
     private IStatus mirrorArtifacts(Collection<IInstallableUnit> slice, IProgressMonitor monitor)
             throws ProvisionException {
-        Mirroring mirror = getMirroring(slice, monitor);
-
-        IStatus result = mirror.run(failOnError, verbose);
+        IStatus result;
+        if (parallelism > 1 && !validate && comparatorLog == null) {
+            result = mirrorArtifactsParallel(slice, monitor);
+        } else {
+            Mirroring mirror = getMirroring(slice, monitor);
+            result = mirror.run(failOnError, verbose);
+        }
 
         if (mirrorLog != null)
             mirrorLog.log(result);
@@ -268,31 +286,137 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
         return result;
     }
 
+    /**
+     * Mirrors the artifacts in chunks that are processed concurrently by up to
+     * {@link #setParallelism(int) parallelism} threads. The keys are sorted and the status of the
+     * chunks is merged in that order, so the result does not depend on the timing of the threads.
+     */
+    private IStatus mirrorArtifactsParallel(Collection<IInstallableUnit> slice, IProgressMonitor monitor)
+            throws ProvisionException {
+        boolean iusSpecified = !slice.isEmpty(); // call before slice.iterator() to avoid bug 420318
+        IArtifactRepository sourceRepository = getCompositeArtifactRepository();
+        Collection<IArtifactKey> keys = iusSpecified ? collectArtifactKeys(slice, monitor)
+                : sourceRepository.query(ArtifactKeyQuery.ALL_KEYS, monitor).toUnmodifiableSet();
+        if (iusSpecified)
+            prepareArtifactDestination(keys, monitor);
+        List<IArtifactKey> sortedKeys = keys.stream().distinct().sorted(ARTIFACT_KEY_ORDER).toList();
+        IArtifactRepository baselineRepository = initializeBaseline();
+        // use more chunks than threads so that a few large artifacts do not hold up the others
+        int chunkSize = Math.max(1, sortedKeys.size() / (parallelism * 4));
+        MultiStatus status = new MultiStatus(Activator.ID, IStatus.OK, Messages.message_mirroringStatus, null);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        List<Future<IStatus>> chunks = new ArrayList<>();
+        try {
+            for (int i = 0; i < sortedKeys.size(); i += chunkSize) {
+                IArtifactKey[] chunk = sortedKeys.subList(i, Math.min(i + chunkSize, sortedKeys.size()))
+                        .toArray(IArtifactKey[]::new);
+                Mirroring mirror = createMirroring(sourceRepository, chunk, baselineRepository);
+                chunks.add(executor.submit(() -> mirror.run(failOnError, verbose)));
+            }
+            for (Future<IStatus> chunk : chunks) {
+                IStatus result = await(chunk);
+                status.merge(result);
+                if (failOnError && result.getSeverity() == IStatus.ERROR) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProvisionException(Status.CANCEL_STATUS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ProvisionException(new Status(IStatus.ERROR, Activator.ID, "Mirroring failed", e.getCause()));
+        } finally {
+            // nothing must be added to the repository after the batch is completed and the
+            // repository is saved, so also wait for the chunks still running after a failure
+            chunks.forEach(c -> c.cancel(false));
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+        return status;
+    }
+
+    /**
+     * Waits for the given chunk to complete. This is called inside the batch of the destination
+     * repository, which holds the monitor of the repository that the mirroring threads need to add
+     * their artifacts. Waiting on the repository releases that monitor while the chunk is
+     * processed, but keeps the batch open so the repository is still only saved once at the end.
+     */
+    private IStatus await(Future<IStatus> chunk) throws InterruptedException, ExecutionException {
+        synchronized (destinationArtifactRepository) {
+            while (!chunk.isDone()) {
+                destinationArtifactRepository.wait(100);
+            }
+        }
+        return chunk.get();
+    }
+
+    /**
+     * Waits until all chunks of the given executor are done, see {@link #await(Future)}.
+     */
+    private void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        synchronized (destinationArtifactRepository) {
+            while (!executor.isTerminated()) {
+                try {
+                    destinationArtifactRepository.wait(100);
+                } catch (InterruptedException e) {
+                    // the chunks are interrupted already, they must still be done before returning
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     protected Mirroring getMirroring(Collection<IInstallableUnit> ius, IProgressMonitor monitor)
             throws ProvisionException {
         // Obtain ArtifactKeys from IUs
         boolean iusSpecified = !ius.isEmpty(); // call before ius.iterator() to avoid bug 420318
         List<IArtifactKey> keys = collectArtifactKeys(ius, monitor);
+        if (iusSpecified)
+            prepareArtifactDestination(keys, monitor);
+
+        // If IUs have been specified then only they should be mirrored, otherwise
+        // mirror everything.
+        return createMirroring(getCompositeArtifactRepository(),
+                iusSpecified ? keys.toArray(new IArtifactKey[keys.size()]) : null, initializeBaseline());
+    }
 
-        Mirroring mirror = new Mirroring(getCompositeArtifactRepository(), destinationArtifactRepository, raw);
+    private Mirroring createMirroring(IArtifactRepository source, IArtifactKey[] keys,
+            IArtifactRepository baselineRepository) {
+        Mirroring mirror = new Mirroring(source, destinationArtifactRepository, raw);
         mirror.setCompare(compare);
         mirror.setComparatorId(comparatorID == null ? DEFAULT_COMPARATOR : comparatorID);
-        mirror.setBaseline(initializeBaseline());
+        mirror.setBaseline(baselineRepository);
         mirror.setValidate(validate);
         mirror.setCompareExclusions(compareExclusions);
         mirror.setTransport((Transport) agent.getService(Transport.SERVICE_NAME));
         mirror.setMirrorProperties(mirrorProperties);
 
-        // If IUs have been specified then only they should be mirrored, otherwise
-        // mirror everything.
-        if (iusSpecified)
-            mirror.setArtifactKeys(keys.toArray(new IArtifactKey[keys.size()]));
+        if (keys != null)
+            mirror.setArtifactKeys(keys);
 
         if (comparatorLog != null)
             mirror.setComparatorLog(comparatorLog);
         return mirror;
     }
 
+    /**
+     * Called with the artifacts that are about to be mirrored, before any of them is copied to the
+     * destination. Does nothing by default.
+     * 
+     * @param keys
+     *            the keys of the artifacts that are mirrored
+     */
+    protected void prepareArtifactDestination(Collection<IArtifactKey> keys, IProgressMonitor monitor)
+            throws ProvisionException {
+    }
+
     /**
      * Collect all artifacts from the IUs that should be mirrored
      * 
@@ -321,7 +445,7 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
         }
     }
 
-    private void mirrorMetadata(Collection<IInstallableUnit> units, IProgressMonitor monitor)
+    protected void mirrorMetadata(Collection<IInstallableUnit> units, IProgressMonitor monitor)
             throws ProvisionException {
         destinationMetadataRepository.addInstallableUnits(units);
         if (mirrorReferences)
@@ -576,4 +700,12 @@ public class MirrorApplication extends AbstractApplication implements IApplicati
     public void setMirrorProperties(boolean mirrorProperties) {
         this.mirrorProperties = mirrorProperties;
     }
+
+    /*
+     * Set the maximum number of artifacts that are mirrored concurrently, the default is 1. Artifacts
+     * are always mirrored one by one if the mirror should be validated or a comparator log is used.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
 }
@@ -53,6 +53,7 @@ public class RecreateRepositoryApplication extends AbstractApplication {
     boolean removeArtifactRepo = true;
     private Map<String, String> repoProperties = null;
     private Map<IArtifactKey, IArtifactDescriptor[]> repoMap = null;
+    private Set<IArtifactKey> unchangedArtifacts = Set.of();
 
     public RecreateRepositoryApplication(IProvisioningAgent agent) {
         super(agent);
@@ -81,6 +82,14 @@ public class RecreateRepositoryApplication extends AbstractApplication {
         this.repoLocation = repository;
     }
 
+    /**
+     * Set the artifacts whose files are known to match the size and checksums of their descriptors,
+     * these descriptors are kept as they are instead of computing the checksums again.
+     */
+    public void setUnchangedArtifacts(Set<IArtifactKey> unchangedArtifacts) {
+        this.unchangedArtifacts = unchangedArtifacts;
+    }
+
     private IArtifactRepository initialize(IProgressMonitor monitor) throws ProvisionException {
         IArtifactRepositoryManager repositoryManager = getArtifactRepositoryManager();
         removeArtifactRepo = !repositoryManager.contains(repoLocation);
@@ -131,6 +140,12 @@ public class RecreateRepositoryApplication extends AbstractApplication {
         repository.executeBatch(m -> {
             for (IArtifactKey key : repoMap.keySet()) {
                 IArtifactDescriptor[] descriptors = repoMap.get(key);
+                if (unchangedArtifacts.contains(key)) {
+                    for (IArtifactDescriptor descriptor : descriptors) {
+                        repository.addDescriptor(new ArtifactDescriptor(descriptor), null);
+                    }
+                    continue;
+                }
 
                 Set<File> files = new HashSet<>();
                 for (IArtifactDescriptor descriptor : descriptors) {
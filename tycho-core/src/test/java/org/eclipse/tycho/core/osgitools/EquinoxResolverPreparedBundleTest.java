@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.core.osgitools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.osgi.container.ModuleRevisionBuilder;
+import org.eclipse.osgi.container.ModuleRevisionBuilder.GenericInfo;
+import org.eclipse.tycho.core.osgitools.EquinoxResolver.BundleStamp;
+import org.eclipse.tycho.core.osgitools.EquinoxResolver.PreparedBundle;
+import org.eclipse.tycho.core.osgitools.EquinoxResolver.PreparedBundleKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.PackageNamespace;
+
+public class EquinoxResolverPreparedBundleTest {
+
+    private static final String BUNDLE_MANIFEST = """
+            Manifest-Version: 1.0
+            Bundle-ManifestVersion: 2
+            Bundle-SymbolicName: test.bundle
+            Bundle-Version: 1.0.0
+            Export-Package: test.api;uses:="test.spi",test.spi
+            Require-Capability: osgi.extender;filter:="(osgi.extender=osgi.component)"
+            """;
+
+    private static final String FRAMEWORK_MANIFEST = """
+            Manifest-Version: 1.0
+            Bundle-ManifestVersion: 2
+            Bundle-SymbolicName: test.framework
+            Bundle-Version: 1.0.0
+            Export-Package: org.osgi.framework
+            Require-Capability: osgi.ee;filter:="(osgi.ee=JavaSE)"
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testPrepareDoesNotModifyManifest() throws Exception {
+        OsgiManifest manifest = parse(BUNDLE_MANIFEST);
+
+        PreparedBundle prepared = EquinoxResolver.prepareBundle(manifest, new EquinoxResolverConfiguration());
+
+        assertNotNull(prepared.builder());
+        assertNull(prepared.headers().get(Constants.REQUIRE_CAPABILITY));
+        assertNotNull(manifest.getValue(Constants.REQUIRE_CAPABILITY));
+        assertFalse(hasUses(prepared.builder()));
+    }
+
+    @Test
+    public void testPrepareKeepsUsesIfConfigured() throws Exception {
+        EquinoxResolverConfiguration config = new EquinoxResolverConfiguration(new EquinoxResolverConfiguration(),
+                true);
+
+        PreparedBundle prepared = EquinoxResolver.prepareBundle(parse(BUNDLE_MANIFEST), config);
+
+        assertTrue(hasUses(prepared.builder()));
+    }
+
+    @Test
+    public void testPrepareFrameworkDoesNotModifyManifest() throws Exception {
+        OsgiManifest manifest = parse(FRAMEWORK_MANIFEST);
+
+        PreparedBundle prepared = EquinoxResolver.prepareBundle(manifest, new EquinoxResolverConfiguration());
+
+        assertNull(prepared.builder());
+        assertEquals("test.framework", prepared.headers().get(Constants.BUNDLE_SYMBOLICNAME));
+        assertNull(prepared.headers().get(Constants.REQUIRE_CAPABILITY));
+        assertNotNull(manifest.getValue(Constants.REQUIRE_CAPABILITY));
+    }
+
+    @Test
+    public void testDirectoryBundleIsStampedByManifest() throws Exception {
+        File bundle = Files.createDirectories(tempDir.resolve("bundle/META-INF")).getParent().toFile();
+        File manifest = new File(bundle, "META-INF/MANIFEST.MF");
+        Files.writeString(manifest.toPath(), BUNDLE_MANIFEST);
+        manifest.setLastModified(1_000_000_000L);
+        BundleStamp stamp = BundleStamp.of(bundle);
+
+        // changes to other files of the bundle do not matter
+        Files.writeString(bundle.toPath().resolve("plugin.xml"), "<plugin/>");
+        bundle.setLastModified(2_000_000_000L);
+        assertEquals(stamp, BundleStamp.of(bundle));
+
+        // but the manifest does, even if the folder timestamp stays the same
+        manifest.setLastModified(3_000_000_000L);
+        bundle.setLastModified(2_000_000_000L);
+        assertNotEquals(stamp, BundleStamp.of(bundle));
+    }
+
+    @Test
+    public void testKeyDependsOnConfiguration() throws Exception {
+        EquinoxResolverConfiguration config = new EquinoxResolverConfiguration();
+        File jar = Files.writeString(tempDir.resolve("bundle.jar"), "content").toFile();
+        PreparedBundleKey key = PreparedBundleKey.of(jar, config);
+
+        // a changed bundle replaces the entry of the previous version
+        jar.setLastModified(jar.lastModified() + 10_000);
+        assertEquals(key, PreparedBundleKey.of(jar, config));
+        assertNotEquals(PreparedBundleKey.of(jar, config),
+                PreparedBundleKey.of(jar, new EquinoxResolverConfiguration(config, !config.keepUses)));
+    }
+
+    private static boolean hasUses(ModuleRevisionBuilder builder) {
+        for (GenericInfo capability : builder.getCapabilities()) {
+            if (PackageNamespace.PACKAGE_NAMESPACE.equals(capability.getNamespace())
+                    && capability.getDirectives().containsKey(PackageNamespace.CAPABILITY_USES_DIRECTIVE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static OsgiManifest parse(String manifest) throws OsgiManifestParserException {
+        return OsgiManifest.parse(new ByteArrayInputStream(manifest.getBytes(StandardCharsets.UTF_8)), "test");
+    }
+
+}
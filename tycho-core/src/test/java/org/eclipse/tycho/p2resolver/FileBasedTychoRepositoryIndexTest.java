@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.IntStream;
+
+import org.eclipse.tycho.core.shared.MavenLogger;
+import org.eclipse.tycho.p2.repository.FileBasedTychoRepositoryIndex;
+import org.eclipse.tycho.p2.repository.GAV;
+import org.eclipse.tycho.p2.repository.TychoRepositoryIndex;
+import org.eclipse.tycho.test.util.MockMavenContext;
+import org.eclipse.tycho.test.util.NoopFileLockService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileBasedTychoRepositoryIndexTest {
+
+    @TempDir
+    File location;
+
+    @Test
+    public void testConcurrentAddAndSave() {
+        TychoRepositoryIndex index = createIndex();
+        IntStream.range(0, 200).parallel().forEach(i -> {
+            index.addGav(new GAV("group", "artifact" + i, "1.0.0"));
+            try {
+                index.save();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        assertEquals(200, createIndex().getProjectGAVs().size());
+    }
+
+    @Test
+    public void testChangesOfOtherInstancesAreKept() throws IOException {
+        GAV first = new GAV("group", "first", "1.0.0");
+        GAV second = new GAV("group", "second", "1.0.0");
+        TychoRepositoryIndex index1 = createIndex();
+        TychoRepositoryIndex index2 = createIndex();
+
+        index1.addGav(first);
+        index1.save();
+        index2.addGav(second);
+        index2.save();
+
+        assertTrue(index2.getProjectGAVs().contains(first));
+        assertTrue(createIndex().getProjectGAVs().contains(first));
+        assertTrue(createIndex().getProjectGAVs().contains(second));
+
+        index1.removeGav(first);
+        index1.save();
+        TychoRepositoryIndex reloaded = createIndex();
+        assertFalse(reloaded.getProjectGAVs().contains(first));
+        assertTrue(reloaded.getProjectGAVs().contains(second));
+    }
+
+    private TychoRepositoryIndex createIndex() {
+        return FileBasedTychoRepositoryIndex.createArtifactsIndex(location, new NoopFileLockService(),
+                new MockMavenContext(location, mock(MavenLogger.class)));
+    }
+}
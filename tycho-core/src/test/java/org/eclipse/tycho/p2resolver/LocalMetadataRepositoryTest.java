@@ -15,9 +15,13 @@ package org.eclipse.tycho.p2resolver;
 import static org.mockito.Mockito.mock;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.inject.Inject;
 
@@ -32,6 +36,7 @@ import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.equinox.p2.metadata.MetadataFactory;
 import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
 import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionedId;
 import org.eclipse.equinox.p2.query.IQueryResult;
 import org.eclipse.equinox.p2.query.QueryUtil;
 import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
@@ -40,6 +45,7 @@ import org.eclipse.tycho.core.shared.MavenLogger;
 import org.eclipse.tycho.p2.repository.FileBasedTychoRepositoryIndex;
 import org.eclipse.tycho.p2.repository.LocalMetadataRepository;
 import org.eclipse.tycho.p2.repository.LocalRepositoryReader;
+import org.eclipse.tycho.p2.repository.MetadataIO;
 import org.eclipse.tycho.p2.repository.RepositoryLayoutHelper;
 import org.eclipse.tycho.p2.repository.TychoRepositoryIndex;
 import org.eclipse.tycho.test.util.MockMavenContext;
@@ -82,6 +88,7 @@ public class LocalMetadataRepositoryTest {
         location.mkdirs();
         File metadataFile = new File(location, FileBasedTychoRepositoryIndex.METADATA_INDEX_RELPATH);
         metadataFile.delete();
+        new File(location, LocalMetadataRepository.UNITS_INDEX_RELPATH).delete();
         metadataFile.getParentFile().mkdirs();
         TychoRepositoryIndex metadataIndex = createMetadataIndex(location);
         return new LocalMetadataRepository(container.lookup(IProvisioningAgent.class), location.toURI(),
@@ -157,6 +164,108 @@ public class LocalMetadataRepositoryTest {
 
     }
 
+    @Test
+    public void testModifiedMetadataFileIsPreferredOverBinaryCopy() throws Exception {
+        File location = new File("target/binaryMetadataRepo");
+        deleteDir(location);
+        LocalMetadataRepository repository = createRepository(location);
+        IInstallableUnit iu = createUnit("test");
+        repository.addInstallableUnits(Arrays.asList(iu));
+        File binaryFile;
+        try (Stream<Path> files = Files.walk(location.toPath())) {
+            binaryFile = files.filter(path -> path.toString().endsWith(".xml.bin")).findFirst().orElseThrow()
+                    .toFile();
+        }
+        File xmlFile = new File(binaryFile.getParentFile(), binaryFile.getName().replace(".bin", ""));
+
+        // replace the metadata without touching the binary copy, even with an older timestamp
+        long lastModified = binaryFile.lastModified();
+        new MetadataIO().writeXML(Arrays.asList(createUnit("replaced")), xmlFile);
+        xmlFile.setLastModified(lastModified - 10_000);
+
+        repository = (LocalMetadataRepository) loadRepository(location);
+        Set<IInstallableUnit> units = repository.query(QueryUtil.ALL_UNITS, monitor).toUnmodifiableSet();
+        Assertions.assertEquals(1, units.size());
+        Assertions.assertEquals("replaced", units.iterator().next().getId());
+    }
+
+    @Test
+    public void testUnitsAreNotReadIfIndexIsCurrent() throws Exception {
+        File location = new File("target/unitsIndexRepo");
+        deleteDir(location);
+        LocalMetadataRepository repository = createRepository(location);
+        repository.addInstallableUnits(Arrays.asList(createUnit("test")));
+        // creates the units index
+        loadRepository(location);
+        File xmlFile = getMetadataFile(location);
+        Files.deleteIfExists(new File(xmlFile.getParentFile(), xmlFile.getName() + ".bin").toPath());
+
+        // make the metadata unreadable without changing its length or timestamp
+        long lastModified = xmlFile.lastModified();
+        Files.writeString(xmlFile.toPath(), "x".repeat((int) xmlFile.length()));
+        xmlFile.setLastModified(lastModified);
+
+        repository = (LocalMetadataRepository) loadRepository(location);
+        Assertions.assertEquals(Set.of(new VersionedId("test", "1.0.0")), repository.getUnitKeys());
+    }
+
+    @Test
+    public void testOutdatedUnitsIndex() throws Exception {
+        File location = new File("target/outdatedUnitsIndexRepo");
+        deleteDir(location);
+        LocalMetadataRepository repository = createRepository(location);
+        repository.addInstallableUnits(Arrays.asList(createUnit("test")));
+        // creates the units index
+        loadRepository(location);
+        File xmlFile = getMetadataFile(location);
+
+        long lastModified = xmlFile.lastModified();
+        new MetadataIO().writeXML(Arrays.asList(createUnit("replaced")), xmlFile);
+        xmlFile.setLastModified(lastModified + 10_000);
+
+        repository = (LocalMetadataRepository) loadRepository(location);
+        Assertions.assertEquals(Set.of(new VersionedId("replaced", "1.0.0")), repository.getUnitKeys());
+        Set<IInstallableUnit> units = repository.query(QueryUtil.ALL_UNITS, monitor).toUnmodifiableSet();
+        Assertions.assertEquals(1, units.size());
+        Assertions.assertEquals("replaced", units.iterator().next().getId());
+    }
+
+    @Test
+    public void testAddedUnitsAreQueriedWithExistingUnits() throws Exception {
+        File location = new File("target/addedUnitsRepo");
+        deleteDir(location);
+        LocalMetadataRepository repository = createRepository(location);
+        repository.addInstallableUnits(Arrays.asList(createUnit("test")));
+
+        repository = (LocalMetadataRepository) loadRepository(location);
+        IInstallableUnit added = createUnit("added");
+        repository.addInstallableUnit(added, RepositoryLayoutHelper.getGAV(added.getProperties()));
+
+        Assertions.assertEquals(Set.of(new VersionedId("test", "1.0.0"), new VersionedId("added", "1.0.0")),
+                repository.getUnitKeys());
+        Assertions.assertEquals(2, repository.query(QueryUtil.ALL_UNITS, monitor).toUnmodifiableSet().size());
+
+        repository.save();
+        repository = (LocalMetadataRepository) loadRepository(location);
+        Assertions.assertEquals(2, repository.query(QueryUtil.ALL_UNITS, monitor).toUnmodifiableSet().size());
+    }
+
+    private static File getMetadataFile(File location) throws IOException {
+        try (Stream<Path> files = Files.walk(location.toPath())) {
+            return files.filter(path -> path.toString().endsWith(".xml")).findFirst().orElseThrow().toFile();
+        }
+    }
+
+    private static IInstallableUnit createUnit(String id) {
+        InstallableUnitDescription iud = new MetadataFactory.InstallableUnitDescription();
+        iud.setId(id);
+        iud.setVersion(Version.parseVersion("1.0.0"));
+        iud.setProperty(TychoConstants.PROP_GROUP_ID, "group");
+        iud.setProperty(TychoConstants.PROP_ARTIFACT_ID, "artifact");
+        iud.setProperty(TychoConstants.PROP_VERSION, "version");
+        return MetadataFactory.createInstallableUnit(iud);
+    }
+
     private void deleteDir(File dir) {
         File[] files = dir.listFiles();
         if (files != null) {
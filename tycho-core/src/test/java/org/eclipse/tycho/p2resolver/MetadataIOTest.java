@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitFragment;
+import org.eclipse.equinox.p2.metadata.IInstallableUnitPatch;
+import org.eclipse.equinox.p2.metadata.ILicense;
+import org.eclipse.equinox.p2.metadata.IProvidedCapability;
+import org.eclipse.equinox.p2.metadata.IRequirement;
+import org.eclipse.equinox.p2.metadata.IRequirementChange;
+import org.eclipse.equinox.p2.metadata.IUpdateDescriptor;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitFragmentDescription;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitPatchDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.metadata.VersionRange;
+import org.eclipse.tycho.p2.repository.MetadataIO;
+import org.junit.jupiter.api.Test;
+
+public class MetadataIOTest {
+
+    private final MetadataIO io = new MetadataIO();
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        List<IInstallableUnit> units = createUnits(20);
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        io.writeBinary(units, binary);
+        Set<IInstallableUnit> read = io.readBinary(new ByteArrayInputStream(binary.toByteArray()));
+
+        assertEquals(units.size(), read.size());
+        var expected = units.iterator();
+        for (IInstallableUnit unit : read) {
+            assertUnitEquals(expected.next(), unit);
+        }
+    }
+
+    @Test
+    public void testBinaryMatchesXml() throws IOException {
+        List<IInstallableUnit> units = createUnits(5);
+
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        io.writeXML(units, xml);
+        Set<IInstallableUnit> fromXml = io.readXML(new ByteArrayInputStream(xml.toByteArray()));
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        io.writeBinary(fromXml, binary);
+        Set<IInstallableUnit> fromBinary = io.readBinary(new ByteArrayInputStream(binary.toByteArray()));
+
+        var expected = fromXml.iterator();
+        for (IInstallableUnit unit : fromBinary) {
+            assertUnitEquals(expected.next(), unit);
+        }
+    }
+
+    @Test
+    public void testFragmentRoundTrip() throws IOException {
+        InstallableUnitFragmentDescription iud = new InstallableUnitFragmentDescription();
+        iud.setId("fragment");
+        iud.setVersion(Version.create("1.0.0"));
+        iud.setRequirements(new IRequirement[] { MetadataFactory.createRequirement("java.package", "org.example",
+                VersionRange.emptyRange, null, false, false) });
+        iud.setHost(new IRequirement[] { MetadataFactory.createRequirement("osgi.bundle", "host",
+                new VersionRange("[1.0.0,2.0.0)"), null, false, false) });
+        IInstallableUnitFragment fragment = MetadataFactory.createInstallableUnitFragment(iud);
+
+        IInstallableUnit read = roundTrip(fragment);
+
+        assertUnitEquals(fragment, read);
+        // the host requirements are part of the requirements, but must not be duplicated
+        assertEquals(2, read.getRequirements().size());
+        assertEquals(new ArrayList<>(fragment.getHost()), new ArrayList<>(((IInstallableUnitFragment) read).getHost()));
+    }
+
+    @Test
+    public void testPatchRoundTrip() throws IOException {
+        InstallableUnitPatchDescription iud = new InstallableUnitPatchDescription();
+        iud.setId("patch");
+        iud.setVersion(Version.create("1.0.0"));
+        IRequirement oldRequirement = MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, "bundle",
+                new VersionRange("[1.0.0,1.0.0]"), null, false, false);
+        IRequirement newRequirement = MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, "bundle",
+                new VersionRange("[1.0.1,1.0.1]"), null, false, false);
+        IRequirement lifeCycle = MetadataFactory.createRequirement(IInstallableUnit.NAMESPACE_IU_ID, "feature",
+                VersionRange.emptyRange, null, false, false);
+        iud.setApplicabilityScope(new IRequirement[][] { { lifeCycle } });
+        iud.setRequirementChanges(new IRequirementChange[] {
+                MetadataFactory.createRequirementChange(oldRequirement, newRequirement),
+                MetadataFactory.createRequirementChange(null, newRequirement) });
+        iud.setLifeCycle(lifeCycle);
+        IInstallableUnitPatch patch = MetadataFactory.createInstallableUnitPatch(iud);
+
+        IInstallableUnitPatch read = (IInstallableUnitPatch) roundTrip(patch);
+
+        assertUnitEquals(patch, read);
+        assertEquals(patch.getRequirementsChange(), read.getRequirementsChange());
+        assertEquals(patch.getLifeCycle(), read.getLifeCycle());
+        assertArrayEquals(patch.getApplicabilityScope(), read.getApplicabilityScope());
+    }
+
+    @Test
+    public void testUpdateDescriptorLicensesAndCopyrightRoundTrip() throws IOException {
+        InstallableUnitDescription iud = new InstallableUnitDescription();
+        iud.setId("feature.feature.group");
+        iud.setVersion(Version.create("1.0.0"));
+        iud.setUpdateDescriptor(MetadataFactory.createUpdateDescriptor("feature.feature.group",
+                new VersionRange("[0.0.0,1.0.0)"), IUpdateDescriptor.HIGH, "update",
+                URI.create("https://example.org")));
+        iud.setLicenses(new ILicense[] { MetadataFactory.createLicense(URI.create("https://example.org/license"),
+                "License text"), MetadataFactory.createLicense(null, "Other license") });
+        iud.setCopyright(MetadataFactory.createCopyright(null, "Copyright text"));
+        IInstallableUnit unit = MetadataFactory.createInstallableUnit(iud);
+
+        IInstallableUnit read = roundTrip(unit);
+
+        assertUnitEquals(unit, read);
+        IUpdateDescriptor expected = unit.getUpdateDescriptor();
+        IUpdateDescriptor actual = read.getUpdateDescriptor();
+        assertEquals(new ArrayList<>(expected.getIUsBeingUpdated()), new ArrayList<>(actual.getIUsBeingUpdated()));
+        assertEquals(expected.getSeverity(), actual.getSeverity());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getLocation(), actual.getLocation());
+        assertEquals(new ArrayList<>(unit.getLicenses()), new ArrayList<>(read.getLicenses()));
+        assertEquals(unit.getCopyright().getBody(), read.getCopyright().getBody());
+        assertNull(read.getCopyright().getLocation());
+    }
+
+    @Test
+    public void testMetaRequirementsRoundTrip() throws IOException {
+        InstallableUnitDescription iud = new InstallableUnitDescription();
+        iud.setId("unit");
+        iud.setVersion(Version.create("1.0.0"));
+        iud.setMetaRequirements(new IRequirement[] { MetadataFactory.createRequirement(
+                IInstallableUnit.NAMESPACE_IU_ID, "org.eclipse.equinox.p2.touchpoint.eclipse",
+                VersionRange.emptyRange, null, false, false) });
+        IInstallableUnit unit = MetadataFactory.createInstallableUnit(iud);
+
+        IInstallableUnit read = roundTrip(unit);
+
+        assertUnitEquals(unit, read);
+        assertEquals(new ArrayList<>(unit.getMetaRequirements()), new ArrayList<>(read.getMetaRequirements()));
+    }
+
+    @Test
+    public void testInvalidBinary() {
+        assertThrows(IOException.class, () -> io.readBinary(new ByteArrayInputStream("<units/>".getBytes())));
+    }
+
+    private IInstallableUnit roundTrip(IInstallableUnit unit) throws IOException {
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        io.writeBinary(List.of(unit), binary);
+        Set<IInstallableUnit> read = io.readBinary(new ByteArrayInputStream(binary.toByteArray()));
+        assertEquals(1, read.size());
+        return read.iterator().next();
+    }
+
+    private static void assertUnitEquals(IInstallableUnit expected, IInstallableUnit actual) {
+        assertEquals(expected, actual);
+        assertEquals(expected.getProperties(), actual.getProperties());
+        assertEquals(new ArrayList<>(expected.getProvidedCapabilities()),
+                new ArrayList<>(actual.getProvidedCapabilities()));
+        assertEquals(new ArrayList<>(expected.getRequirements()), new ArrayList<>(actual.getRequirements()));
+        assertEquals(expected.getFilter(), actual.getFilter());
+        assertEquals(new ArrayList<>(expected.getArtifacts()), new ArrayList<>(actual.getArtifacts()));
+        assertEquals(expected.getTouchpointType(), actual.getTouchpointType());
+        assertEquals(new ArrayList<>(expected.getTouchpointData()), new ArrayList<>(actual.getTouchpointData()));
+        assertEquals(expected.isSingleton(), actual.isSingleton());
+    }
+
+    private static List<IInstallableUnit> createUnits(int count) {
+        List<IInstallableUnit> units = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Version version = Version.create("1.0." + i);
+            InstallableUnitDescription iud = new InstallableUnitDescription();
+            iud.setId("bundle" + i);
+            iud.setVersion(version);
+            iud.setSingleton(i % 2 == 0);
+            iud.setProperty("org.eclipse.equinox.p2.name", "Bundle " + i);
+            iud.setCapabilities(new IProvidedCapability[] {
+                    MetadataFactory.createProvidedCapability(IInstallableUnit.NAMESPACE_IU_ID, "bundle" + i, version),
+                    MetadataFactory.createProvidedCapability("osgi.service",
+                            Map.of("osgi.service", "service" + i, "objectClass", List.of("a.B", "c.D"), "version",
+                                    Version.emptyVersion)) });
+            iud.setRequirements(new IRequirement[] {
+                    MetadataFactory.createRequirement("java.package", "org.example",
+                            new VersionRange("[1.0.0,2.0.0)"), null, i % 3 == 0, false),
+                    MetadataFactory.createRequirement("osgi.ee", "(&(osgi.ee=JavaSE)(version=17))", null, 1, 1,
+                            true) });
+            iud.setFilter("(osgi.os=linux)");
+            iud.setArtifacts(new IArtifactKey[] { new ArtifactKey("osgi.bundle", "bundle" + i, version) });
+            iud.setTouchpointType(MetadataFactory.createTouchpointType("org.eclipse.equinox.p2.osgi",
+                    Version.create("1.0.0")));
+            iud.addTouchpointData(
+                    MetadataFactory.createTouchpointData(Map.of("manifest", "Bundle-SymbolicName: bundle" + i)));
+            iud.setCopyright(MetadataFactory.createCopyright(URI.create("https://example.org"), "Copyright"));
+            units.add(MetadataFactory.createInstallableUnit(iud));
+        }
+        return units;
+    }
+}
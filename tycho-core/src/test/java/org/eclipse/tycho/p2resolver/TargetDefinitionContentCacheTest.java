@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.p2resolver;
+
+import static org.eclipse.tycho.p2resolver.TargetDefinitionResolverTest.REFERENCED_BUNDLE_V1;
+import static org.eclipse.tycho.p2resolver.TargetDefinitionResolverTest.defaultEnvironments;
+import static org.eclipse.tycho.p2resolver.TargetDefinitionResolverTest.definitionWith;
+import static org.eclipse.tycho.p2resolver.TargetDefinitionResolverTest.versionedIdsOf;
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.apache.commons.io.FileUtils;
+import org.codehaus.plexus.PlexusContainer;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.tycho.core.resolver.shared.IncludeSourceMode;
+import org.eclipse.tycho.core.resolver.shared.ReferencedRepositoryMode;
+import org.eclipse.tycho.core.shared.MavenContext;
+import org.eclipse.tycho.core.test.utils.ResourceUtil;
+import org.eclipse.tycho.p2resolver.TargetDefinitionContentCache.CacheKey;
+import org.eclipse.tycho.p2resolver.TargetDefinitionResolverTest.UnitStub;
+import org.eclipse.tycho.targetplatform.TargetDefinition;
+import org.eclipse.tycho.targetplatform.TargetDefinition.IncludeMode;
+import org.eclipse.tycho.targetplatform.TargetDefinition.InstallableUnitLocation;
+import org.eclipse.tycho.targetplatform.TargetDefinition.Repository;
+import org.eclipse.tycho.targetplatform.TargetDefinition.Unit;
+import org.eclipse.tycho.targetplatform.TargetDefinitionContent;
+import org.eclipse.tycho.test.util.LogVerifier;
+import org.eclipse.tycho.test.util.MockMavenContext;
+import org.eclipse.tycho.test.util.TychoPlexusExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+
+@ExtendWith(TychoPlexusExtension.class)
+public class TargetDefinitionContentCacheTest {
+
+    @Inject
+    protected PlexusContainer container;
+
+    @RegisterExtension
+    public final LogVerifier logVerifier = new LogVerifier();
+
+    @TempDir
+    Path tempDir;
+
+    private IProvisioningAgent agent;
+
+    private TargetDefinitionResolver resolver;
+
+    private TargetDefinitionContentCache subject;
+
+    @BeforeEach
+    public void initContext() throws Exception {
+        MavenContext mavenContext = new MockMavenContext(newFolder("localRepo"), logVerifier.getLogger());
+        agent = container.lookup(IProvisioningAgent.class);
+        resolver = new TargetDefinitionResolver(defaultEnvironments(),
+                ExecutionEnvironmentTestUtils.NOOP_EE_RESOLUTION_HINTS, IncludeSourceMode.honor,
+                ReferencedRepositoryMode.include, mavenContext, null,
+                new DefaultTargetDefinitionVariableResolver(mavenContext, logVerifier.getLogger()));
+        subject = new TargetDefinitionContentCache(mavenContext);
+    }
+
+    @Test
+    public void testStoredContentIsReused() throws Exception {
+        File repository = copyRepository("simple");
+        TargetDefinition definition = definitionWith(new TempLocationStub(repository));
+
+        resolveAndStore(definition);
+
+        TargetDefinitionContent cached = subject.load(computeKey(definition), agent);
+        assertNotNull(cached);
+        assertThat(versionedIdsOf(cached), hasItem(REFERENCED_BUNDLE_V1));
+    }
+
+    @Test
+    public void testAddedP2IndexInvalidatesEntry() throws Exception {
+        File repository = copyRepository("simple");
+        TargetDefinition definition = definitionWith(new TempLocationStub(repository));
+        resolveAndStore(definition);
+
+        Files.writeString(new File(repository, "p2.index").toPath(), """
+                version=1
+                metadata.repository.factory.order=content.xml,\\!
+                artifact.repository.factory.order=artifacts.xml,\\!
+                """);
+
+        assertNull(subject.load(computeKey(definition), agent));
+    }
+
+    @Test
+    public void testChangedCompositeChildInvalidatesEntry() throws Exception {
+        File composite = newFolder("composite");
+        File child = copyRepository("composite/child");
+        Files.writeString(new File(composite, "compositeContent.xml").toPath(), """
+                <?xml version='1.0' encoding='UTF-8'?>
+                <?compositeMetadataRepository version='1.0.0'?>
+                <repository name='composite' type='org.eclipse.equinox.internal.p2.metadata.repository.CompositeMetadataRepository' version='1.0.0'>
+                  <properties size='1'>
+                    <property name='p2.atomic.composite.loading' value='true'/>
+                  </properties>
+                  <children size='1'>
+                    <child location='child'/>
+                  </children>
+                </repository>
+                """);
+        TargetDefinition definition = definitionWith(new TempLocationStub(composite));
+        resolveAndStore(definition);
+        assertNotNull(subject.load(computeKey(definition), agent));
+
+        File childIndex = new File(child, "content.xml");
+        childIndex.setLastModified(childIndex.lastModified() + 60_000);
+
+        assertNull(subject.load(computeKey(definition), agent));
+    }
+
+    private void resolveAndStore(TargetDefinition definition) {
+        TargetDefinitionContent content = resolver.resolveContent(definition, agent);
+        subject.store(computeKey(definition), content, agent);
+    }
+
+    private CacheKey computeKey(TargetDefinition definition) {
+        CacheKey key = subject.computeKey(definition, defaultEnvironments(),
+                ExecutionEnvironmentTestUtils.NOOP_EE_RESOLUTION_HINTS, IncludeSourceMode.honor,
+                ReferencedRepositoryMode.include, resolver::resolveRepositoryLocation, agent);
+        assertNotNull(key);
+        return key;
+    }
+
+    private File copyRepository(String path) throws IOException {
+        File repository = newFolder(path);
+        FileUtils.copyDirectory(ResourceUtil.resourceFile("targetresolver/v1_content"), repository);
+        return repository;
+    }
+
+    private File newFolder(String path) throws IOException {
+        return Files.createDirectories(tempDir.resolve(path)).toFile();
+    }
+
+    private static class TempLocationStub implements InstallableUnitLocation {
+
+        private final File repository;
+
+        TempLocationStub(File repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public List<? extends Repository> getRepositories() {
+            return Collections.singletonList(new Repository() {
+
+                @Override
+                public String getLocation() {
+                    return repository.toURI().toString();
+                }
+
+                @Override
+                public String getId() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public List<? extends Unit> getUnits() {
+            return Collections.singletonList(new UnitStub(REFERENCED_BUNDLE_V1));
+        }
+
+        @Override
+        public IncludeMode getIncludeMode() {
+            return IncludeMode.SLICER;
+        }
+
+        @Override
+        public boolean includeAllEnvironments() {
+            return false;
+        }
+
+        @Override
+        public boolean includeSource() {
+            return false;
+        }
+
+        @Override
+        public boolean includeConfigurePhase() {
+            return false;
+        }
+    }
+
+}
@@ -15,6 +15,7 @@ package org.eclipse.tycho.p2tools;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -57,6 +58,7 @@ import org.eclipse.tycho.test.util.ReactorProjectIdentitiesStub;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.io.TempDir;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -175,6 +177,39 @@ public class MirrorApplicationServiceTest {
         // logger may have warnings, which is okay because the mirror tool doesn't know the semantics of patches
     }
 
+    @Test
+    @Timeout(60)
+    public void testIncrementalMirrorRemovesStaleArtifacts() throws Exception {
+        // the artifacts are mirrored in parallel into the existing destination
+        subject.setMirrorThreads(4);
+        destinationRepo = new DestinationRepositoryDescriptor(newFolder("incremental"), DEFAULT_NAME, false, false,
+                false, false, true, true, Collections.emptyMap(), Collections.emptyList(), Collections.emptyList());
+        subject.mirrorReactor(sourceRepos("patch", "e342"), destinationRepo, seedFor(SIMPLE_FEATURE_IU), context, false,
+                false, false, false, false, false, null);
+        assertTrue(repoFile(destinationRepo, "plugins/org.eclipse.core.runtime_3.4.0.v20080512.jar").exists());
+        assertTrue(repoFile(destinationRepo, "features/" + SIMPLE_FEATURE + "_1.0.0.jar").exists());
+
+        subject.mirrorReactor(sourceRepos("patch", "e352"), destinationRepo, seedFor(FEATURE_PATCH_IU), context, false,
+                false, false, false, false, false, null);
+
+        assertTrue(repoFile(destinationRepo, "plugins/org.eclipse.core.runtime_3.5.0.v20090525.jar").exists());
+        assertTrue(repoFile(destinationRepo, "features/" + FEATURE_PATCH + "_1.0.0.jar").exists());
+        assertFalse(repoFile(destinationRepo, "plugins/org.eclipse.core.runtime_3.4.0.v20080512.jar").exists());
+        assertFalse(repoFile(destinationRepo, "features/" + SIMPLE_FEATURE + "_1.0.0.jar").exists());
+    }
+
+    @Test
+    @Timeout(60)
+    public void testMirrorInParallel() throws Exception {
+        subject.setMirrorThreads(4);
+        subject.mirrorReactor(sourceRepos("patch", "e352"), destinationRepo,
+                seedFor(SIMPLE_FEATURE_IU, FEATURE_PATCH_IU), context, false, false, false, false, false, false, null);
+
+        assertTrue(repoFile(destinationRepo, "plugins/org.eclipse.core.runtime_3.5.0.v20090525.jar").exists());
+        assertTrue(repoFile(destinationRepo, "features/" + SIMPLE_FEATURE + "_1.0.0.jar").exists());
+        assertTrue(repoFile(destinationRepo, "features/" + FEATURE_PATCH + "_1.0.0.jar").exists());
+    }
+
     @Test
     public void testMirrorWithMissingMandatoryContent() throws Exception {
         /*
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.p2.director;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A content-addressed pool of files that are shared between several product installations by
+ * means of hard links. Identical files of different installations (e.g. the platform independent
+ * bundles installed for each target environment) then only occupy the disk once, and the
+ * filesystem cache only needs to hold them once while the installations are archived.
+ * <p>
+ * As linked files share their content, they must not be modified in place afterwards. This is
+ * fine for the files installed by p2, which are only ever replaced as a whole.
+ * </p>
+ */
+class BundlePool {
+
+    private static final List<String> LINKED_FOLDERS = List.of("plugins", "features");
+
+    private final Path location;
+
+    private final AtomicLong linkedFiles = new AtomicLong();
+
+    private final AtomicLong linkedBytes = new AtomicLong();
+
+    private volatile boolean linksSupported = true;
+
+    /**
+     * @param location
+     *            the folder of the pool, must be on the same filesystem as the installations
+     */
+    BundlePool(Path location) {
+        this.location = location;
+    }
+
+    /**
+     * Replaces all files in the <code>plugins</code> and <code>features</code> folder of the given
+     * installation that have the same content as a file already in the pool by a hard link to the
+     * pool file, and adds all other files to the pool. This method can be called concurrently for
+     * different installations.
+     *
+     * @param installation
+     *            the root folder of a product installation
+     * @return <code>false</code> if the filesystem does not support hard links, in this case the
+     *         installation stays as it is
+     * @throws IOException
+     *             if reading or linking a file failed
+     */
+    boolean link(Path installation) throws IOException {
+        for (String folder : LINKED_FOLDERS) {
+            Path path = installation.resolve(folder);
+            if (!Files.isDirectory(path)) {
+                continue;
+            }
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(path)) {
+                files = stream.filter(Files::isRegularFile).toList();
+            }
+            for (Path file : files) {
+                if (!linksSupported) {
+                    return false;
+                }
+                linkFile(file);
+            }
+        }
+        return linksSupported;
+    }
+
+    private void linkFile(Path file) throws IOException {
+        String digest = digest(file);
+        Path pooled = location.resolve(digest.substring(0, 2)).resolve(digest.substring(2));
+        Files.createDirectories(pooled.getParent());
+        try {
+            Files.createLink(pooled, file);
+            // first file with this content, nothing to replace
+            return;
+        } catch (FileAlreadyExistsException e) {
+            // the content is already in the pool
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            linksSupported = false;
+            return;
+        }
+        if (Files.isSameFile(pooled, file)) {
+            return;
+        }
+        Path link = file.resolveSibling(file.getFileName() + ".link");
+        Files.deleteIfExists(link);
+        Files.createLink(link, pooled);
+        long size = Files.size(file);
+        Files.move(link, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        linkedFiles.incrementAndGet();
+        linkedBytes.addAndGet(size);
+    }
+
+    /**
+     * @return the number of installed files that were replaced by a link to the pool
+     */
+    long getLinkedFiles() {
+        return linkedFiles.get();
+    }
+
+    /**
+     * @return the total size of the installed files that were replaced by a link to the pool
+     */
+    long getLinkedBytes() {
+        return linkedBytes.get();
+    }
+
+    private static String digest(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+        try (InputStream stream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            stream.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+}
@@ -189,6 +189,22 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
     @Parameter(defaultValue = "false")
     private boolean deleteP2Cache;
 
+    /**
+     * Share identical files between the installations of the different target environments.
+     * <p>
+     * Most bundles and features of a product are platform independent and are therefore installed
+     * once for each environment. If enabled, each file in the <code>plugins</code> and
+     * <code>features</code> folder of an installation is added to a content-addressed pool in
+     * <code>target/products/.pool</code>, and files with the same content as a pooled file are
+     * replaced by a hard link to it. This reduces the disk space and I/O needed for the
+     * installations and the archives created from them. If the filesystem does not support hard
+     * links, the installations are left as they are. Products that are installed with a shared
+     * bundle pool by p2 already are not affected.
+     * </p>
+     */
+    @Parameter(defaultValue = "false")
+    private boolean linkIdenticalFiles;
+
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
         ProductConfig productConfig = getProductConfig();
@@ -199,6 +215,7 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
         }
         DirectorRuntime director = getDirectorRuntime();
         RepositoryReferences sources = getSourceRepositories();
+        BundlePool bundlePool = linkIdenticalFiles ? new BundlePool(getSharedBundlePoolDirectory().toPath()) : null;
         if (productRepository != null && !productRepository.isBlank()) {
             for (Product product : products) {
                 if (requiresJustJ(productConfig, product)) {
@@ -225,7 +242,7 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
                             String name = thread.getName();
                             try {
                                 thread.setName("materialize " + product.getId() + " " + env);
-                                buildProduct(director, sources, product, env);
+                                buildProduct(director, sources, bundlePool, product, env);
                                 return null;
                             } finally {
                                 thread.setName(name);
@@ -261,11 +278,15 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
             synchronized (LOCK) {
                 for (Product product : products) {
                     for (TargetEnvironment env : getEnvironments()) {
-                        buildProduct(director, sources, product, env);
+                        buildProduct(director, sources, bundlePool, product, env);
                     }
                 }
             }
         }
+        if (bundlePool != null && bundlePool.getLinkedFiles() > 0) {
+            getLog().info("Replaced " + bundlePool.getLinkedFiles() + " identical files ("
+                    + bundlePool.getLinkedBytes() / (1024 * 1024) + " MB) by links to the shared pool");
+        }
     }
 
     private boolean requiresJustJ(ProductConfig productConfig, Product product) {
@@ -285,8 +306,8 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
         return false;
     }
 
-    private void buildProduct(DirectorRuntime director, RepositoryReferences sources, Product product,
-            TargetEnvironment env) throws MojoFailureException {
+    private void buildProduct(DirectorRuntime director, RepositoryReferences sources, BundlePool bundlePool,
+            Product product, TargetEnvironment env) throws MojoFailureException {
         DirectorRuntime.Command command = director
                 .newInstallCommand(execution.getExecutionId() + " - " + product.getId() + " - " + env);
         command.setPhaseSet(
@@ -328,6 +349,9 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
             if (deleteP2Cache) {
                 deleteP2CacheDirectory(DirectorRuntime.getDestination(destination, env));
             }
+            if (bundlePool != null && getProductBundlePoolDirectory(product) == null) {
+                linkToBundlePool(bundlePool, DirectorRuntime.getDestination(destination, env));
+            }
         } catch (DirectorCommandException e) {
             IStatus status = StatusTool.findStatus(e);
             if (status != null) {
@@ -382,6 +406,21 @@ public final class MaterializeProductsMojo extends AbstractProductMojo {
                 .filter(profile -> ExecutionEnvironmentUtils.getVersion(profile) >= 11).toList();
     }
 
+    private File getSharedBundlePoolDirectory() {
+        return new File(getProductsBuildDirectory(), ".pool");
+    }
+
+    private void linkToBundlePool(BundlePool bundlePool, File destination) throws MojoFailureException {
+        try {
+            if (!bundlePool.link(destination.toPath())) {
+                getLog().warn("The filesystem does not support hard links, identical files of " + destination
+                        + " are not shared");
+            }
+        } catch (IOException e) {
+            throw new MojoFailureException("Linking identical files of " + destination + " failed", e);
+        }
+    }
+
     private void deleteP2CacheDirectory(File destination) {
         Path cacheDir = destination.toPath().resolve("p2/org.eclipse.equinox.p2.core/cache");
         if (Files.exists(cacheDir)) {
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.tar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A gzip output stream that compresses the data in fixed size blocks on multiple threads, like
+ * <a href="https://zlib.net/pigz/">pigz</a> does. Each block is deflated independently, using the
+ * last 32 KiB of the previous block as preset dictionary, and ends with a sync flush so the blocks
+ * can simply be concatenated into a single deflate stream. The result is a regular gzip file.
+ * <p>
+ * The compressed output only depends on the data, not on the number of threads or the timing, and
+ * the gzip header carries no timestamp, so the output is reproducible.
+ * </p>
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+    static final int BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+
+    private static final byte[] HEADER = { 0x1f, (byte) 0x8b, // magic
+            Deflater.DEFLATED, // compression method
+            0, // flags
+            0, 0, 0, 0, // modification time
+            0, // extra flags
+            (byte) 255 // unknown operating system
+    };
+
+    private final OutputStream out;
+    private final Executor executor;
+    private final int maxPendingBlocks;
+    private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+    private byte[] block = new byte[BLOCK_SIZE];
+    private int blockLength;
+    private byte[] dictionary;
+    private long size;
+    private boolean closed;
+
+    public ParallelGzipOutputStream(OutputStream out) throws IOException {
+        this(out, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    ParallelGzipOutputStream(OutputStream out, Executor executor, int parallelism) throws IOException {
+        this.out = out;
+        this.executor = executor;
+        this.maxPendingBlocks = Math.max(1, parallelism) * 2;
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        crc.update(b, off, len);
+        size += len;
+        while (len > 0) {
+            int n = Math.min(len, block.length - blockLength);
+            System.arraycopy(b, off, block, blockLength, n);
+            blockLength += n;
+            off += n;
+            len -= n;
+            if (blockLength == block.length) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            submitBlock(true);
+            while (!pending.isEmpty()) {
+                writeNextBlock();
+            }
+            writeIntLE((int) crc.getValue());
+            writeIntLE((int) size);
+            out.flush();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void submitBlock(boolean last) throws IOException {
+        byte[] data = block;
+        int length = blockLength;
+        byte[] dict = dictionary;
+        pending.add(CompletableFuture.supplyAsync(() -> deflate(data, length, dict, last), executor));
+        // all but the last block are full
+        dictionary = Arrays.copyOfRange(data, BLOCK_SIZE - DICTIONARY_SIZE, BLOCK_SIZE);
+        block = new byte[BLOCK_SIZE];
+        blockLength = 0;
+        while (pending.size() > maxPendingBlocks || (!pending.isEmpty() && pending.peek().isDone())) {
+            writeNextBlock();
+        }
+    }
+
+    private void writeNextBlock() throws IOException {
+        try {
+            out.write(pending.remove().join());
+        } catch (CompletionException e) {
+            throw new IOException("Compression failed", e.getCause());
+        }
+    }
+
+    private static byte[] deflate(byte[] data, int length, byte[] dictionary, boolean last) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            if (dictionary != null) {
+                deflater.setDictionary(dictionary);
+            }
+            deflater.setInput(data, 0, length);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    compressed.write(buffer, 0, deflater.deflate(buffer));
+                }
+            } else {
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeIntLE(int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+        out.write((value >>> 16) & 0xff);
+        out.write((value >>> 24) & 0xff);
+    }
+
+}
@@ -31,7 +31,6 @@ import java.util.List;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.archivers.tar.TarConstants;
-import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
 import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugin.logging.SystemStreamLog;
 
@@ -45,7 +44,8 @@ import org.apache.maven.plugin.logging.SystemStreamLog;
  * </ul>
  * 
  * in the archive as found in the filesystem for files to be archived. It uses GNU tar format
- * extensions for archive entries with path length > 100.
+ * extensions for archive entries with path length > 100. The archive is compressed on multiple
+ * threads using a {@link ParallelGzipOutputStream}.
  *
  */
 public class TarGzArchiver {
@@ -83,7 +83,7 @@ public class TarGzArchiver {
         validate();
         log.info("Building tar: " + destFile);
         destFile.getAbsoluteFile().getParentFile().mkdirs();
-        try (GzipCompressorOutputStream gzipStream = new GzipCompressorOutputStream(
+        try (ParallelGzipOutputStream gzipStream = new ParallelGzipOutputStream(
                 new BufferedOutputStream(new FileOutputStream(destFile)));
                 TarArchiveOutputStream tarStream = new TarArchiveOutputStream(gzipStream, "UTF-8");) {
 
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.p2.director;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BundlePoolTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIdenticalFilesAreLinked() throws IOException {
+        Path linux = createInstallation("linux", "native-linux");
+        Path win32 = createInstallation("win32", "native-win32");
+        BundlePool pool = new BundlePool(tempDir.resolve("pool"));
+
+        assertTrue(pool.link(linux));
+        assertTrue(pool.link(win32));
+
+        assertTrue(Files.isSameFile(linux.resolve("plugins/common.jar"), win32.resolve("plugins/common.jar")));
+        assertTrue(Files.isSameFile(linux.resolve("features/feature/feature.xml"),
+                win32.resolve("features/feature/feature.xml")));
+        assertFalse(Files.isSameFile(linux.resolve("plugins/native.jar"), win32.resolve("plugins/native.jar")));
+        assertFalse(Files.isSameFile(linux.resolve("config.ini"), win32.resolve("config.ini")));
+        assertEquals("native-win32", Files.readString(win32.resolve("plugins/native.jar")));
+        assertEquals(2, pool.getLinkedFiles());
+    }
+
+    @Test
+    public void testLinkingTwiceIsNoop() throws IOException {
+        Path linux = createInstallation("linux", "native-linux");
+        BundlePool pool = new BundlePool(tempDir.resolve("pool"));
+
+        assertTrue(pool.link(linux));
+        assertTrue(pool.link(linux));
+
+        assertEquals(0, pool.getLinkedFiles());
+        assertEquals("common", Files.readString(linux.resolve("plugins/common.jar")));
+    }
+
+    private Path createInstallation(String name, String nativeContent) throws IOException {
+        Path installation = tempDir.resolve(name);
+        Files.createDirectories(installation.resolve("plugins"));
+        Files.createDirectories(installation.resolve("features/feature"));
+        Files.writeString(installation.resolve("plugins/common.jar"), "common");
+        Files.writeString(installation.resolve("plugins/native.jar"), nativeContent);
+        Files.writeString(installation.resolve("features/feature/feature.xml"), "<feature/>");
+        Files.writeString(installation.resolve("config.ini"), "common");
+        return installation;
+    }
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.plugins.tar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelGzipOutputStreamTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        for (int size : new int[] { 0, 1, 1000, ParallelGzipOutputStream.BLOCK_SIZE,
+                3 * ParallelGzipOutputStream.BLOCK_SIZE + 17 }) {
+            byte[] data = createData(size);
+            byte[] compressed = compress(data, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertArrayEquals(data, in.readAllBytes(), "size " + size);
+            }
+        }
+    }
+
+    @Test
+    public void testOutputIndependentOfThreads() throws IOException {
+        byte[] data = createData(5 * ParallelGzipOutputStream.BLOCK_SIZE + 1);
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        ExecutorService multiple = Executors.newFixedThreadPool(4);
+        try {
+            assertArrayEquals(compress(data, single, 1), compress(data, multiple, 4));
+        } finally {
+            single.shutdown();
+            multiple.shutdown();
+        }
+    }
+
+    private static byte[] compress(byte[] data, Executor executor, int parallelism) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ParallelGzipOutputStream gzip = new ParallelGzipOutputStream(out, executor, parallelism)) {
+            // write in odd chunks to cross block boundaries
+            for (int offset = 0; offset < data.length; offset += 4099) {
+                gzip.write(data, offset, Math.min(4099, data.length - offset));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] createData(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            // mix compressible and random data
+            data[i] = (byte) (i % 1024 < 512 ? random.nextInt(4) : random.nextInt());
+        }
+        return data;
+    }
+
+}
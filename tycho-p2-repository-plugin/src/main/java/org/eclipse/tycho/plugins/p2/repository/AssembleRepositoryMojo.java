@@ -301,6 +301,16 @@ public class AssembleRepositoryMojo extends AbstractRepositoryMojo {
     @Parameter(defaultValue = "repository.xml")
     private String repositoryFileName;
 
+    /**
+     * Whether to update a repository left over from a previous build instead of adding to it. If
+     * enabled, artifacts of the existing repository that are still part of the repository and whose
+     * checksums match the source artifacts are kept as they are, all other artifacts are removed
+     * and mirrored again, and the metadata is replaced with the current content. This avoids copying
+     * and checksumming unchanged artifacts when building without <code>clean</code>.
+     */
+    @Parameter(property = "p2.repository.assemble.incremental", defaultValue = "false")
+    private boolean incremental;
+
     /**
      * Whether or not to skip assembling the repository. False by default.
      */
@@ -371,7 +381,7 @@ public class AssembleRepositoryMojo extends AbstractRepositoryMojo {
             }
             DestinationRepositoryDescriptor destinationRepoDescriptor = new DestinationRepositoryDescriptor(destination,
                     repositoryName, compress, xzCompress, keepNonXzIndexFiles, !createArtifactRepository, true,
-                    extraArtifactRepositoryProperties, repositoryReferences, autoRepositoryRefeferences);
+                    incremental, extraArtifactRepositoryProperties, repositoryReferences, autoRepositoryRefeferences);
             mirrorApp.mirrorReactor(sources, destinationRepoDescriptor, projectSeeds, getBuildContext(),
                     includeAllDependencies, includeAllSources, includeRequiredPlugins, includeRequiredFeatures,
                     filterProvided, repositoryReferenceFilter.addOnlyProviding, profileProperties);
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.packaging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.plexus.archiver.ArchiveEntry;
+import org.codehaus.plexus.archiver.Archiver;
+import org.codehaus.plexus.archiver.ArchiverException;
+import org.codehaus.plexus.archiver.ResourceIterator;
+import org.codehaus.plexus.components.io.resources.PlexusIoResource;
+
+/**
+ * The inputs of an archive, used to find out if the archive of a previous build can be reused as
+ * is. For each entry the name, type, mode and a digest of the content is recorded, together with a
+ * digest of all other settings that influence the archive (e.g. the manifest or the timestamp used
+ * for reproducible builds). The content of an entry is only read again if its size or last
+ * modification time has changed since the previous build.
+ */
+final class ArchiveInputs {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final String settingsDigest;
+
+	private final List<Entry> entries;
+
+	private long archiveLength = -1;
+
+	private long archiveLastModified = -1;
+
+	private ArchiveInputs(String settingsDigest, List<Entry> entries) {
+		this.settingsDigest = settingsDigest;
+		this.entries = entries;
+	}
+
+	/**
+	 * Computes the inputs of the given archiver.
+	 *
+	 * @param archiver
+	 *            the archiver with all resources added
+	 * @param settingsDigest
+	 *            the digest of all other settings of the archive, see {@link #digest(Collection)}
+	 * @param previous
+	 *            the inputs of the previous build whose digests are reused for unmodified files, or
+	 *            <code>null</code>
+	 * @return the inputs
+	 */
+	static ArchiveInputs compute(Archiver archiver, String settingsDigest, ArchiveInputs previous)
+			throws IOException, ArchiverException {
+		Map<String, Entry> known = new HashMap<>();
+		if (previous != null) {
+			for (Entry entry : previous.entries) {
+				known.putIfAbsent(entry.name(), entry);
+			}
+		}
+		List<Entry> entries = new ArrayList<>();
+		ResourceIterator resources = archiver.getResources();
+		while (resources.hasNext()) {
+			ArchiveEntry archiveEntry = resources.next();
+			PlexusIoResource resource = archiveEntry.getResource();
+			String name = archiveEntry.getName();
+			long size = resource.getSize();
+			long lastModified = resource.getLastModified();
+			String digest;
+			if (archiveEntry.getType() == ArchiveEntry.DIRECTORY) {
+				digest = "";
+			} else {
+				Entry entry = known.get(name);
+				if (entry != null && entry.size() == size && entry.lastModified() == lastModified
+						&& lastModified != PlexusIoResource.UNKNOWN_MODIFICATION_DATE) {
+					digest = entry.digest();
+				} else {
+					try (InputStream stream = resource.getContents()) {
+						digest = digest(stream);
+					}
+				}
+			}
+			entries.add(new Entry(name, archiveEntry.getType(), archiveEntry.getMode(), size, lastModified, digest));
+		}
+		return new ArchiveInputs(settingsDigest, entries);
+	}
+
+	/**
+	 * @param previous
+	 *            the inputs of the previous build, or <code>null</code>
+	 * @param archive
+	 *            the archive of the previous build
+	 * @return <code>true</code> if the archive exists, was not modified since the previous build
+	 *         and has the same inputs
+	 */
+	boolean isUpToDate(ArchiveInputs previous, File archive) {
+		if (previous == null || !archive.isFile() || previous.archiveLength != archive.length()
+				|| previous.archiveLastModified != archive.lastModified()
+				|| !settingsDigest.equals(previous.settingsDigest) || entries.size() != previous.entries.size()) {
+			return false;
+		}
+		for (int i = 0; i < entries.size(); i++) {
+			if (!entries.get(i).hasSameContent(previous.entries.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static ArchiveInputs read(File file) {
+		if (!file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return null;
+			}
+			String settingsDigest = in.readUTF();
+			long archiveLength = in.readLong();
+			long archiveLastModified = in.readLong();
+			int count = in.readInt();
+			List<Entry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				entries.add(new Entry(in.readUTF(), in.readInt(), in.readInt(), in.readLong(), in.readLong(),
+						in.readUTF()));
+			}
+			ArchiveInputs inputs = new ArchiveInputs(settingsDigest, entries);
+			inputs.archiveLength = archiveLength;
+			inputs.archiveLastModified = archiveLastModified;
+			return inputs;
+		} catch (IOException e) {
+			// unreadable state simply means the archive needs to be created again
+			return null;
+		}
+	}
+
+	/**
+	 * Writes these inputs together with the size and last modification time of the archive created
+	 * from them.
+	 */
+	void write(File file, File archive) throws IOException {
+		Path path = file.toPath();
+		Files.createDirectories(path.getParent());
+		Path tmp = Files.createTempFile(path.getParent(), file.getName(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(settingsDigest);
+				out.writeLong(archive.length());
+				out.writeLong(archive.lastModified());
+				out.writeInt(entries.size());
+				for (Entry entry : entries) {
+					out.writeUTF(entry.name());
+					out.writeInt(entry.type());
+					out.writeInt(entry.mode());
+					out.writeLong(entry.size());
+					out.writeLong(entry.lastModified());
+					out.writeUTF(entry.digest());
+				}
+			}
+			Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * @param settings
+	 *            the settings of an archive, files are included by the digest of their content
+	 * @return the digest of the given settings
+	 */
+	static String digest(Collection<?> settings) throws IOException {
+		MessageDigest digest = newDigest();
+		for (Object setting : settings) {
+			String value;
+			if (setting instanceof File file) {
+				value = file.isFile() ? file.getAbsolutePath() + "=" + digest(file) : file.getAbsolutePath();
+			} else {
+				value = String.valueOf(setting);
+			}
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	static String digest(File file) throws IOException {
+		try (InputStream stream = Files.newInputStream(file.toPath())) {
+			return digest(stream);
+		}
+	}
+
+	static String digest(InputStream stream) throws IOException {
+		MessageDigest digest = newDigest();
+		stream.transferTo(new OutputStream() {
+
+			@Override
+			public void write(int b) {
+				digest.update((byte) b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				digest.update(b, off, len);
+			}
+		});
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not supported", e);
+		}
+	}
+
+	private record Entry(String name, int type, int mode, long size, long lastModified, String digest) {
+
+		boolean hasSameContent(Entry other) {
+			return name.equals(other.name) && type == other.type && mode == other.mode && digest.equals(other.digest);
+		}
+	}
+
+}
@@ -15,14 +15,17 @@
 package org.eclipse.tycho.packaging;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -174,6 +177,21 @@ public class PackagePluginMojo extends AbstractTychoPackagingMojo {
 	@Parameter(defaultValue = "${project.build.outputTimestamp}")
 	private String outputTimestamp;
 
+	/**
+	 * If {@code true}, the inputs of the bundle jar and its nested jars (the name, content digest
+	 * and permissions of each entry, the manifest, the archive configuration and the
+	 * outputTimestamp) are recorded in the build directory, and a jar from a previous build is
+	 * reused as is if none of them has changed and the jar itself was not modified in the meantime.
+	 * <p>
+	 * Note that the manifest contains the expanded qualifier: with the default timestamp based
+	 * qualifier it changes on every build, so the jar is never reused unless the qualifier is
+	 * stable, e.g. set by <code>forceContextQualifier</code> or computed from the last commit by
+	 * the <code>jgit</code> timestamp provider.
+	 * </p>
+	 */
+	@Parameter(property = "tycho.packaging.incremental", defaultValue = "false")
+	private boolean incremental;
+
 	@Inject
 	private SourceReferenceComputer soureReferenceComputer;
 
@@ -231,16 +249,32 @@ public class PackagePluginMojo extends AbstractTychoPackagingMojo {
 				throw new IOException("creating output directory " + outputDirectory.getAbsolutePath() + " failed");
 			}
 			archiver.addDirectory(outputDirectory);
+			File manifest = null;
 			if (customManifest != null) {
 				for (File sourceFolder : jar.getSourceFolders()) {
 					File manifestFile = new File(sourceFolder, customManifest);
 					if (manifestFile.isFile()) {
 						archiver.setManifest(manifestFile);
+						manifest = manifestFile;
 						break;
 					}
 				}
 			}
+			ArchiveInputs inputs = null;
+			File stateFile = getStateFile(jarName);
+			if (incremental) {
+				ArchiveInputs previous = ArchiveInputs.read(stateFile);
+				inputs = ArchiveInputs.compute(archiver,
+						ArchiveInputs.digest(Arrays.asList(outputTimestamp, manifest)), previous);
+				if (inputs.isUpToDate(previous, jarFile)) {
+					getLog().info(jarName + " is up-to-date");
+					return jarFile;
+				}
+			}
 			archiver.createArchive();
+			if (inputs != null) {
+				inputs.write(stateFile, jarFile);
+			}
 			return jarFile;
 		} catch (Exception e) {
 			throw new MojoExecutionException("Could not create jar " + jarName, e);
@@ -256,9 +290,6 @@ public class PackagePluginMojo extends AbstractTychoPackagingMojo {
 			archiver.configureReproducibleBuild(outputTimestamp);
 
 			File pluginFile = new File(buildDirectory, finalName + ".jar");
-			if (pluginFile.exists()) {
-				pluginFile.delete();
-			}
 			BuildProperties buildProperties = pdeProject.getBuildProperties();
 			List<String> binIncludesList = buildProperties.getBinIncludes();
 			List<String> binExcludesList = buildProperties.getBinExcludes();
@@ -315,13 +346,44 @@ public class PackagePluginMojo extends AbstractTychoPackagingMojo {
 				getLog().warn("Ignoring unsupported archive 'forced = false' parameter");
 				archive.setForced(true);
 			}
+			ArchiveInputs inputs = null;
+			File stateFile = getStateFile(pluginFile.getName());
+			if (incremental) {
+				ArchiveInputs previous = ArchiveInputs.read(stateFile);
+				inputs = ArchiveInputs.compute(archiver.getArchiver(), getSettingsDigest(archiver, manifest), previous);
+				if (inputs.isUpToDate(previous, pluginFile)) {
+					getLog().info(pluginFile.getName() + " is up-to-date");
+					return pluginFile;
+				}
+			}
+			if (pluginFile.exists()) {
+				pluginFile.delete();
+			}
 			archiver.createArchive(session, mavenProject, archive);
+			if (inputs != null) {
+				inputs.write(stateFile, pluginFile);
+			}
 			return pluginFile;
 		} catch (IOException | ArchiverException | ManifestException | DependencyResolutionRequiredException e) {
 			throw new MojoExecutionException("Error assembling JAR", e);
 		}
 	}
 
+	private File getStateFile(String jarName) {
+		return new File(buildDirectory, "package-state/" + jarName + ".state");
+	}
+
+	private String getSettingsDigest(MavenArchiver archiver, File manifest)
+			throws IOException, ManifestException, DependencyResolutionRequiredException {
+		// the maven archiver merges its own headers and the configured manifest entries into the manifest
+		ByteArrayOutputStream archiverManifest = new ByteArrayOutputStream();
+		archiver.getManifest(session, project, archive).write(archiverManifest);
+		return ArchiveInputs.digest(Arrays.asList(outputTimestamp, manifest,
+				archiverManifest.toString(StandardCharsets.UTF_8), archive.isAddMavenDescriptor(),
+				archive.isCompress(), archive.isRecompressAddedZips(), archive.getPomPropertiesFile(),
+				project.getFile(), project.getGroupId(), project.getArtifactId(), project.getVersion()));
+	}
+
 	private void assertComponentExists(String component) throws MojoExecutionException {
 		File projectRelative = new File(project.getBasedir(), component);
 		if (projectRelative.isFile()) {
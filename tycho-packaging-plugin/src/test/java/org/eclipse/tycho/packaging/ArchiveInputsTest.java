@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Christoph Läubrich and others.
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *    Christoph Läubrich - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.tycho.packaging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.codehaus.plexus.archiver.zip.ZipArchiver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ArchiveInputsTest {
+
+	@TempDir
+	File tempDir;
+
+	private File content;
+
+	private File archive;
+
+	private File stateFile;
+
+	private String settings;
+
+	@BeforeEach
+	public void createPreviousBuild() throws Exception {
+		content = new File(tempDir, "content.txt");
+		Files.writeString(content.toPath(), "aaaa");
+		content.setLastModified(1_000_000_000L);
+		archive = new File(tempDir, "archive.jar");
+		Files.writeString(archive.toPath(), "archive");
+		stateFile = new File(tempDir, "state/archive.inputs");
+		settings = ArchiveInputs.digest(List.of("2026-01-01T00:00:00Z"));
+		ArchiveInputs.compute(createArchiver(), settings, null).write(stateFile, archive);
+	}
+
+	@Test
+	public void testUnchangedInputs() throws Exception {
+		ArchiveInputs previous = ArchiveInputs.read(stateFile);
+		assertNotNull(previous);
+
+		assertTrue(ArchiveInputs.compute(createArchiver(), settings, previous).isUpToDate(previous, archive));
+	}
+
+	@Test
+	public void testChangedContentWithSameSize() throws Exception {
+		Files.writeString(content.toPath(), "bbbb");
+		content.setLastModified(2_000_000_000L);
+		ArchiveInputs previous = ArchiveInputs.read(stateFile);
+
+		assertFalse(ArchiveInputs.compute(createArchiver(), settings, previous).isUpToDate(previous, archive));
+	}
+
+	@Test
+	public void testModifiedArchive() throws Exception {
+		archive.setLastModified(archive.lastModified() + 10_000);
+		ArchiveInputs previous = ArchiveInputs.read(stateFile);
+
+		assertFalse(ArchiveInputs.compute(createArchiver(), settings, previous).isUpToDate(previous, archive));
+	}
+
+	@Test
+	public void testChangedSettings() throws Exception {
+		String changedSettings = ArchiveInputs.digest(List.of("2026-01-02T00:00:00Z"));
+		ArchiveInputs previous = ArchiveInputs.read(stateFile);
+
+		assertFalse(
+				ArchiveInputs.compute(createArchiver(), changedSettings, previous).isUpToDate(previous, archive));
+	}
+
+	private ZipArchiver createArchiver() {
+		ZipArchiver archiver = new ZipArchiver();
+		archiver.addFile(content, "content.txt");
+		return archiver;
+	}
+
+}
@@ -269,6 +269,18 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
     @Parameter
     private String[] explodedBundles;
 
+    /**
+     * If set, bundles that must be expanded for the test runtime (see {@link #explodedBundles} and
+     * bundles with <code>Eclipse-BundleShape: dir</code>) are unpacked only once into this
+     * directory instead of into {@link #work} of each test execution. The unpacked bundles are
+     * keyed by their content, so all test bundles of a reactor (or of several builds) that use the
+     * same directory share them, while the configuration of each test runtime is still created in
+     * {@link #work}. The directory is never cleaned up by Tycho. Ignored if {@link #testRuntime} is
+     * <code>p2Installed</code>.
+     */
+    @Parameter(property = "tycho.surefire.sharedBundles")
+    private File sharedBundlesLocation;
+
     /**
      * List of framework extension bundles to add. Note: The goal does not automatically detect
      * which bundles in the test runtime are framework extensions, but they have to be explicitly
@@ -806,7 +818,7 @@ public abstract class AbstractEclipseTestMojo extends AbstractTestMojo {
         setupTestBundles(testFrameworkBundles, testRuntime, provider);
 
         getReportsDirectory().mkdirs();
-        return installationFactory.createInstallation(testRuntime, work);
+        return installationFactory.createInstallation(testRuntime, work, sharedBundlesLocation);
     }
 
     protected boolean useMetadataDirectory(ReactorProject otherProject) {